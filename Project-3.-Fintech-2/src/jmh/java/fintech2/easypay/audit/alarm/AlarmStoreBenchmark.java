@@ -0,0 +1,69 @@
+package fintech2.easypay.audit.alarm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 개수/목록 조회 경로 벤치마크 (사용자 10,000명 x 알림 50건)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class AlarmStoreBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int ALARMS_PER_USER = 50;
+    private static final AlarmType[] TYPES = {
+        AlarmType.BALANCE_CHANGE, AlarmType.LOGIN_SUCCESS, AlarmType.LARGE_TRANSACTION,
+        AlarmType.LOGIN_FAILURE, AlarmType.SYSTEM_ERROR
+    };
+
+    private AlarmStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new AlarmStore(ALARMS_PER_USER, USERS);
+        for (int user = 0; user < USERS; user++) {
+            String userId = String.valueOf(user);
+            for (int i = 0; i < ALARMS_PER_USER; i++) {
+                store.add(userId, TYPES[i % TYPES.length], "계좌 VA12345678의 잔액이 변경되었습니다. " + i);
+            }
+            // 절반은 읽음 처리된 상태
+            if (user % 2 == 0) {
+                store.markRead(userId);
+            }
+        }
+    }
+
+    @Benchmark
+    public int count() {
+        return store.unreadCount(randomUser());
+    }
+
+    @Benchmark
+    public List<Alarm> listAll() {
+        return store.list(randomUser(), null);
+    }
+
+    @Benchmark
+    public List<Alarm> listByCategory() {
+        return store.list(randomUser(), AlarmCategory.LOGIN);
+    }
+
+    private static String randomUser() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(USERS));
+    }
+}
@@ -0,0 +1,88 @@
+package fintech2.easypay.auth.filter;
+
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.auth.service.JwtService;
+import fintech2.easypay.auth.service.TokenRevocationCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 처리량 벤치마크 (인증된 요청 1건 = 필터 1회 통과)
+ * filter: 현재 필터 (파서 재사용, 요청당 서명 검증 1회)
+ * legacyVerification: 이전 방식의 토큰 검증 비용 (호출마다 키/파서 생성, 요청당 서명 검증 3회)
+ * 토큰에 사용자 ID/계좌번호가 담겨 있어 사용자 조회 없이 Claims만으로 인증한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final String PHONE_NUMBER = "01012345678";
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtService jwtService = new JwtService(SECRET, 86_400_000L);
+        UserPrincipal principal = UserPrincipal.builder()
+            .id(1L)
+            .phoneNumber(PHONE_NUMBER)
+            .accountNumber("VA12345678")
+            .build();
+        UserDetailsService userDetailsService = username -> principal;
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, new TokenRevocationCache(true, 86_400_000L));
+        token = jwtService.generateAccessToken(principal);
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts/balance");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public boolean legacyVerification() {
+        // 필터의 extractPhoneNumber + isTokenValid(extractUsername, isTokenExpired)
+        String subject = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(subject)
+            && legacyParse(token).getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+}
@@ -0,0 +1,47 @@
+package fintech2.easypay.auth.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증 처리량 벤치마크 (로그인 1건 = matches 1회)
+ * 스레드 1개로 측정하므로 결과 ops/s가 후보 인코더/비용별 코어당 초당 로그인 수이다.
+ * 코어 수를 곱해 로그인 SLO에 맞는 auth.password.encoder, bcrypt-strength를 고른다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "password123!";
+
+    @Param({"bcrypt:10", "bcrypt:11", "bcrypt:12", "bcrypt:13", "pbkdf2"})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = PasswordEncoders.candidate(encoder);
+        encoded = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean loginsPerCore() {
+        return passwordEncoder.matches(PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,85 @@
+package fintech2.easypay.fraud.rule;
+
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.fraud.velocity.VelocityEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이상거래 규칙 평가 지연 벤치마크 (거래당 1µs 미만 목표)
+ * rules: 컴파일된 규칙 7개만 평가, engine: 기본 규칙 파일로 속도 집계 조회 + 특성 벡터 구성 + 평가 (계좌 10,000개)
+ * 할당 확인: ./gradlew jmh -Pjmh.profilers=gc (gc.alloc.rate.norm이 0에 가까워야 함)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class FraudRuleEngineBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final String RULES = """
+        huge-outgoing: amount > 100000000 and type in (WITHDRAWAL, TRANSFER, PAYMENT) -> BLOCK
+        burst: count1m >= 30 and type in (WITHDRAWAL, TRANSFER, PAYMENT) -> BLOCK
+        mule: counterparties1h > 20 and amount1h > 50000000 -> BLOCK
+        suspicious-amount: amount > 1000000 -> FLAG
+        night-large-outgoing: hour < 5 and amount > 500000 and type in (WITHDRAWAL, TRANSFER, PAYMENT) -> FLAG
+        frequent: count5m > 5 and type != DEPOSIT -> FLAG
+        hourly-volume: count1h > 20 and amount1h > 10000000 -> FLAG
+        """;
+
+    private String[] accountNumbers;
+    private long[][] featureVectors;
+    private FraudRuleSet ruleSet;
+    private FraudRuleEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ruleSet = FraudRuleSet.compile(RULES);
+
+        VelocityEngine velocityEngine = new VelocityEngine(ACCOUNTS * 2);
+        engine = new FraudRuleEngine(new DefaultResourceLoader(), velocityEngine, "classpath:fraud-rules.conf");
+        engine.init();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        accountNumbers = new String[ACCOUNTS];
+        featureVectors = new long[ACCOUNTS][];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountNumbers[i] = String.format("VA%08d", i);
+            for (int t = random.nextInt(10); t > 0; t--) {
+                velocityEngine.record(accountNumbers[i], random.nextLong(100_000_000L), "VA" + random.nextInt(50), now);
+            }
+            long[] features = new long[TransactionFeatures.SIZE];
+            features[TransactionFeatures.AMOUNT] = random.nextLong(200_000_000L);
+            features[TransactionFeatures.TYPE] = random.nextInt(TYPES.length);
+            features[TransactionFeatures.HOUR] = random.nextInt(24);
+            velocityEngine.peek(accountNumbers[i], now, features, TransactionFeatures.COUNT_1M);
+            featureVectors[i] = features;
+        }
+    }
+
+    @Benchmark
+    public FraudDecision rules() {
+        return ruleSet.evaluate(featureVectors[ThreadLocalRandom.current().nextInt(ACCOUNTS)]);
+    }
+
+    @Benchmark
+    public FraudDecision engine() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return engine.evaluate(accountNumbers[random.nextInt(ACCOUNTS)], random.nextLong(200_000_000L),
+            TYPES[random.nextInt(TYPES.length)], System.currentTimeMillis());
+    }
+}
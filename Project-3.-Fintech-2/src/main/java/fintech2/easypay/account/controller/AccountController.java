@@ -1,20 +1,32 @@
 package fintech2.easypay.account.controller;
 
+import fintech2.easypay.account.dto.TransactionExportFormat;
+import fintech2.easypay.account.dto.TransactionSearchCondition;
 import fintech2.easypay.account.service.AccountService;
+import fintech2.easypay.account.service.TransactionExportService;
 import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.common.exception.AccountAccessDeniedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/accounts")
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final TransactionExportService transactionExportService;
 
     @GetMapping("/{accountNumber}/balance")
     public ResponseEntity<?> getBalance(@PathVariable String accountNumber, @RequestHeader("Authorization") String token) {
@@ -35,7 +47,57 @@ public class AccountController {
     }
 
     @GetMapping("/{accountNumber}/transactions")
-    public ResponseEntity<?> getTransactionHistory(@PathVariable String accountNumber, @RequestHeader("Authorization") String token) {
-        return accountService.getTransactionHistory(accountNumber);
+    public ResponseEntity<?> getTransactionHistory(@PathVariable String accountNumber,
+                                                 @ModelAttribute TransactionSearchCondition condition,
+                                                 @RequestHeader("Authorization") String token) {
+        return accountService.getTransactionHistory(accountNumber, condition);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 계좌 거래내역 내보내기 (NDJSON/CSV 스트리밍, Accept-Encoding: gzip 이면 압축 전송, 본인 계좌만)
+     */
+    @GetMapping("/{accountNumber}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable String accountNumber,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "NDJSON") TransactionExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (userPrincipal == null || !accountNumber.equals(userPrincipal.getAccountNumber())) {
+            throw new AccountAccessDeniedException("본인 계좌가 아닌 거래내역 내보내기 요청: " + accountNumber);
+        }
+        LocalDateTime exportFrom = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime exportTo = to != null ? to : LocalDateTime.now();
+        return streamExport(accountNumber, exportFrom, exportTo, format, acceptEncoding,
+            "transactions-" + accountNumber, userPrincipal.getId());
+    }
+
+    // 전체 계좌 일별 내보내기(대사용)는 API가 아닌 DailyTransactionExportJob이 파일로 생성
+
+    private ResponseEntity<StreamingResponseBody> streamExport(String accountNumber, LocalDateTime from, LocalDateTime to,
+                                                               TransactionExportFormat format, String acceptEncoding,
+                                                               String fileName, Long userId) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 기간이 올바르지 않습니다");
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            transactionExportService.export(accountNumber, from, to, format, target, userId);
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
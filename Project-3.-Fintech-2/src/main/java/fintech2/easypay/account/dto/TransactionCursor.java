@@ -0,0 +1,39 @@
+package fintech2.easypay.account.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 거래내역 keyset 커서 (마지막으로 반환한 행의 created_at, id)
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64URL 문자열로 전달
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long id) {
+
+    public static TransactionCursor of(TransactionResponse last) {
+        return new TransactionCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new TransactionCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package fintech2.easypay.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 거래내역 페이지 응답 (다음 페이지는 nextCursor로 요청)
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionPageResponse {
+    private final List<TransactionResponse> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
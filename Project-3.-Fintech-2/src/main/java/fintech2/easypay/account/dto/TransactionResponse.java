@@ -1,11 +1,14 @@
 package fintech2.easypay.account.dto;
 
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -18,4 +21,14 @@ public class TransactionResponse {
     private String status;
     private BigDecimal amount;
     private BigDecimal balanceAfter;
+
+    // 거래내역 조회용 필드
+    private Long id;
+    private String accountNumber;
+    private TransactionType transactionType;
+    private TransactionStatus transactionStatus;
+    private BigDecimal balanceBefore;
+    private String description;
+    private String referenceId;
+    private LocalDateTime createdAt;
 } 
\ No newline at end of file
@@ -0,0 +1,53 @@
+package fintech2.easypay.account.dto;
+
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래내역 조회 조건 (커서 기반 페이지네이션)
+ * 금액 범위는 부호와 무관하게 거래 금액의 절대값 기준
+ */
+@Data
+public class TransactionSearchCondition {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private String cursor;
+    private Integer size;
+    private List<TransactionType> types;
+    private TransactionStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from; // 포함
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to; // 미포함
+
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+
+    public int resolveSize() {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 건수는 1 ~ " + MAX_SIZE + " 사이여야 합니다");
+        }
+        return size;
+    }
+
+    public void validate() {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작일시는 종료일시보다 앞서야 합니다");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("최소 금액은 최대 금액보다 클 수 없습니다");
+        }
+    }
+}
@@ -4,21 +4,27 @@ import fintech2.easypay.common.TransactionStatus;
 import fintech2.easypay.common.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
-
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction_history")
+@Table(name = "transaction_history", indexes = {
+    // 계좌별 최신순 keyset 조회용 (account_number, created_at, id)
+    @Index(name = "idx_transaction_history_account_created", columnList = "account_number, created_at, id"),
+    // 전체 계좌 일별 내보내기용
+    @Index(name = "idx_transaction_history_created", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@IdClass(TransactionHistoryId.class)
 public class TransactionHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스(pooled-lo, 50개 단위 할당) 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_history_seq")
+    @SequenceGenerator(name = "transaction_history_seq", sequenceName = "transaction_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "account_number", nullable = false)
@@ -43,6 +49,15 @@ public class TransactionHistory {
     @Builder.Default
     private TransactionStatus status = TransactionStatus.COMPLETED;
 
-    @CreationTimestamp
+    // 월 파티션 키이자 PK 일부 (insert 시각, 키 값이므로 @CreationTimestamp 대신 persist 직전에 채움)
+    @Id
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
+
+    @PrePersist
+    void assignCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package fintech2.easypay.account.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 복합 키 (id, created_at)
+ * MySQL 월 파티션 키(created_at)가 PK에 포함되어야 하므로 DB PK와 같은 구성으로 매핑
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TransactionHistoryId implements Serializable {
+    private Long id;
+    private LocalDateTime createdAt;
+}
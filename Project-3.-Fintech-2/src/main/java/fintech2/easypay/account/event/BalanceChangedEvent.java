@@ -0,0 +1,21 @@
+package fintech2.easypay.account.event;
+
+import fintech2.easypay.common.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 변경 이벤트 (커밋 이후 알림/이상거래 감지용)
+ * @param amount 변경 금액 (입금 양수, 출금 음수)
+ * @param counterpartyAccountNumber 상대 계좌 (이체가 아니면 null)
+ * @param detectSuspicious 이상거래 감지 대상 여부 (이체 입금 측은 출금 측에서 감지하므로 제외)
+ */
+public record BalanceChangedEvent(String accountNumber, String userId, BigDecimal amount,
+                                  BigDecimal balanceAfter, TransactionType transactionType,
+                                  String counterpartyAccountNumber, boolean detectSuspicious) {
+
+    public BalanceChangedEvent(String accountNumber, String userId, BigDecimal amount,
+                               BigDecimal balanceAfter, TransactionType transactionType) {
+        this(accountNumber, userId, amount, balanceAfter, transactionType, null, true);
+    }
+}
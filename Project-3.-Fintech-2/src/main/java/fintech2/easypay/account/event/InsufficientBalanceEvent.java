@@ -0,0 +1,11 @@
+package fintech2.easypay.account.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 부족 이벤트 (트랜잭션이 롤백되어도 사용자에게 알림)
+ * @param amount 요청 금액 (양수)
+ */
+public record InsufficientBalanceEvent(String accountNumber, String userId, BigDecimal balance,
+                                       BigDecimal amount) {
+}
@@ -0,0 +1,36 @@
+package fintech2.easypay.account.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 계좌 락 대기 히스토그램 조회 엔드포인트
+ * GET /actuator/accountlocks?limit=20
+ * 핫 계좌번호와 락 대기 정보를 담고 있으므로 서비스 포트와 분리된 관리 포트(management.server.port)에서만 등록한다.
+ */
+@Component
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+@Endpoint(id = "accountlocks")
+@RequiredArgsConstructor
+public class AccountLockEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final AccountLockManager accountLockManager;
+
+    @ReadOperation
+    public Map<String, Object> lockWaits(@Nullable Integer limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("total", accountLockManager.totalWaitSnapshot());
+        response.put("hotAccounts", accountLockManager.hotAccounts(limit != null ? limit : DEFAULT_LIMIT));
+        return response;
+    }
+}
@@ -0,0 +1,37 @@
+package fintech2.easypay.account.lock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 획득한 계좌 락 핸들
+ * 락을 잡은 스레드에서 한 번만 해제해야 한다.
+ */
+public interface AccountLockHandle extends AutoCloseable {
+
+    AccountLockHandle NOOP = () -> { };
+
+    void release();
+
+    @Override
+    default void close() {
+        release();
+    }
+
+    /**
+     * 현재 스레드에 진행 중인 트랜잭션이 있으면 커밋/롤백 이후에 해제하고, 없으면 즉시 해제
+     * 바깥 트랜잭션이 DB 행 락을 들고 있는 동안 다음 대기자가 DB에서 다시 기다리지 않도록 하기 위함
+     */
+    default void releaseAtTransactionEnd() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package fintech2.easypay.account.lock;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계좌 단위 JVM 내 락 관리자
+ * DB 행 락(PESSIMISTIC_WRITE)에 앞서 동일 계좌에 대한 요청을 JVM 안에서 줄 세워,
+ * 계좌당 하나의 트랜잭션만 DB 행 락을 기다리도록 한다.
+ */
+public interface AccountLockManager {
+
+    /**
+     * 단일 계좌 락 획득
+     * @throws fintech2.easypay.common.exception.AccountLockTimeoutException 대기 시간 초과 시
+     */
+    AccountLockHandle lock(String accountNumber);
+
+    /**
+     * 여러 계좌 락을 정해진 순서로 획득 (데드락 방지)
+     * @throws fintech2.easypay.common.exception.AccountLockTimeoutException 대기 시간 초과 시
+     */
+    AccountLockHandle lockAll(Collection<String> accountNumbers);
+
+    /**
+     * 전체 락 대기 히스토그램
+     */
+    LockWaitHistogram.Snapshot totalWaitSnapshot();
+
+    /**
+     * 락 대기 시간이 긴 순서대로 계좌별 히스토그램 조회 (핫 계좌 파악용)
+     */
+    List<LockWaitHistogram.Snapshot> hotAccounts(int limit);
+}
@@ -0,0 +1,78 @@
+package fintech2.easypay.account.lock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 대기 시간 히스토그램 (고정 버킷, lock-free)
+ */
+public class LockWaitHistogram {
+
+    /** 버킷 상한 (마이크로초) - 마지막 버킷은 그 이상 전부 */
+    private static final long[] BUCKET_UPPER_BOUNDS_MICROS = {
+        100, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000, 5_000_000
+    };
+
+    private static final String[] BUCKET_LABELS = {
+        "le_100us", "le_1ms", "le_5ms", "le_10ms", "le_50ms", "le_100ms", "le_500ms", "le_1s", "le_5s", "gt_5s"
+    };
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_LABELS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder timeouts = new LongAdder();
+
+    public LockWaitHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long waitNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(waitNanos);
+        int index = BUCKET_UPPER_BOUNDS_MICROS.length;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+            if (micros <= BUCKET_UPPER_BOUNDS_MICROS[i]) {
+                index = i;
+                break;
+            }
+        }
+        buckets[index].increment();
+        count.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    public void recordTimeout(long waitNanos) {
+        timeouts.increment();
+        record(waitNanos);
+    }
+
+    public long totalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public Snapshot snapshot() {
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            bucketCounts.put(BUCKET_LABELS[i], buckets[i].sum());
+        }
+        return new Snapshot(name, count.sum(), timeouts.sum(),
+            TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum()),
+            TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+            bucketCounts);
+    }
+
+    /**
+     * 히스토그램 조회 결과 (불변)
+     */
+    public record Snapshot(String name, long count, long timeouts, long totalWaitMicros, long maxWaitMicros,
+                           Map<String, Long> buckets) {
+    }
+}
@@ -0,0 +1,38 @@
+package fintech2.easypay.account.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JVM 락을 사용하지 않는 관리자 (DB 행 락만 사용하던 기존 동작)
+ * account.lock.manager=none 으로 활성화
+ */
+@Component
+@ConditionalOnProperty(name = "account.lock.manager", havingValue = "none")
+public class NoOpAccountLockManager implements AccountLockManager {
+
+    private final LockWaitHistogram totalWait = new LockWaitHistogram("ALL");
+
+    @Override
+    public AccountLockHandle lock(String accountNumber) {
+        return AccountLockHandle.NOOP;
+    }
+
+    @Override
+    public AccountLockHandle lockAll(Collection<String> accountNumbers) {
+        return AccountLockHandle.NOOP;
+    }
+
+    @Override
+    public LockWaitHistogram.Snapshot totalWaitSnapshot() {
+        return totalWait.snapshot();
+    }
+
+    @Override
+    public List<LockWaitHistogram.Snapshot> hotAccounts(int limit) {
+        return List.of();
+    }
+}
@@ -0,0 +1,163 @@
+package fintech2.easypay.account.lock;
+
+import fintech2.easypay.common.exception.AccountLockTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌번호 해시 기반 스트라이프 락 관리자
+ * 고정 개수의 ReentrantLock 테이블을 사용하므로 계좌 수와 무관하게 메모리가 일정하다.
+ * 서로 다른 계좌가 같은 스트라이프에 매핑될 수 있으며, 이 경우 불필요한 대기가 생길 수 있으므로
+ * 스트라이프 수는 동시 처리량에 맞게 넉넉히 잡는다.
+ */
+@Component
+@ConditionalOnProperty(name = "account.lock.manager", havingValue = "striped", matchIfMissing = true)
+@Slf4j
+public class StripedAccountLockManager implements AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long waitTimeoutNanos;
+    private final int maxTrackedAccounts;
+
+    private final LockWaitHistogram totalWait = new LockWaitHistogram("ALL");
+    // 경합이 발생한 계좌만 추적 (상한 초과 시 신규 계좌는 전체 히스토그램에만 반영)
+    private final Map<String, LockWaitHistogram> accountWaits = new ConcurrentHashMap<>();
+
+    public StripedAccountLockManager(
+            @Value("${account.lock.stripes:1024}") int stripeCount,
+            @Value("${account.lock.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${account.lock.fair:true}") boolean fair,
+            @Value("${account.lock.max-tracked-accounts:10000}") int maxTrackedAccounts) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("스트라이프 수는 0보다 커야 합니다: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(fair);
+        }
+        this.mask = size - 1;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        this.maxTrackedAccounts = maxTrackedAccounts;
+        log.info("계좌 락 관리자 초기화 - 스트라이프: {}, 대기 타임아웃: {}ms", size, waitTimeoutMs);
+    }
+
+    @Override
+    public AccountLockHandle lock(String accountNumber) {
+        ReentrantLock lock = stripes[stripeIndex(accountNumber)];
+        acquire(lock, List.of(accountNumber), waitTimeoutNanos);
+        return lock::unlock;
+    }
+
+    @Override
+    public AccountLockHandle lockAll(Collection<String> accountNumbers) {
+        // 스트라이프 인덱스 오름차순으로 획득하여 스레드 간 락 순서를 고정 (데드락 방지)
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (String accountNumber : accountNumbers) {
+            indexes.add(stripeIndex(accountNumber));
+        }
+
+        ReentrantLock[] acquired = new ReentrantLock[indexes.size()];
+        int count = 0;
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                acquire(lock, accountNumbers, Math.max(0L, deadline - System.nanoTime()));
+                acquired[count++] = lock;
+            }
+        } catch (RuntimeException e) {
+            unlockAll(acquired, count);
+            throw e;
+        }
+
+        final int acquiredCount = count;
+        return () -> unlockAll(acquired, acquiredCount);
+    }
+
+    @Override
+    public LockWaitHistogram.Snapshot totalWaitSnapshot() {
+        return totalWait.snapshot();
+    }
+
+    @Override
+    public List<LockWaitHistogram.Snapshot> hotAccounts(int limit) {
+        return accountWaits.values().stream()
+            .sorted(Comparator.comparingLong(LockWaitHistogram::totalWaitNanos).reversed())
+            .limit(limit)
+            .map(LockWaitHistogram::snapshot)
+            .toList();
+    }
+
+    private void acquire(ReentrantLock lock, Collection<String> accountNumbers, long timeoutNanos) {
+        // 경합 없는 경우 대기 시간 측정 없이 바로 획득
+        if (lock.tryLock()) {
+            totalWait.record(0L);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean locked;
+        try {
+            locked = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountLockTimeoutException("계좌 락 대기 중 인터럽트가 발생했습니다: " + accountNumbers, e);
+        }
+        long waited = System.nanoTime() - start;
+
+        if (!locked) {
+            totalWait.recordTimeout(waited);
+            for (String accountNumber : accountNumbers) {
+                LockWaitHistogram accountWait = accountHistogram(accountNumber);
+                if (accountWait != null) {
+                    accountWait.recordTimeout(waited);
+                }
+            }
+            log.warn("계좌 락 대기 시간 초과 - 계좌: {}, 대기: {}ms", accountNumbers, TimeUnit.NANOSECONDS.toMillis(waited));
+            throw new AccountLockTimeoutException("계좌에 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요: " + accountNumbers);
+        }
+
+        totalWait.record(waited);
+        for (String accountNumber : accountNumbers) {
+            LockWaitHistogram accountWait = accountHistogram(accountNumber);
+            if (accountWait != null) {
+                accountWait.record(waited);
+            }
+        }
+    }
+
+    private LockWaitHistogram accountHistogram(String accountNumber) {
+        LockWaitHistogram histogram = accountWaits.get(accountNumber);
+        if (histogram != null || accountWaits.size() >= maxTrackedAccounts) {
+            return histogram;
+        }
+        return accountWaits.computeIfAbsent(accountNumber, LockWaitHistogram::new);
+    }
+
+    private int stripeIndex(String accountNumber) {
+        int h = accountNumber.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static void unlockAll(ReentrantLock[] locks, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+}
@@ -7,9 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface AccountBalanceRepository extends JpaRepository<AccountBalance, String> {
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, String>, AccountBalanceUpdateRepository {
     
     /**
      * Pessimistic Lock을 사용한 계좌 조회
@@ -19,6 +22,20 @@ public interface AccountBalanceRepository extends JpaRepository<AccountBalance,
     @Query("SELECT ab FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
     Optional<AccountBalance> findByIdWithLock(@Param("accountNumber") String accountNumber);
     
+    /**
+     * 여러 계좌를 계좌번호 순서로 한 번에 잠금 (SELECT ... FOR UPDATE ORDER BY)
+     * 이체처럼 두 계좌를 동시에 변경할 때 락 획득 순서를 고정하여 데드락 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ab FROM AccountBalance ab WHERE ab.accountNumber IN :accountNumbers ORDER BY ab.accountNumber")
+    List<AccountBalance> findAllByIdWithLockOrdered(@Param("accountNumbers") Collection<String> accountNumbers);
+    
+    /**
+     * 잔액만 조회 (엔티티 로딩 없이)
+     */
+    @Query("SELECT ab.balance FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
+    Optional<BigDecimal> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+    
     /**
      * Optimistic Lock을 사용한 계좌 조회 (기본 findById 사용)
      * @Version 필드가 자동으로 처리됨
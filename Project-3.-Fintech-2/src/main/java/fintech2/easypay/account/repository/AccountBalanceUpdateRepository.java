@@ -0,0 +1,18 @@
+package fintech2.easypay.account.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * 잔액 조건부 갱신 (JDBC 커스텀 쿼리)
+ */
+public interface AccountBalanceUpdateRepository {
+
+    /**
+     * 조건부 원자적 잔액 변경 (UPDATE ... WHERE balance + delta >= 0)
+     * 잔액 검증과 갱신을 한 문장으로 처리하여 조회-검증-저장 왕복과 SELECT FOR UPDATE를 제거한다.
+     * 갱신된 잔액은 H2에서는 같은 문장으로, 그 외 DB에서는 같은 트랜잭션의 후속 SELECT로 읽는다 (호출자 트랜잭션 안에서 호출해야 함).
+     * @return 갱신된 잔액 (계좌 없음 또는 잔액 부족이면 empty)
+     */
+    Optional<BigDecimal> addAndGetBalance(String accountNumber, BigDecimal delta);
+}
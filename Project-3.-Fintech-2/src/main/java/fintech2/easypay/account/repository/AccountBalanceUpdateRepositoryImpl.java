@@ -0,0 +1,58 @@
+package fintech2.easypay.account.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Optional;
+
+public class AccountBalanceUpdateRepositoryImpl implements AccountBalanceUpdateRepository {
+
+    // H2: 데이터 변경 델타 테이블로 UPDATE 결과 행을 같은 문장에서 반환
+    private static final String H2_UPDATE_RETURNING =
+        "SELECT balance FROM FINAL TABLE (" +
+        "UPDATE account_balances SET balance = balance + ?, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE account_number = ? AND balance + ? >= 0)";
+
+    // MySQL 등 RETURNING이 없는 DB: 갱신 행 수로 성공 여부를 판단하고, 같은 트랜잭션에서 갱신된 잔액을 다시 읽는다
+    // (UPDATE가 잡은 행 락이 커밋까지 유지되므로 SELECT는 자신이 쓴 값을 그대로 본다)
+    private static final String GUARDED_UPDATE =
+        "UPDATE account_balances SET balance = balance + ?, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE account_number = ? AND balance + ? >= 0";
+
+    private static final String SELECT_BALANCE =
+        "SELECT balance FROM account_balances WHERE account_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean updateReturning;
+
+    public AccountBalanceUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) throws MetaDataAccessException {
+        this(jdbcTemplate, "H2".equalsIgnoreCase(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+            DatabaseMetaData::getDatabaseProductName)));
+    }
+
+    AccountBalanceUpdateRepositoryImpl(JdbcTemplate jdbcTemplate, boolean updateReturning) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateReturning = updateReturning;
+    }
+
+    @Override
+    public Optional<BigDecimal> addAndGetBalance(String accountNumber, BigDecimal delta) {
+        if (updateReturning) {
+            List<BigDecimal> updated = jdbcTemplate.query(H2_UPDATE_RETURNING,
+                (rs, rowNum) -> rs.getBigDecimal(1), delta, accountNumber, delta);
+            return updated.stream().findFirst();
+        }
+
+        int updated = jdbcTemplate.update(GUARDED_UPDATE, delta, accountNumber, delta);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        List<BigDecimal> balance = jdbcTemplate.query(SELECT_BALANCE,
+            (rs, rowNum) -> rs.getBigDecimal(1), accountNumber);
+        return balance.stream().findFirst();
+    }
+}
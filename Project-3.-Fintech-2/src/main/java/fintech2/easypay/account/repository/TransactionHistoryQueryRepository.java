@@ -0,0 +1,22 @@
+package fintech2.easypay.account.repository;
+
+import fintech2.easypay.account.dto.TransactionCursor;
+import fintech2.easypay.account.dto.TransactionResponse;
+import fintech2.easypay.account.dto.TransactionSearchCondition;
+
+import java.util.List;
+
+/**
+ * 거래내역 조건 조회 (Criteria 기반 커스텀 쿼리)
+ */
+public interface TransactionHistoryQueryRepository {
+
+    /**
+     * (created_at, id) 내림차순 keyset 페이지 조회
+     * 엔티티 대신 필요한 컬럼만 DTO로 프로젝션하며, 커서 이후 행만 인덱스 범위 스캔으로 읽는다.
+     * @param cursor 직전 페이지 마지막 행 (첫 페이지면 null)
+     * @param limit 최대 조회 건수
+     */
+    List<TransactionResponse> findPage(String accountNumber, TransactionSearchCondition condition,
+                                       TransactionCursor cursor, int limit);
+}
@@ -0,0 +1,106 @@
+package fintech2.easypay.account.repository;
+
+import fintech2.easypay.account.dto.TransactionCursor;
+import fintech2.easypay.account.dto.TransactionResponse;
+import fintech2.easypay.account.dto.TransactionSearchCondition;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TransactionHistoryQueryRepositoryImpl implements TransactionHistoryQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> findPage(String accountNumber, TransactionSearchCondition condition,
+                                              TransactionCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TransactionHistory> root = query.from(TransactionHistory.class);
+
+        Path<Long> id = root.get("id");
+        Path<String> account = root.get("accountNumber");
+        Path<TransactionType> transactionType = root.get("transactionType");
+        Path<TransactionStatus> status = root.get("status");
+        Path<BigDecimal> amount = root.get("amount");
+        Path<BigDecimal> balanceBefore = root.get("balanceBefore");
+        Path<BigDecimal> balanceAfter = root.get("balanceAfter");
+        Path<String> description = root.get("description");
+        Path<String> referenceId = root.get("referenceId");
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(account, accountNumber));
+
+        // keyset: (created_at, id) < (cursor.createdAt, cursor.id)
+        if (cursor != null) {
+            predicates.add(cb.or(
+                cb.lessThan(createdAt, cursor.createdAt()),
+                cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        }
+        if (condition.getTypes() != null && !condition.getTypes().isEmpty()) {
+            predicates.add(transactionType.in(condition.getTypes()));
+        }
+        if (condition.getStatus() != null) {
+            predicates.add(cb.equal(status, condition.getStatus()));
+        }
+        if (condition.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, condition.getFrom()));
+        }
+        if (condition.getTo() != null) {
+            predicates.add(cb.lessThan(createdAt, condition.getTo()));
+        }
+        if (condition.getMinAmount() != null || condition.getMaxAmount() != null) {
+            Expression<BigDecimal> absAmount = cb.abs(amount);
+            if (condition.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(absAmount, condition.getMinAmount()));
+            }
+            if (condition.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(absAmount, condition.getMaxAmount()));
+            }
+        }
+
+        query.multiselect(id, account, transactionType, status, amount, balanceBefore, balanceAfter,
+                description, referenceId, createdAt)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+
+        List<TransactionResponse> responses = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            responses.add(TransactionResponse.builder()
+                .id(row.get(id))
+                .accountNumber(row.get(account))
+                .transactionType(row.get(transactionType))
+                .transactionStatus(row.get(status))
+                .status(row.get(status) != null ? row.get(status).name() : null)
+                .amount(row.get(amount))
+                .balanceBefore(row.get(balanceBefore))
+                .balanceAfter(row.get(balanceAfter))
+                .description(row.get(description))
+                .referenceId(row.get(referenceId))
+                .createdAt(row.get(createdAt))
+                .success(true)
+                .build());
+        }
+        return responses;
+    }
+}
@@ -1,12 +1,52 @@
 package fintech2.easypay.account.repository;
 
 import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.entity.TransactionHistoryId;
+import fintech2.easypay.retention.AppendOnlyHistoryRepository;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
-    List<TransactionHistory> findByAccountNumberOrderByCreatedAtDesc(String accountNumber);
+public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, TransactionHistoryId>,
+        TransactionHistoryQueryRepository, AppendOnlyHistoryRepository<TransactionHistory> {
+    // 계좌별 거래내역 조회는 findPage (keyset 페이지네이션) 사용
+
+    /**
+     * 계좌 거래내역 스트리밍 조회 (내보내기용, 트랜잭션 안에서 소비하고 반드시 close)
+     * JDBC fetch size 단위로 커서를 읽어 전체 결과를 메모리에 올리지 않는다.
+     * MySQL은 useCursorFetch=true 접속 옵션이 있어야 fetch size가 적용된다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT th FROM TransactionHistory th " +
+           "WHERE th.accountNumber = :accountNumber AND th.createdAt >= :from AND th.createdAt < :to " +
+           "ORDER BY th.createdAt, th.id")
+    Stream<TransactionHistory> streamByAccountNumber(@Param("accountNumber") String accountNumber,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 전체 계좌 거래내역 스트리밍 조회 (일 단위 대사용)
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT th FROM TransactionHistory th " +
+           "WHERE th.createdAt >= :from AND th.createdAt < :to " +
+           "ORDER BY th.createdAt, th.id")
+    Stream<TransactionHistory> streamByCreatedAtRange(@Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
 } 
\ No newline at end of file
@@ -1,26 +1,33 @@
 package fintech2.easypay.account.service;
 
+import fintech2.easypay.account.dto.TransactionCursor;
+import fintech2.easypay.account.dto.TransactionPageResponse;
+import fintech2.easypay.account.dto.TransactionResponse;
+import fintech2.easypay.account.dto.TransactionSearchCondition;
 import fintech2.easypay.account.entity.AccountBalance;
-import fintech2.easypay.account.entity.TransactionHistory;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.common.TransactionStatus;
 import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.AccountLockTimeoutException;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 계좌 관리 서비스 (리팩토링됨)
@@ -34,6 +41,8 @@ public class AccountService {
     private final AccountBalanceRepository accountBalanceRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
     private final BalanceService balanceService; // 중앙화된 잔액 서비스
+    // balance.group-commit.enabled=true 일 때만 존재
+    private final ObjectProvider<GroupCommitBalanceService> groupCommitBalanceService;
     private final AuditLogService auditLogService;
     private final AlarmService alarmService;
 
@@ -62,8 +71,8 @@ public class AccountService {
     /**
      * 잔액 변경 (기존 API 호환성을 위해 유지, 내부적으로 BalanceService 사용)
      * @deprecated 새로운 비즈니스 로직에서는 BalanceService를 직접 사용하세요
+     * 트랜잭션은 BalanceService가 계좌 락 획득 이후에 시작하므로 여기서는 열지 않음
      */
-    @Transactional
     public ResponseEntity<?> updateBalance(String accountNumber, BigDecimal amount, String transactionTypeStr, String description, String userId) {
         try {
             // TransactionType enum으로 변환
@@ -79,7 +88,13 @@ public class AccountService {
             BalanceService.BalanceChangeResult result;
             String referenceId = "LEGACY_" + System.currentTimeMillis(); // 레거시 API용 참조 ID
 
-            if (amount.compareTo(BigDecimal.ZERO) > 0) {
+            GroupCommitBalanceService groupCommit = groupCommitBalanceService.getIfAvailable();
+            if (groupCommit != null) {
+                // 그룹 커밋: 샤드 writer가 배치로 커밋한 뒤 결과 반환
+                result = await(amount.compareTo(BigDecimal.ZERO) > 0
+                    ? groupCommit.increase(accountNumber, amount, transactionType, description, referenceId, userId)
+                    : groupCommit.decrease(accountNumber, amount.abs(), transactionType, description, referenceId, userId));
+            } else if (amount.compareTo(BigDecimal.ZERO) > 0) {
                 // 입금
                 result = balanceService.increase(accountNumber, amount, transactionType, description, referenceId, userId);
             } else {
@@ -98,7 +113,8 @@ public class AccountService {
 
             return ResponseEntity.ok(response);
 
-        } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException e) {
+        } catch (AccountNotFoundException | InsufficientBalanceException | IllegalArgumentException
+                 | AccountLockTimeoutException | TransactionBlockedException e) {
             throw e; // 예외를 다시 던져서 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("잔액 변경 중 오류 발생: {}", e.getMessage(), e);
@@ -107,12 +123,39 @@ public class AccountService {
         }
     }
 
-    public ResponseEntity<?> getTransactionHistory(String accountNumber) {
+    /**
+     * 그룹 커밋 결과 대기 (실패 원인 예외를 그대로 전파)
+     */
+    private static BalanceService.BalanceChangeResult await(CompletableFuture<BalanceService.BalanceChangeResult> future) {
         try {
-            List<TransactionHistory> transactions = transactionHistoryRepository.findByAccountNumberOrderByCreatedAtDesc(accountNumber);
-            
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 거래내역 조회 (keyset 페이지네이션)
+     * (account_number, created_at, id) 인덱스를 따라 커서 이후 size + 1건만 읽으므로
+     * 거래내역 총량과 무관하게 응답 시간과 메모리 사용량이 일정하다.
+     */
+    public ResponseEntity<?> getTransactionHistory(String accountNumber, TransactionSearchCondition condition) {
+        int size = condition.resolveSize();
+        condition.validate();
+        TransactionCursor cursor = TransactionCursor.decode(condition.getCursor());
+
+        try {
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<TransactionResponse> rows = transactionHistoryRepository.findPage(accountNumber, condition, cursor, size + 1);
+            boolean hasNext = rows.size() > size;
+            List<TransactionResponse> items = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = hasNext ? TransactionCursor.of(items.get(items.size() - 1)).encode() : null;
+
             auditLogService.logSuccess("TRANSACTION_HISTORY", "ACCOUNT", accountNumber, "거래내역 조회 성공", null);
-            return ResponseEntity.ok(transactions);
+            return ResponseEntity.ok(new TransactionPageResponse(items, nextCursor, hasNext));
 
         } catch (Exception e) {
             log.error("거래내역 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -0,0 +1,11 @@
+package fintech2.easypay.account.service;
+
+/**
+ * 잔액 변경 동시성 제어 방식
+ */
+public enum BalanceConcurrencyMode {
+    PESSIMISTIC,  // JVM 계좌 락 + SELECT ... FOR UPDATE (기존 동작)
+    OPTIMISTIC,   // 락 없이 조회 후 @Version 검사로 갱신, 충돌 시 지터 백오프 재시도
+    ADAPTIVE      // 기본은 OPTIMISTIC, 충돌률이 임계치를 넘은 계좌만 일정 시간 PESSIMISTIC
+    // 조건부 UPDATE 한 문장 방식은 전역 모드가 아니라 BalanceService.increaseAtomically/decreaseAtomically로 호출별 선택
+}
@@ -0,0 +1,157 @@
+package fintech2.easypay.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 잔액 변경 동시성 정책
+ * 설정된 모드와 계좌별 충돌률(ADAPTIVE)을 바탕으로 각 요청에 적용할 방식을 결정한다.
+ */
+@Component
+@Slf4j
+public class BalanceConcurrencyPolicy {
+
+    // 충돌률 지수이동평균 가중치
+    private static final double EWMA_ALPHA = 0.1;
+
+    private volatile BalanceConcurrencyMode mode;
+    private final int maxRetries;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final double conflictThreshold;
+    private final long pessimisticHoldMs;
+    private final int maxTrackedAccounts;
+
+    // 충돌이 한 번이라도 발생한 계좌만 추적
+    private final Map<String, ConflictStats> conflictStats = new ConcurrentHashMap<>();
+
+    public BalanceConcurrencyPolicy(
+            @Value("${balance.concurrency.mode:PESSIMISTIC}") BalanceConcurrencyMode mode,
+            @Value("${balance.optimistic.max-retries:5}") int maxRetries,
+            @Value("${balance.optimistic.backoff-base-ms:5}") long backoffBaseMs,
+            @Value("${balance.optimistic.backoff-max-ms:100}") long backoffMaxMs,
+            @Value("${balance.adaptive.conflict-threshold:0.2}") double conflictThreshold,
+            @Value("${balance.adaptive.pessimistic-hold-ms:60000}") long pessimisticHoldMs,
+            @Value("${balance.adaptive.max-tracked-accounts:10000}") int maxTrackedAccounts) {
+        this.mode = mode;
+        this.maxRetries = maxRetries;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.conflictThreshold = conflictThreshold;
+        this.pessimisticHoldMs = pessimisticHoldMs;
+        this.maxTrackedAccounts = maxTrackedAccounts;
+        log.info("잔액 동시성 모드: {}", mode);
+    }
+
+    public BalanceConcurrencyMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 런타임 모드 변경 (벤치마크/운영 전환용)
+     */
+    public void setMode(BalanceConcurrencyMode mode) {
+        this.mode = mode;
+        conflictStats.clear();
+    }
+
+    /**
+     * 계좌에 적용할 실제 방식 (PESSIMISTIC 또는 OPTIMISTIC)
+     */
+    public BalanceConcurrencyMode resolve(String accountNumber) {
+        BalanceConcurrencyMode current = mode;
+        if (current != BalanceConcurrencyMode.ADAPTIVE) {
+            return current;
+        }
+        ConflictStats stats = conflictStats.get(accountNumber);
+        if (stats != null && stats.isPessimistic(System.currentTimeMillis())) {
+            return BalanceConcurrencyMode.PESSIMISTIC;
+        }
+        return BalanceConcurrencyMode.OPTIMISTIC;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * 낙관적 갱신 성공 기록
+     */
+    public void recordSuccess(String accountNumber) {
+        ConflictStats stats = conflictStats.get(accountNumber);
+        if (stats != null) {
+            stats.record(false, conflictThreshold, pessimisticHoldMs);
+        }
+    }
+
+    /**
+     * 낙관적 갱신 충돌 기록 (임계치 초과 시 해당 계좌를 일정 시간 PESSIMISTIC으로 전환)
+     */
+    public void recordConflict(String accountNumber) {
+        if (mode != BalanceConcurrencyMode.ADAPTIVE) {
+            return;
+        }
+        ConflictStats stats = conflictStats.get(accountNumber);
+        if (stats == null) {
+            if (conflictStats.size() >= maxTrackedAccounts) {
+                evictCoolAccounts();
+            }
+            stats = conflictStats.computeIfAbsent(accountNumber, k -> new ConflictStats());
+        }
+        if (stats.record(true, conflictThreshold, pessimisticHoldMs)) {
+            log.info("충돌률 임계치 초과로 비관적 락 전환 - 계좌: {}, {}ms 유지", accountNumber, pessimisticHoldMs);
+        }
+    }
+
+    /**
+     * 지터 백오프 대기 (full jitter: 0 ~ min(max, base * 2^attempt))
+     */
+    public void backoff(int attempt) {
+        long ceiling = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void evictCoolAccounts() {
+        long now = System.currentTimeMillis();
+        conflictStats.entrySet().removeIf(entry -> !entry.getValue().isPessimistic(now)
+            && entry.getValue().conflictRate() < conflictThreshold);
+    }
+
+    /**
+     * 계좌별 충돌률 (지수이동평균)
+     */
+    private static final class ConflictStats {
+        private double conflictRate;
+        private long pessimisticUntil;
+
+        synchronized boolean record(boolean conflict, double threshold, long holdMs) {
+            conflictRate = conflictRate * (1 - EWMA_ALPHA) + (conflict ? EWMA_ALPHA : 0);
+            long now = System.currentTimeMillis();
+            if (conflict && conflictRate >= threshold && pessimisticUntil <= now) {
+                pessimisticUntil = now + holdMs;
+                // 전환 이후에는 새로 측정
+                conflictRate = 0;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isPessimistic(long now) {
+            return pessimisticUntil > now;
+        }
+
+        synchronized double conflictRate() {
+            return conflictRate;
+        }
+    }
+}
@@ -2,84 +2,120 @@ package fintech2.easypay.account.service;
 
 import fintech2.easypay.account.entity.AccountBalance;
 import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.event.BalanceChangedEvent;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import fintech2.easypay.account.lock.AccountLockHandle;
+import fintech2.easypay.account.lock.AccountLockManager;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.audit.service.AuditLogService;
-import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.common.TransactionStatus;
 import fintech2.easypay.common.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
-import lombok.RequiredArgsConstructor;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import fintech2.easypay.fraud.rule.FraudRuleEngine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 중앙화된 잔액 처리 서비스
  * 모든 잔액 변경은 이 서비스를 통해서만 이루어져야 함
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class BalanceService {
 
     private final AccountBalanceRepository accountBalanceRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
+    // 이체 입금 측 알림은 입금 계좌 소유자에게 보내야 하므로 소유자 ID 조회용
+    private final UserRepository userRepository;
     private final AuditLogService auditLogService;
-    private final AlarmService alarmService;
+    // 알림은 커밋 이후 이벤트로 처리 (BalanceAlarmDispatcher)
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountLockManager accountLockManager;
+    private final BalanceConcurrencyPolicy concurrencyPolicy;
+    // 커밋 전 이상거래 규칙 검사 (BLOCK이면 거래 거절)
+    private final FraudRuleEngine fraudRuleEngine;
+    private final TransactionTemplate balanceTransactionTemplate;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+
+    public BalanceService(AccountBalanceRepository accountBalanceRepository,
+                          TransactionHistoryRepository transactionHistoryRepository,
+                          UserRepository userRepository,
+                          AuditLogService auditLogService,
+                          ApplicationEventPublisher eventPublisher,
+                          AccountLockManager accountLockManager,
+                          BalanceConcurrencyPolicy concurrencyPolicy,
+                          FraudRuleEngine fraudRuleEngine,
+                          PlatformTransactionManager transactionManager) {
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.userRepository = userRepository;
+        this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
+        this.accountLockManager = accountLockManager;
+        this.concurrencyPolicy = concurrencyPolicy;
+        this.fraudRuleEngine = fraudRuleEngine;
+
+        // 계좌 락을 먼저 잡은 뒤 트랜잭션(커넥션)을 시작하기 위해 프로그래밍 방식 트랜잭션 사용
+        this.balanceTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.balanceTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.balanceTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.balanceTransactionTemplate.setTimeout(30);
+
+        // 낙관적/원자적 모드: 락 없는 조회 + 버전 검사 또는 조건부 UPDATE (READ_COMMITTED)
+        this.readCommittedTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readCommittedTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.readCommittedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.readCommittedTransactionTemplate.setTimeout(30);
+    }
 
     /**
      * 잔액 증가 (입금) - 사용자 ID 포함
      */
-    @Transactional(
-        isolation = Isolation.SERIALIZABLE,
-        propagation = Propagation.REQUIRED,
-        timeout = 30,
-        rollbackFor = {Exception.class}
-    )
     public BalanceChangeResult increase(String accountNumber, BigDecimal amount, 
                                       TransactionType transactionType, String description, String referenceId, String userId) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다: " + amount);
         }
+        screen(accountNumber, amount, transactionType);
         
-        return changeBalance(accountNumber, amount, transactionType, description, referenceId, userId);
+        return executeBalanceChange(accountNumber, amount, transactionType, description, referenceId, userId);
     }
 
     /**
      * 잔액 감소 (출금) - 사용자 ID 포함
      */
-    @Transactional(
-        isolation = Isolation.SERIALIZABLE,
-        propagation = Propagation.REQUIRED,
-        timeout = 30,
-        rollbackFor = {Exception.class}
-    )
     public BalanceChangeResult decrease(String accountNumber, BigDecimal amount, 
                                       TransactionType transactionType, String description, String referenceId, String userId) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다: " + amount);
         }
+        screen(accountNumber, amount, transactionType);
         
-        return changeBalance(accountNumber, amount.negate(), transactionType, description, referenceId, userId);
+        return executeBalanceChange(accountNumber, amount.negate(), transactionType, description, referenceId, userId);
     }
 
     /**
      * 잔액 증가 (입금) - 기존 호환성용
      */
-    @Transactional(
-        isolation = Isolation.SERIALIZABLE,
-        propagation = Propagation.REQUIRED,
-        timeout = 30,
-        rollbackFor = {Exception.class}
-    )
     public BalanceChangeResult increase(String accountNumber, BigDecimal amount, 
                                       TransactionType transactionType, String description, String referenceId) {
         return increase(accountNumber, amount, transactionType, description, referenceId, "USER");
@@ -88,55 +124,189 @@ public class BalanceService {
     /**
      * 잔액 감소 (출금) - 기존 호환성용
      */
-    @Transactional(
-        isolation = Isolation.SERIALIZABLE,
-        propagation = Propagation.REQUIRED,
-        timeout = 30,
-        rollbackFor = {Exception.class}
-    )
     public BalanceChangeResult decrease(String accountNumber, BigDecimal amount, 
                                       TransactionType transactionType, String description, String referenceId) {
         return decrease(accountNumber, amount, transactionType, description, referenceId, "USER");
     }
 
+    /**
+     * 잔액 증가 (입금) - 변경 전 잔액이 필요 없는 호출자용
+     * 동시성 모드와 무관하게 조건부 UPDATE 한 문장으로 검증, 갱신, 갱신된 잔액 조회를 처리한다.
+     * 결과의 변경 전 잔액은 변경 후 잔액 - 금액으로 계산한 값이다.
+     */
+    public BalanceChangeResult increaseAtomically(String accountNumber, BigDecimal amount,
+                                                  TransactionType transactionType, String description, String referenceId, String userId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다: " + amount);
+        }
+        screen(accountNumber, amount, transactionType);
+
+        return changeBalanceAtomically(accountNumber, amount, transactionType, description, referenceId, userId);
+    }
+
+    /**
+     * 잔액 감소 (출금) - 변경 전 잔액이 필요 없는 호출자용 (조건부 UPDATE 한 문장)
+     */
+    public BalanceChangeResult decreaseAtomically(String accountNumber, BigDecimal amount,
+                                                  TransactionType transactionType, String description, String referenceId, String userId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다: " + amount);
+        }
+        screen(accountNumber, amount, transactionType);
+
+        return changeBalanceAtomically(accountNumber, amount.negate(), transactionType, description, referenceId, userId);
+    }
+
+    /**
+     * 이상거래 규칙 검사 (계좌 락과 트랜잭션을 잡기 전에 수행, 차단 시 감사 로그 후 예외 전파)
+     */
+    private void screen(String accountNumber, BigDecimal amount, TransactionType transactionType) {
+        try {
+            fraudRuleEngine.screen(accountNumber, amount, transactionType);
+        } catch (TransactionBlockedException e) {
+            auditLogService.logWarning("TRANSACTION_BLOCKED", "ACCOUNT", accountNumber, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 동시성 정책에 따라 잔액 변경 방식 선택
+     */
+    private BalanceChangeResult executeBalanceChange(String accountNumber, BigDecimal amount,
+                                                   TransactionType transactionType, String description, String referenceId, String userId) {
+        switch (concurrencyPolicy.resolve(accountNumber)) {
+            case OPTIMISTIC:
+                return changeBalanceOptimistically(accountNumber, amount, transactionType, description, referenceId, userId);
+            default:
+                return changeBalanceWithAccountLock(accountNumber, amount, transactionType, description, referenceId, userId);
+        }
+    }
+
+    /**
+     * 조건부 UPDATE 한 문장으로 잔액 변경 (조회-검증-저장 왕복 제거, 성공 시 잔액 관련 문장은 UPDATE 하나)
+     * 변경 전 잔액은 UPDATE가 잡은 행 락 덕분에 변경 후 잔액 - 금액으로 정확히 계산되므로 별도 조회가 필요 없다.
+     * 단일 문장 자체가 원자적이므로 READ_COMMITTED로 충분하며, JVM 계좌 락은 DB 대기를 줄이기 위해 유지한다.
+     */
+    private BalanceChangeResult changeBalanceAtomically(String accountNumber, BigDecimal amount,
+                                                      TransactionType transactionType, String description, String referenceId, String userId) {
+        AccountLockHandle lock = accountLockManager.lock(accountNumber);
+        try {
+            return readCommittedTransactionTemplate.execute(status ->
+                changeBalance(accountNumber, amount, transactionType, description, referenceId, userId,
+                    ChangeStrategy.ATOMIC));
+        } finally {
+            lock.releaseAtTransactionEnd();
+        }
+    }
+
+    /**
+     * 계좌 락 획득 후 트랜잭션 안에서 잔액 변경
+     * 동일 계좌 요청은 JVM 안에서 대기하므로 DB 행 락을 기다리는 트랜잭션은 계좌당 하나뿐이다.
+     * 락은 트랜잭션 종료(커밋/롤백) 이후에 해제되며, 호출자가 이미 트랜잭션을 열었다면 그 트랜잭션 종료 시점에 해제된다.
+     * (트랜잭션 설정: SERIALIZABLE, REQUIRED, 30초 타임아웃, 모든 예외 시 롤백)
+     */
+    private BalanceChangeResult changeBalanceWithAccountLock(String accountNumber, BigDecimal amount,
+                                                           TransactionType transactionType, String description, String referenceId, String userId) {
+        AccountLockHandle lock = accountLockManager.lock(accountNumber);
+        try {
+            return balanceTransactionTemplate.execute(status ->
+                changeBalance(accountNumber, amount, transactionType, description, referenceId, userId,
+                    ChangeStrategy.PESSIMISTIC));
+        } finally {
+            lock.releaseAtTransactionEnd();
+        }
+    }
+
+    /**
+     * 낙관적 잔액 변경 (락 없이 조회, @Version 검사로 갱신)
+     * 충돌 시 새 트랜잭션으로 지터 백오프 재시도하고, 재시도 한도를 넘으면 비관적 방식으로 한 번 더 처리한다.
+     * 호출자가 이미 트랜잭션을 열었다면 재시도가 불가능하므로 비관적 방식을 사용한다.
+     */
+    private BalanceChangeResult changeBalanceOptimistically(String accountNumber, BigDecimal amount,
+                                                          TransactionType transactionType, String description, String referenceId, String userId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return changeBalanceWithAccountLock(accountNumber, amount, transactionType, description, referenceId, userId);
+        }
+
+        int maxRetries = concurrencyPolicy.getMaxRetries();
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                BalanceChangeResult result = readCommittedTransactionTemplate.execute(status ->
+                    changeBalance(accountNumber, amount, transactionType, description, referenceId, userId,
+                        ChangeStrategy.OPTIMISTIC));
+                concurrencyPolicy.recordSuccess(accountNumber);
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                concurrencyPolicy.recordConflict(accountNumber);
+                log.debug("낙관적 잔액 변경 충돌 - 계좌: {}, 시도: {}", accountNumber, attempt + 1);
+                if (attempt < maxRetries) {
+                    concurrencyPolicy.backoff(attempt);
+                }
+            }
+        }
+
+        log.warn("낙관적 잔액 변경 재시도 한도 초과, 비관적 방식으로 처리 - 계좌: {}", accountNumber);
+        return changeBalanceWithAccountLock(accountNumber, amount, transactionType, description, referenceId, userId);
+    }
+
     /**
      * 잔액 변경의 핵심 로직
      * 동시성 제어, 검증, 이력 기록을 모두 처리
+     * @param strategy PESSIMISTIC: 행 락 조회 후 갱신
+     *                 OPTIMISTIC: 락 없이 조회하고 버전 검사로 즉시 flush (충돌은 OptimisticLockingFailureException)
+     *                 ATOMIC: 조건부 UPDATE 한 문장으로 검증+갱신 (변경 전 잔액은 변경 후 잔액 - 금액으로 계산)
      */
     private BalanceChangeResult changeBalance(String accountNumber, BigDecimal amount, 
-                                            TransactionType transactionType, String description, String referenceId, String userId) {
+                                            TransactionType transactionType, String description, String referenceId, String userId,
+                                            ChangeStrategy strategy) {
         long startTime = System.currentTimeMillis();
         
         try {
-            // 1. 계좌 존재 여부 확인 및 동시성 제어
-            // Pessimistic Lock을 사용하여 동시 접근 방지
-            // 데드락 방지를 위해 계좌번호 순서로 정렬하여 락 획득
-            Optional<AccountBalance> accountOpt = accountBalanceRepository.findByIdWithLock(accountNumber);
-            if (accountOpt.isEmpty()) {
-                auditLogService.logWarning("BALANCE_CHANGE", "ACCOUNT", accountNumber, "계좌를 찾을 수 없습니다");
-                throw new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber);
-            }
+            BigDecimal balanceBefore;
+            BigDecimal balanceAfter;
 
-            AccountBalance account = accountOpt.get();
-            BigDecimal balanceBefore = account.getBalance();
-            BigDecimal balanceAfter = balanceBefore.add(amount);
-
-            // 2. 잔액 부족 검증 (출금인 경우)
-            if (balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
-                auditLogService.logWarning("BALANCE_INSUFFICIENT", "ACCOUNT", accountNumber, 
-                    "잔액 부족 - 현재: " + balanceBefore + ", 요청: " + amount.abs());
-                
-                // 잔액 부족 알람 발송 (비동기로 처리)
-                alarmService.sendInsufficientBalanceAlert(
-                    accountNumber, userId, balanceBefore.toString(), amount.abs().toString());
-                
-                throw new InsufficientBalanceException(
-                    "잔액이 부족합니다. 현재 잔액: " + balanceBefore + "원, 요청 금액: " + amount.abs() + "원");
-            }
+            if (strategy == ChangeStrategy.ATOMIC) {
+                // 1~3. 잔액 검증과 갱신을 조건부 UPDATE 한 문장으로 처리 (행 락은 이 문장부터 커밋까지만 유지)
+                Optional<BigDecimal> updatedBalance = accountBalanceRepository.addAndGetBalance(accountNumber, amount);
+                if (updatedBalance.isEmpty()) {
+                    // 갱신 실패 시에만 원인 확인과 알림용 현재 잔액 조회 (계좌 없음 / 잔액 부족)
+                    Optional<BigDecimal> currentBalance = accountBalanceRepository.findBalanceByAccountNumber(accountNumber);
+                    if (currentBalance.isEmpty()) {
+                        throw accountNotFound(accountNumber);
+                    }
+                    throw insufficientBalance(accountNumber, userId, currentBalance.get(), amount);
+                }
+                balanceAfter = updatedBalance.get();
+                balanceBefore = balanceAfter.subtract(amount);
+            } else {
+                // 1. 계좌 존재 여부 확인 및 동시성 제어
+                // 비관적: Pessimistic Lock으로 동시 접근 방지 (JVM 계좌 락 이후이므로 DB 대기는 계좌당 최대 1건)
+                // 낙관적: 락 없이 조회, 갱신 시 @Version 검사
+                boolean optimistic = strategy == ChangeStrategy.OPTIMISTIC;
+                Optional<AccountBalance> accountOpt = optimistic
+                    ? accountBalanceRepository.findById(accountNumber)
+                    : accountBalanceRepository.findByIdWithLock(accountNumber);
+                if (accountOpt.isEmpty()) {
+                    throw accountNotFound(accountNumber);
+                }
+
+                AccountBalance account = accountOpt.get();
+                balanceBefore = account.getBalance();
+                balanceAfter = balanceBefore.add(amount);
+
+                // 2. 잔액 부족 검증 (출금인 경우)
+                if (balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
+                    throw insufficientBalance(accountNumber, userId, balanceBefore, amount);
+                }
 
-            // 3. 잔액 업데이트 (Pessimistic Lock으로 보호됨)
-            account.setBalance(balanceAfter);
-            AccountBalance savedAccount = accountBalanceRepository.save(account);
+                // 3. 잔액 업데이트 (비관적: 행 락으로 보호, 낙관적: 즉시 flush하여 버전 충돌을 여기서 감지)
+                account.setBalance(balanceAfter);
+                if (optimistic) {
+                    accountBalanceRepository.saveAndFlush(account);
+                } else {
+                    accountBalanceRepository.save(account);
+                }
+            }
 
             // 4. 거래내역 기록 (트랜잭션 내에서 원자적으로 처리)
             TransactionHistory transaction = TransactionHistory.builder()
@@ -164,14 +334,9 @@ public class BalanceService {
             log.info("잔액 변경 완료 - 계좌: {}, 금액: {}, 실행시간: {}ms", 
                 accountNumber, amount, executionTime);
 
-            // 7. 알람 발송 (트랜잭션 외부에서 비동기 처리)
-            String changeType = amount.compareTo(BigDecimal.ZERO) > 0 ? "입금" : "출금";
-            alarmService.sendBalanceChangeAlert(
-                accountNumber, userId, changeType, amount.abs().toString(), balanceAfter.toString());
-
-            // 8. 이상거래 감지
-            alarmService.detectSuspiciousTransaction(
-                accountNumber, userId, amount.abs(), transactionType.name());
+            // 7. 알람 발송 및 이상거래 감지 (커밋 이후 별도 스레드에서 처리)
+            eventPublisher.publishEvent(new BalanceChangedEvent(
+                accountNumber, userId, amount, balanceAfter, transactionType));
 
             return result;
 
@@ -181,6 +346,9 @@ public class BalanceService {
             log.warn("잔액 변경 실패 (비즈니스 예외) - 계좌: {}, 금액: {}, 실행시간: {}ms, 오류: {}", 
                 accountNumber, amount, executionTime, e.getMessage());
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            // 낙관적 모드 버전 충돌은 호출자가 재시도
+            throw e;
         } catch (Exception e) {
             long executionTime = System.currentTimeMillis() - startTime;
             log.error("잔액 변경 중 예상치 못한 오류 발생 - 계좌: {}, 금액: {}, 실행시간: {}ms, 오류: {}", 
@@ -193,6 +361,173 @@ public class BalanceService {
         }
     }
 
+    /**
+     * 계좌 없음 처리 (감사 로그 기록 후 예외 반환)
+     */
+    private AccountNotFoundException accountNotFound(String accountNumber) {
+        auditLogService.logWarning("BALANCE_CHANGE", "ACCOUNT", accountNumber, "계좌를 찾을 수 없습니다");
+        return new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber);
+    }
+
+    /**
+     * 잔액 부족 처리 (감사 로그, 알람 후 예외 반환)
+     */
+    private InsufficientBalanceException insufficientBalance(String accountNumber, String userId,
+                                                             BigDecimal balanceBefore, BigDecimal amount) {
+        auditLogService.logWarning("BALANCE_INSUFFICIENT", "ACCOUNT", accountNumber, 
+            "잔액 부족 - 현재: " + balanceBefore + ", 요청: " + amount.abs());
+        
+        // 잔액 부족 알람 발송 (트랜잭션 종료 후 별도 스레드에서 처리)
+        eventPublisher.publishEvent(new InsufficientBalanceEvent(accountNumber, userId, balanceBefore, amount.abs()));
+        
+        return new InsufficientBalanceException(
+            "잔액이 부족합니다. 현재 잔액: " + balanceBefore + "원, 요청 금액: " + amount.abs() + "원");
+    }
+
+    /**
+     * 계좌 간 이체 (출금 + 입금을 하나의 트랜잭션으로 처리)
+     * 두 계좌의 JVM 락과 DB 행 락을 모두 계좌번호 순서로 획득하므로
+     * A→B, B→A 이체가 동시에 들어와도 데드락이 발생하지 않는다.
+     */
+    public TransferResult transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount,
+                                   TransactionType transactionType, String withdrawDescription, String depositDescription,
+                                   String referenceId, String userId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("이체 금액은 0보다 커야 합니다: " + amount);
+        }
+        if (fromAccountNumber.equals(toAccountNumber)) {
+            throw new IllegalArgumentException("출금 계좌와 입금 계좌가 같을 수 없습니다");
+        }
+        screen(fromAccountNumber, amount, transactionType);
+
+        AccountLockHandle lock = accountLockManager.lockAll(List.of(fromAccountNumber, toAccountNumber));
+        try {
+            return balanceTransactionTemplate.execute(status ->
+                applyTransfer(fromAccountNumber, toAccountNumber, amount, transactionType,
+                    withdrawDescription, depositDescription, referenceId, userId));
+        } finally {
+            lock.releaseAtTransactionEnd();
+        }
+    }
+
+    /**
+     * 이체의 핵심 로직
+     * 단일 SELECT ... FOR UPDATE (계좌번호 정렬)로 두 행을 잠그고, 양쪽 거래내역을 한 번에 저장
+     */
+    private TransferResult applyTransfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount,
+                                         TransactionType transactionType, String withdrawDescription, String depositDescription,
+                                         String referenceId, String userId) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            // 1. 두 계좌를 계좌번호 순서로 한 번에 잠금
+            Map<String, AccountBalance> accounts = new HashMap<>();
+            for (AccountBalance account : accountBalanceRepository.findAllByIdWithLockOrdered(
+                    List.of(fromAccountNumber, toAccountNumber))) {
+                accounts.put(account.getAccountNumber(), account);
+            }
+
+            AccountBalance fromAccount = accounts.get(fromAccountNumber);
+            if (fromAccount == null) {
+                auditLogService.logWarning("BALANCE_CHANGE", "ACCOUNT", fromAccountNumber, "계좌를 찾을 수 없습니다");
+                throw new AccountNotFoundException("출금 계좌를 찾을 수 없습니다: " + fromAccountNumber);
+            }
+            AccountBalance toAccount = accounts.get(toAccountNumber);
+            if (toAccount == null) {
+                auditLogService.logWarning("BALANCE_CHANGE", "ACCOUNT", toAccountNumber, "계좌를 찾을 수 없습니다");
+                throw new AccountNotFoundException("입금 계좌를 찾을 수 없습니다: " + toAccountNumber);
+            }
+
+            // 2. 잔액 부족 검증
+            BigDecimal fromBalanceBefore = fromAccount.getBalance();
+            BigDecimal fromBalanceAfter = fromBalanceBefore.subtract(amount);
+            if (fromBalanceAfter.compareTo(BigDecimal.ZERO) < 0) {
+                auditLogService.logWarning("BALANCE_INSUFFICIENT", "ACCOUNT", fromAccountNumber,
+                    "잔액 부족 - 현재: " + fromBalanceBefore + ", 요청: " + amount);
+
+                eventPublisher.publishEvent(new InsufficientBalanceEvent(
+                    fromAccountNumber, userId, fromBalanceBefore, amount));
+
+                throw new InsufficientBalanceException(
+                    "잔액이 부족합니다. 현재 잔액: " + fromBalanceBefore + "원, 요청 금액: " + amount + "원");
+            }
+            BigDecimal toBalanceBefore = toAccount.getBalance();
+            BigDecimal toBalanceAfter = toBalanceBefore.add(amount);
+
+            // 3. 양쪽 잔액 업데이트
+            fromAccount.setBalance(fromBalanceAfter);
+            toAccount.setBalance(toBalanceAfter);
+            accountBalanceRepository.saveAll(List.of(fromAccount, toAccount));
+
+            // 4. 양쪽 거래내역을 한 번에 기록 (커밋 시 하나의 flush로 반영)
+            BigDecimal withdrawAmount = amount.negate();
+            transactionHistoryRepository.saveAll(List.of(
+                TransactionHistory.builder()
+                    .accountNumber(fromAccountNumber)
+                    .transactionType(transactionType)
+                    .amount(withdrawAmount)
+                    .balanceBefore(fromBalanceBefore)
+                    .balanceAfter(fromBalanceAfter)
+                    .description(withdrawDescription)
+                    .referenceId(referenceId)
+                    .status(TransactionStatus.COMPLETED)
+                    .build(),
+                TransactionHistory.builder()
+                    .accountNumber(toAccountNumber)
+                    .transactionType(transactionType)
+                    .amount(amount)
+                    .balanceBefore(toBalanceBefore)
+                    .balanceAfter(toBalanceAfter)
+                    .description(depositDescription)
+                    .referenceId(referenceId)
+                    .status(TransactionStatus.COMPLETED)
+                    .build()));
+
+            // 5. 성공 로그 기록
+            BalanceChangeResult withdrawResult = new BalanceChangeResult(
+                fromAccountNumber, fromBalanceBefore, fromBalanceAfter, withdrawAmount, transactionType, referenceId);
+            BalanceChangeResult depositResult = new BalanceChangeResult(
+                toAccountNumber, toBalanceBefore, toBalanceAfter, amount, transactionType, referenceId);
+
+            auditLogService.logSuccess("BALANCE_CHANGE", "ACCOUNT", fromAccountNumber, "잔액 변경 성공", null);
+            auditLogService.logSuccess("BALANCE_CHANGE", "ACCOUNT", toAccountNumber, "잔액 변경 성공", null);
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.info("이체 완료 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 실행시간: {}ms",
+                fromAccountNumber, toAccountNumber, amount, executionTime);
+
+            // 6. 알람 발송 및 이상거래 감지 (커밋 이후 별도 스레드에서 처리)
+            eventPublisher.publishEvent(new BalanceChangedEvent(
+                fromAccountNumber, userId, withdrawAmount, fromBalanceAfter, transactionType, toAccountNumber, true));
+            // 입금 측 알림은 입금 계좌 소유자에게만 (소유자를 알 수 없으면 발송하지 않음)
+            Optional<Long> recipientId = userRepository.findIdByAccountNumber(toAccountNumber);
+            if (recipientId.isPresent()) {
+                eventPublisher.publishEvent(new BalanceChangedEvent(
+                    toAccountNumber, recipientId.get().toString(), amount, toBalanceAfter,
+                    transactionType, fromAccountNumber, false));
+            } else {
+                log.warn("입금 계좌 소유자를 찾을 수 없어 입금 알림 생략 - 계좌: {}", toAccountNumber);
+            }
+
+            return new TransferResult(withdrawResult, depositResult);
+
+        } catch (AccountNotFoundException | InsufficientBalanceException e) {
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.warn("이체 실패 (비즈니스 예외) - 출금계좌: {}, 입금계좌: {}, 금액: {}, 실행시간: {}ms, 오류: {}",
+                fromAccountNumber, toAccountNumber, amount, executionTime, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            long executionTime = System.currentTimeMillis() - startTime;
+            log.error("이체 중 예상치 못한 오류 발생 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 실행시간: {}ms, 오류: {}",
+                fromAccountNumber, toAccountNumber, amount, executionTime, e.getMessage(), e);
+
+            auditLogService.logError("BALANCE_CHANGE", "ACCOUNT", fromAccountNumber,
+                "이체 실패: " + e.getMessage(), e);
+
+            throw new RuntimeException("이체 중 오류가 발생했습니다", e);
+        }
+    }
+
     /**
      * 잔액 조회 (읽기 전용)
      * 송금/결제 담당자가 잔액 확인용으로 사용
@@ -248,6 +583,15 @@ public class BalanceService {
         }
     }
 
+    /**
+     * 잔액 변경 방식 (ATOMIC은 호출자가 메서드로 직접 선택)
+     */
+    private enum ChangeStrategy {
+        PESSIMISTIC,
+        OPTIMISTIC,
+        ATOMIC
+    }
+
     /**
      * 잔액 변경 결과를 담는 불변 객체
      */
@@ -278,4 +622,21 @@ public class BalanceService {
         public TransactionType getTransactionType() { return transactionType; }
         public String getReferenceId() { return referenceId; }
     }
+
+    /**
+     * 이체 결과 (출금/입금 양쪽 결과를 담는 불변 객체)
+     */
+    public static class TransferResult {
+        private final BalanceChangeResult withdrawResult;
+        private final BalanceChangeResult depositResult;
+
+        public TransferResult(BalanceChangeResult withdrawResult, BalanceChangeResult depositResult) {
+            this.withdrawResult = withdrawResult;
+            this.depositResult = depositResult;
+        }
+
+        // Getters
+        public BalanceChangeResult getWithdrawResult() { return withdrawResult; }
+        public BalanceChangeResult getDepositResult() { return depositResult; }
+    }
 } 
\ No newline at end of file
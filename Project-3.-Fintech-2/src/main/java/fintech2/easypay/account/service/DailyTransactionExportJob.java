@@ -0,0 +1,84 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.dto.TransactionExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 계좌 일별 거래내역 내보내기 (대사용 배치)
+ * 매일 전날 하루치 거래내역을 gzip NDJSON 파일(transactions-2025-01-01.ndjson.gz)로 쓴다.
+ * 고객 API로 열지 않고 내부 배치로만 실행하며, 임시 파일에 다 쓴 뒤 이름을 바꾸므로 실패 시 완성된 파일이 남지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "export.daily.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DailyTransactionExportJob {
+
+    private final TransactionExportService transactionExportService;
+    private final Path exportDir;
+
+    public DailyTransactionExportJob(TransactionExportService transactionExportService,
+                                     @Value("${export.daily.dir:./data/export}") String exportDir) {
+        this.transactionExportService = transactionExportService;
+        this.exportDir = Paths.get(exportDir);
+    }
+
+    @Scheduled(cron = "${export.daily.cron:0 30 0 * * ?}") // 매일 0시 30분
+    public void exportYesterday() {
+        LocalDate date = LocalDate.now().minusDays(1);
+        try {
+            exportDay(date);
+        } catch (Exception e) {
+            // 실패한 일자는 exportDay(date)로 다시 실행
+            log.error("일별 거래내역 내보내기 실패 - 일자: {}, 오류: {}", date, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 하루치 전체 계좌 거래내역을 파일로 내보내기
+     * @return 생성한 파일
+     */
+    public Path exportDay(LocalDate date) {
+        Path target = exportDir.resolve("transactions-" + date + "." + TransactionExportFormat.NDJSON.getExtension() + ".gz");
+        Path temp = exportDir.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(exportDir);
+            long rows;
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                rows = transactionExportService.export(null, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                    TransactionExportFormat.NDJSON, out, null);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("일별 거래내역 내보내기 완료 - 일자: {}, 건수: {}, 파일: {}", date, rows, target);
+            return target;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 내보내기 파일 삭제 실패 - 파일: {}", path);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.event.BalanceChangedEvent;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import fintech2.easypay.account.lock.AccountLockHandle;
+import fintech2.easypay.account.lock.AccountLockManager;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.AccountLockTimeoutException;
+import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import fintech2.easypay.fraud.rule.FraudRuleEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 그룹 커밋 방식의 잔액 변경 서비스 (balance.group-commit.enabled=true 일 때만 활성화)
+ * 요청을 계좌 해시로 샤드에 나누어 큐에 넣고, 샤드마다 하나의 writer 스레드가
+ * N ms 또는 K건 단위로 모아 한 트랜잭션에서 처리한다.
+ * 같은 계좌의 요청은 항상 같은 샤드에서 제출 순서대로 적용되며,
+ * 배치 안에서 잔액 부족/계좌 없음은 해당 요청만 실패시키고 나머지는 그대로 커밋한다.
+ * 활성화되면 AccountService의 단일 계좌 잔액 변경(updateBalance)만 이 서비스로 처리되며, 이상거래 규칙 검사는 큐에 넣기 전에 수행한다.
+ * 송금(BalanceService.transfer)은 두 계좌를 한 트랜잭션에서 바꿔야 하므로, 결제/취소(PaymentServiceExample)는
+ * 이미 조건부 UPDATE 한 번으로 처리되므로 이 서비스를 거치지 않고 BalanceService를 직접 사용한다.
+ * 종료가 시작되면 새 요청은 즉시 실패시키고, writer가 끝내지 못한 요청의 Future도 예외로 완료한다.
+ */
+@Service
+@ConditionalOnProperty(name = "balance.group-commit.enabled", havingValue = "true")
+@Slf4j
+public class GroupCommitBalanceService {
+
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final AuditLogService auditLogService;
+    // 알림은 커밋 이후 이벤트로 처리 (BalanceAlarmDispatcher)
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountLockManager accountLockManager;
+    // 큐에 넣기 전 이상거래 규칙 검사 (BLOCK이면 요청 거절)
+    private final FraudRuleEngine fraudRuleEngine;
+    private final TransactionTemplate batchTransactionTemplate;
+
+    private final Shard[] shards;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutMs;
+    private volatile boolean running;
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder itemCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public GroupCommitBalanceService(AccountBalanceRepository accountBalanceRepository,
+                                     TransactionHistoryRepository transactionHistoryRepository,
+                                     AuditLogService auditLogService,
+                                     ApplicationEventPublisher eventPublisher,
+                                     AccountLockManager accountLockManager,
+                                     FraudRuleEngine fraudRuleEngine,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${balance.group-commit.shards:4}") int shardCount,
+                                     @Value("${balance.group-commit.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${balance.group-commit.max-batch-size:100}") int maxBatchSize,
+                                     @Value("${balance.group-commit.max-delay-ms:5}") long maxDelayMs,
+                                     @Value("${balance.group-commit.offer-timeout-ms:1000}") long offerTimeoutMs) {
+        if (shardCount <= 0 || queueCapacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("샤드 수, 큐 용량, 배치 크기는 0보다 커야 합니다");
+        }
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
+        this.accountLockManager = accountLockManager;
+        this.fraudRuleEngine = fraudRuleEngine;
+
+        // 배치 단위 트랜잭션 (행 락은 계좌번호 순서의 SELECT ... FOR UPDATE로 획득)
+        this.batchTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.batchTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchTransactionTemplate.setTimeout(30);
+
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+        log.info("그룹 커밋 잔액 처리 시작 - 샤드: {}, 배치 크기: {}, 최대 대기: {}ms",
+            shards.length, maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+    }
+
+    /**
+     * 종료 시 새 요청을 막고 큐에 남은 요청을 모두 처리한 뒤 writer를 멈춘다.
+     * 제한 시간 안에 처리하지 못한 요청은 호출자가 무한 대기하지 않도록 예외로 완료한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            BalanceChangeRequest leftover;
+            while ((leftover = shard.queue.poll()) != null) {
+                leftover.future.completeExceptionally(shutdownException());
+            }
+        }
+        log.info("그룹 커밋 잔액 처리 종료 - 배치: {}, 처리 건수: {}, 거절: {}",
+            batchCount.sum(), itemCount.sum(), rejectedCount.sum());
+    }
+
+    /**
+     * 잔액 증가 (입금) 요청 - 배치 커밋 이후 완료되는 Future 반환
+     */
+    public CompletableFuture<BalanceService.BalanceChangeResult> increase(String accountNumber, BigDecimal amount,
+                                                                         TransactionType transactionType, String description,
+                                                                         String referenceId, String userId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다: " + amount);
+        }
+        screen(accountNumber, amount, transactionType);
+        return submit(accountNumber, amount, transactionType, description, referenceId, userId);
+    }
+
+    /**
+     * 잔액 감소 (출금) 요청 - 배치 커밋 이후 완료되는 Future 반환
+     */
+    public CompletableFuture<BalanceService.BalanceChangeResult> decrease(String accountNumber, BigDecimal amount,
+                                                                         TransactionType transactionType, String description,
+                                                                         String referenceId, String userId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다: " + amount);
+        }
+        screen(accountNumber, amount, transactionType);
+        return submit(accountNumber, amount.negate(), transactionType, description, referenceId, userId);
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.queue.size();
+        }
+        return depth;
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 이상거래 규칙 검사 (BalanceService와 같은 기준, 차단 시 감사 로그 후 큐에 넣지 않고 예외 전파)
+     */
+    private void screen(String accountNumber, BigDecimal amount, TransactionType transactionType) {
+        try {
+            fraudRuleEngine.screen(accountNumber, amount, transactionType);
+        } catch (TransactionBlockedException e) {
+            auditLogService.logWarning("TRANSACTION_BLOCKED", "ACCOUNT", accountNumber, e.getMessage());
+            throw e;
+        }
+    }
+
+    private CompletableFuture<BalanceService.BalanceChangeResult> submit(String accountNumber, BigDecimal delta,
+                                                                        TransactionType transactionType, String description,
+                                                                        String referenceId, String userId) {
+        BalanceChangeRequest request = new BalanceChangeRequest(
+            accountNumber, delta, transactionType, description, referenceId, userId);
+        if (!running) {
+            request.future.completeExceptionally(shutdownException());
+            return request.future;
+        }
+
+        Shard shard = shards[Math.floorMod(accountNumber.hashCode(), shards.length)];
+        try {
+            if (!shard.queue.offer(request, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // 큐가 가득 차면 무한 대기 대신 빠르게 실패 (호출자는 재시도 가능)
+                rejectedCount.increment();
+                request.future.completeExceptionally(
+                    new AccountLockTimeoutException("잔액 변경 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+            } else if (!running && shard.queue.remove(request)) {
+                // 확인과 offer 사이에 종료가 시작되어 writer/종료 처리가 이미 큐를 비웠을 수 있음
+                // 아직 큐에 남아 있으면 직접 회수해 실패 처리 (이미 꺼내졌다면 꺼낸 쪽이 완료한다)
+                request.future.completeExceptionally(shutdownException());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.completeExceptionally(e);
+        }
+        return request.future;
+    }
+
+    private static IllegalStateException shutdownException() {
+        return new IllegalStateException("잔액 처리 서비스가 종료되어 요청을 처리할 수 없습니다");
+    }
+
+    /**
+     * 배치 하나를 한 트랜잭션으로 처리하고, 커밋 이후 각 요청의 Future를 완료
+     */
+    private void processBatch(List<BalanceChangeRequest> batch) {
+        long startTime = System.currentTimeMillis();
+        TreeSet<String> accountNumbers = new TreeSet<>();
+        for (BalanceChangeRequest request : batch) {
+            accountNumbers.add(request.accountNumber);
+        }
+
+        try (AccountLockHandle ignored = accountLockManager.lockAll(accountNumbers)) {
+            batchTransactionTemplate.executeWithoutResult(status -> applyBatch(batch, accountNumbers));
+        } catch (Exception e) {
+            // 트랜잭션 전체가 롤백되었으므로 배치의 모든 요청을 실패 처리
+            log.error("그룹 커밋 실패 - 건수: {}, 오류: {}", batch.size(), e.getMessage(), e);
+            RuntimeException failure = e instanceof AccountLockTimeoutException
+                ? (AccountLockTimeoutException) e
+                : new RuntimeException("잔액 변경 중 오류가 발생했습니다", e);
+            for (BalanceChangeRequest request : batch) {
+                request.future.completeExceptionally(failure);
+            }
+            return;
+        }
+
+        batchCount.increment();
+        itemCount.add(batch.size());
+        log.debug("그룹 커밋 완료 - 건수: {}, 계좌 수: {}, 실행시간: {}ms",
+            batch.size(), accountNumbers.size(), System.currentTimeMillis() - startTime);
+
+        // 커밋 이후 결과 통보 및 알람 발송
+        for (BalanceChangeRequest request : batch) {
+            if (request.failure != null) {
+                request.future.completeExceptionally(request.failure);
+                continue;
+            }
+            BalanceService.BalanceChangeResult result = request.result;
+            eventPublisher.publishEvent(new BalanceChangedEvent(request.accountNumber, request.userId,
+                request.delta, result.getBalanceAfter(), request.transactionType));
+            request.future.complete(result);
+        }
+    }
+
+    /**
+     * 트랜잭션 내부: 배치의 계좌를 한 번에 잠그고 요청 순서대로 적용
+     */
+    private void applyBatch(List<BalanceChangeRequest> batch, TreeSet<String> accountNumbers) {
+        Map<String, AccountBalance> accounts = new HashMap<>();
+        for (AccountBalance account : accountBalanceRepository.findAllByIdWithLockOrdered(accountNumbers)) {
+            accounts.put(account.getAccountNumber(), account);
+        }
+
+        List<TransactionHistory> histories = new ArrayList<>(batch.size());
+        for (BalanceChangeRequest request : batch) {
+            request.result = null;
+            request.failure = null;
+
+            AccountBalance account = accounts.get(request.accountNumber);
+            if (account == null) {
+                auditLogService.logWarning("BALANCE_CHANGE", "ACCOUNT", request.accountNumber, "계좌를 찾을 수 없습니다");
+                request.failure = new AccountNotFoundException("계좌를 찾을 수 없습니다: " + request.accountNumber);
+                continue;
+            }
+
+            BigDecimal balanceBefore = account.getBalance();
+            BigDecimal balanceAfter = balanceBefore.add(request.delta);
+            if (balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
+                auditLogService.logWarning("BALANCE_INSUFFICIENT", "ACCOUNT", request.accountNumber,
+                    "잔액 부족 - 현재: " + balanceBefore + ", 요청: " + request.delta.abs());
+                eventPublisher.publishEvent(new InsufficientBalanceEvent(request.accountNumber, request.userId,
+                    balanceBefore, request.delta.abs()));
+                request.failure = new InsufficientBalanceException(
+                    "잔액이 부족합니다. 현재 잔액: " + balanceBefore + "원, 요청 금액: " + request.delta.abs() + "원");
+                continue;
+            }
+
+            account.setBalance(balanceAfter);
+            histories.add(TransactionHistory.builder()
+                .accountNumber(request.accountNumber)
+                .transactionType(request.transactionType)
+                .amount(request.delta)
+                .balanceBefore(balanceBefore)
+                .balanceAfter(balanceAfter)
+                .description(request.description)
+                .referenceId(request.referenceId)
+                .status(TransactionStatus.COMPLETED)
+                .build());
+            request.result = new BalanceService.BalanceChangeResult(request.accountNumber, balanceBefore, balanceAfter,
+                request.delta, request.transactionType, request.referenceId);
+            auditLogService.logSuccess("BALANCE_CHANGE", "ACCOUNT", request.accountNumber, "잔액 변경 성공", null);
+        }
+
+        // 계좌는 계좌당 한 번만 갱신, 거래내역은 한 번에 저장 (JDBC 배치 insert)
+        accountBalanceRepository.saveAll(accounts.values());
+        if (!histories.isEmpty()) {
+            transactionHistoryRepository.saveAll(histories);
+        }
+    }
+
+    /**
+     * 샤드별 요청 큐와 writer 스레드
+     */
+    private final class Shard implements Runnable {
+        private final BlockingQueue<BalanceChangeRequest> queue;
+        private final Thread thread;
+
+        private Shard(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "balance-group-commit-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<BalanceChangeRequest> batch = new ArrayList<>(maxBatchSize);
+            // 종료 요청 이후에도 큐가 빌 때까지 처리
+            while (running || !queue.isEmpty()) {
+                try {
+                    BalanceChangeRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                    batch.clear();
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 첫 요청 이후 최대 K건 또는 N ms까지 모은다.
+         */
+        private void collect(List<BalanceChangeRequest> batch) throws InterruptedException {
+            long deadline = System.nanoTime() + maxDelayNanos;
+            while (batch.size() < maxBatchSize) {
+                // 이미 쌓여 있는 요청은 대기 없이 가져온다
+                if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                BalanceChangeRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+            }
+        }
+    }
+
+    /**
+     * 큐에 쌓이는 잔액 변경 요청 (결과/실패는 writer 스레드만 기록)
+     */
+    static final class BalanceChangeRequest {
+        private final String accountNumber;
+        private final BigDecimal delta;
+        private final TransactionType transactionType;
+        private final String description;
+        private final String referenceId;
+        private final String userId;
+        private final CompletableFuture<BalanceService.BalanceChangeResult> future = new CompletableFuture<>();
+        private BalanceService.BalanceChangeResult result;
+        private RuntimeException failure;
+
+        BalanceChangeRequest(String accountNumber, BigDecimal delta, TransactionType transactionType,
+                             String description, String referenceId, String userId) {
+            this.accountNumber = accountNumber;
+            this.delta = delta;
+            this.transactionType = transactionType;
+            this.description = description;
+            this.referenceId = referenceId;
+            this.userId = userId;
+        }
+    }
+}
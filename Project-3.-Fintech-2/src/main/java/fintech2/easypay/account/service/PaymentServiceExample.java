@@ -43,13 +43,14 @@ public class PaymentServiceExample {
             log.info("결제 시작 - 결제ID: {}, 계좌: {}, 금액: {}, 가맹점: {}, 주문번호: {}", 
                 paymentId, accountNumber, amount, merchantId, orderId);
 
-            // 3. 결제 처리 (BalanceService 호출)
-            BalanceService.BalanceChangeResult paymentResult = balanceService.decrease(
+            // 3. 결제 처리 (BalanceService 호출 - 변경 후 잔액만 필요하므로 조건부 UPDATE 한 문장으로 처리)
+            BalanceService.BalanceChangeResult paymentResult = balanceService.decreaseAtomically(
                 accountNumber, 
                 amount, 
                 TransactionType.PAYMENT, 
                 "결제 - 가맹점: " + merchantId + ", 주문번호: " + orderId + " (결제ID: " + paymentId + ")",
-                paymentId
+                paymentId,
+                userId
             );
 
             // 4. 결제 완료 로그
@@ -98,13 +99,14 @@ public class PaymentServiceExample {
             log.info("결제 취소 시작 - 취소ID: {}, 계좌: {}, 금액: {}, 원결제ID: {}", 
                 cancelId, accountNumber, amount, originalPaymentId);
 
-            // 3. 결제 취소 처리 (BalanceService 호출 - 입금)
-            BalanceService.BalanceChangeResult cancelResult = balanceService.increase(
+            // 3. 결제 취소 처리 (BalanceService 호출 - 입금, 조건부 UPDATE 한 문장)
+            BalanceService.BalanceChangeResult cancelResult = balanceService.increaseAtomically(
                 accountNumber, 
                 amount, 
                 TransactionType.REFUND, 
                 "결제 취소 - 원결제ID: " + originalPaymentId + " (취소ID: " + cancelId + ")",
-                cancelId
+                cancelId,
+                userId
             );
 
             // 4. 결제 취소 완료 로그
@@ -0,0 +1,195 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.dto.TransactionExportFormat;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 거래내역 스트리밍 내보내기 서비스 (대사/거래명세서 배치용)
+ * JPA Stream을 한 행씩 읽어 바로 출력 스트림에 쓰고 영속성 컨텍스트에서 분리하므로
+ * 내보내는 행 수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final String[] CSV_HEADER = {
+        "id", "accountNumber", "transactionType", "status", "amount",
+        "balanceBefore", "balanceAfter", "description", "referenceId", "createdAt"
+    };
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final AuditLogService auditLogService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public TransactionExportService(TransactionHistoryRepository transactionHistoryRepository,
+                                    AuditLogService auditLogService,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.auditLogService = auditLogService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+
+        // 스트림은 트랜잭션(커넥션)이 열려 있는 동안만 읽을 수 있으므로 내보내기 전체를 읽기 전용 트랜잭션으로 감싼다
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 계좌 거래내역 내보내기 (createdAt 오름차순)
+     * @param accountNumber 계좌번호 (null이면 전체 계좌)
+     * @param from 시작일시 (포함)
+     * @param to 종료일시 (미포함)
+     * @param userId 요청자 ID (감사 로그용, 일별 배치처럼 요청자가 없으면 null)
+     * @return 내보낸 행 수
+     */
+    public long export(String accountNumber, LocalDateTime from, LocalDateTime to,
+                       TransactionExportFormat format, OutputStream out, Long userId) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 기간이 올바르지 않습니다");
+        }
+        long startTime = System.currentTimeMillis();
+        String resourceId = accountNumber != null ? accountNumber : "ALL";
+
+        Long rows = readOnlyTransactionTemplate.execute(status -> {
+            try (Stream<TransactionHistory> stream = accountNumber != null
+                    ? transactionHistoryRepository.streamByAccountNumber(accountNumber, from, to)
+                    : transactionHistoryRepository.streamByCreatedAtRange(from, to)) {
+                return format == TransactionExportFormat.CSV
+                    ? writeCsv(stream.iterator(), out)
+                    : writeNdjson(stream.iterator(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        long count = rows != null ? rows : 0L;
+        log.info("거래내역 내보내기 완료 - 대상: {}, 형식: {}, 건수: {}, 실행시간: {}ms",
+            resourceId, format, count, System.currentTimeMillis() - startTime);
+        auditLogService.logSuccess(userId, "TRANSACTION_EXPORT", "ACCOUNT", resourceId, null,
+            "거래내역 내보내기 - " + format + ", " + from + " ~ " + to + ", " + count + "건");
+        return count;
+    }
+
+    private long writeNdjson(Iterator<TransactionHistory> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // 출력 스트림은 호출자가 닫는다, 행 구분은 줄바꿈만 사용
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            TransactionHistory row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeStringField("accountNumber", row.getAccountNumber());
+            generator.writeStringField("transactionType", name(row.getTransactionType()));
+            generator.writeStringField("status", name(row.getStatus()));
+            writeDecimal(generator, "amount", row.getAmount());
+            writeDecimal(generator, "balanceBefore", row.getBalanceBefore());
+            writeDecimal(generator, "balanceAfter", row.getBalanceAfter());
+            generator.writeStringField("description", row.getDescription());
+            generator.writeStringField("referenceId", row.getReferenceId());
+            generator.writeStringField("createdAt", row.getCreatedAt() != null ? row.getCreatedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            entityManager.detach(row);
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TransactionHistory> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+        while (rows.hasNext()) {
+            TransactionHistory row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(csv(row.getAccountNumber()));
+            writer.write(',');
+            writer.write(row.getTransactionType() != null ? row.getTransactionType().name() : "");
+            writer.write(',');
+            writer.write(row.getStatus() != null ? row.getStatus().name() : "");
+            writer.write(',');
+            writer.write(plain(row.getAmount()));
+            writer.write(',');
+            writer.write(plain(row.getBalanceBefore()));
+            writer.write(',');
+            writer.write(plain(row.getBalanceAfter()));
+            writer.write(',');
+            writer.write(csv(row.getDescription()));
+            writer.write(',');
+            writer.write(csv(row.getReferenceId()));
+            writer.write(',');
+            writer.write(row.getCreatedAt() != null ? row.getCreatedAt().toString() : "");
+            writer.write('\n');
+            entityManager.detach(row);
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeDecimal(JsonGenerator generator, String field, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : "";
+    }
+
+    /**
+     * RFC 4180 이스케이프 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다)
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,16 +1,15 @@
 package fintech2.easypay.account.service;
 
-import fintech2.easypay.account.entity.TransactionHistory;
-import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.common.TransactionStatus;
 import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.AccountLockTimeoutException;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -27,7 +26,6 @@ import java.util.UUID;
 public class TransferService {
 
     private final BalanceService balanceService;
-    private final TransactionHistoryRepository transactionHistoryRepository;
     private final AuditLogService auditLogService;
 
     /**
@@ -38,38 +36,35 @@ public class TransferService {
      * @param description 송금 설명
      * @param userId 송금 요청자 ID
      * @return 송금 결과
+     * 트랜잭션은 BalanceService가 계좌 락 획득 이후에 시작하므로 여기서는 열지 않음
      */
-    @Transactional
     public Map<String, Object> transfer(String fromAccountNumber, String toAccountNumber, 
                                       BigDecimal amount, String description, String userId) {
         
         String transferId = generateTransferId();
         
         try {
-            // 1. 송금 전 검증
+            // 1. 송금 전 검증 (요청 값 검증만 - 계좌/잔액 검증은 3단계의 잠긴 스냅샷에서 수행)
             validateTransferRequest(fromAccountNumber, toAccountNumber, amount, userId);
             
             // 2. 송금 시작 로그
             auditLogService.logSuccess("TRANSFER_START", "TRANSFER", transferId, 
                 "송금 시작 - 출금계좌: " + fromAccountNumber + ", 입금계좌: " + toAccountNumber + ", 금액: " + amount, null);
 
-            // 3. 출금 처리 (BalanceService 호출)
-            BalanceService.BalanceChangeResult withdrawResult = balanceService.decrease(
-                fromAccountNumber, 
-                amount, 
-                TransactionType.TRANSFER, 
+            // 3. 출금/입금 처리 (BalanceService 이체 경로 - 두 계좌를 계좌번호 순서로 잠그고 하나의 트랜잭션에서 처리)
+            //    계좌 존재 여부와 잔액 부족은 잠긴 두 계좌를 한 번 조회한 결과로 검증
+            BalanceService.TransferResult transferResult = balanceService.transfer(
+                fromAccountNumber,
+                toAccountNumber,
+                amount,
+                TransactionType.TRANSFER,
                 "송금 출금 - " + description + " (송금ID: " + transferId + ")",
-                transferId
-            );
-
-            // 4. 입금 처리 (BalanceService 호출)
-            BalanceService.BalanceChangeResult depositResult = balanceService.increase(
-                toAccountNumber, 
-                amount, 
-                TransactionType.TRANSFER, 
                 "송금 입금 - " + description + " (송금ID: " + transferId + ")",
-                transferId
+                transferId,
+                userId
             );
+            BalanceService.BalanceChangeResult withdrawResult = transferResult.getWithdrawResult();
+            BalanceService.BalanceChangeResult depositResult = transferResult.getDepositResult();
 
             // 5. 송금 완료 로그
             auditLogService.logSuccess("TRANSFER_COMPLETE", "TRANSFER", transferId, 
@@ -88,7 +83,8 @@ public class TransferService {
 
             return response;
 
-        } catch (AccountNotFoundException | InsufficientBalanceException e) {
+        } catch (AccountNotFoundException | InsufficientBalanceException | AccountLockTimeoutException
+                 | TransactionBlockedException e) {
             // 비즈니스 예외는 그대로 전파
             auditLogService.logError("TRANSFER_FAILED", "TRANSFER", transferId, 
                 "송금 실패: " + e.getMessage(), e);
@@ -102,7 +98,9 @@ public class TransferService {
     }
 
     /**
-     * 송금 요청 검증
+     * 송금 요청 검증 (DB 조회 없이 요청 값만 검증)
+     * 계좌 존재 여부와 잔액 충분 여부는 BalanceService.transfer가 두 계좌를 한 번에 잠근 스냅샷에서 검증한다.
+     * 사전 조회를 따로 하면 조회 횟수만 늘고 락 획득 전 잔액과 실제 출금 시점 잔액이 달라질 수 있다.
      */
     private void validateTransferRequest(String fromAccountNumber, String toAccountNumber, 
                                        BigDecimal amount, String userId) {
@@ -121,27 +119,7 @@ public class TransferService {
             throw new IllegalArgumentException("출금 계좌와 입금 계좌가 같을 수 없습니다");
         }
 
-        // 2. 계좌 존재 여부 확인
-        try {
-            balanceService.getBalance(fromAccountNumber);
-        } catch (AccountNotFoundException e) {
-            throw new AccountNotFoundException("출금 계좌를 찾을 수 없습니다: " + fromAccountNumber);
-        }
-
-        try {
-            balanceService.getBalance(toAccountNumber);
-        } catch (AccountNotFoundException e) {
-            throw new AccountNotFoundException("입금 계좌를 찾을 수 없습니다: " + toAccountNumber);
-        }
-
-        // 3. 잔액 확인 (출금 가능 여부)
-        BigDecimal currentBalance = balanceService.getBalance(fromAccountNumber);
-        if (currentBalance.compareTo(amount) < 0) {
-            throw new InsufficientBalanceException(
-                "송금 가능한 잔액이 부족합니다. 현재 잔액: " + currentBalance + "원, 송금 금액: " + amount + "원");
-        }
-
-        // 4. 송금 한도 검증 (예: 일일 송금 한도)
+        // 2. 송금 한도 검증 (예: 일일 송금 한도)
         // TODO: 실제 비즈니스 로직에 맞게 구현
         BigDecimal dailyLimit = new BigDecimal("1000000"); // 100만원
         if (amount.compareTo(dailyLimit) > 0) {
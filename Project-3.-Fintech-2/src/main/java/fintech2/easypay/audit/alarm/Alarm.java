@@ -0,0 +1,23 @@
+package fintech2.easypay.audit.alarm;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림 (불변)
+ * 레벨/카테고리는 유형에서 파생되므로 별도 필드로 저장하지 않는다.
+ * @param id 사용자별 순번 (1부터 증가)
+ */
+public record Alarm(long id, AlarmType type, String message, LocalDateTime timestamp) {
+
+    @JsonProperty("level")
+    public AlarmLevel level() {
+        return type.getLevel();
+    }
+
+    @JsonProperty("category")
+    public AlarmCategory category() {
+        return type.getCategory();
+    }
+}
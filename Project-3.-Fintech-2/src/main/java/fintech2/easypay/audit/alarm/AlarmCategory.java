@@ -0,0 +1,40 @@
+package fintech2.easypay.audit.alarm;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 알림 카테고리 (JSON에는 기존 화면과 같이 소문자로 노출)
+ */
+public enum AlarmCategory {
+    BALANCE("balance"),
+    LOGIN("login"),
+    SYSTEM("system"),
+    GENERAL("general");
+
+    private final String value;
+
+    AlarmCategory(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 요청 파라미터의 카테고리 문자열 변환
+     * @return "all" 또는 null이면 null (전체)
+     */
+    public static AlarmCategory fromValue(String value) {
+        if (value == null || "all".equals(value)) {
+            return null;
+        }
+        for (AlarmCategory category : values()) {
+            if (category.value.equals(value)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 알림 카테고리입니다: " + value);
+    }
+}
@@ -0,0 +1,23 @@
+package fintech2.easypay.audit.alarm;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 알림 레벨 (JSON에는 기존 화면과 같이 소문자로 노출)
+ */
+public enum AlarmLevel {
+    INFO("info"),
+    WARNING("warning"),
+    ERROR("error");
+
+    private final String value;
+
+    AlarmLevel(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+}
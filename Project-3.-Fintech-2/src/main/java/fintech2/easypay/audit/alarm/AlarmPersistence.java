@@ -0,0 +1,42 @@
+package fintech2.easypay.audit.alarm;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 영구 저장소 (노드 간 공유되는 원본, AlarmStore는 사용자별 최신 알림 캐시)
+ */
+public interface AlarmPersistence {
+
+    /**
+     * 사용자별 순번을 발급하여 알림 저장 (커밋된 순서 = 순번 순서)
+     */
+    Alarm append(String userId, AlarmType type, String message, LocalDateTime timestamp);
+
+    /**
+     * 사용자 알림 순번 현황 (캐시가 다른 노드의 저장분보다 뒤처졌는지 판단)
+     */
+    Cursor cursor(String userId);
+
+    /**
+     * 지금까지 저장된 알림을 모두 읽음 처리
+     */
+    void markRead(String userId);
+
+    /**
+     * 사용자 최신 알림 조회 (오래된 순)
+     */
+    List<Alarm> loadRecent(String userId, int limit);
+
+    /**
+     * @param lastId 마지막으로 발급된 순번 (알림이 없으면 0)
+     * @param readId 읽음 처리된 마지막 순번
+     */
+    record Cursor(long lastId, long readId) {
+        public static final Cursor EMPTY = new Cursor(0L, 0L);
+
+        public int unread(int limit) {
+            return (int) Math.min(Math.max(0L, lastId - readId), limit);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package fintech2.easypay.audit.alarm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 알림 저장소 (메모리)
+ * 사용자당 고정 크기 링 버퍼를 두고, 전체 사용자 수가 상한을 넘으면
+ * 가장 오래 접근하지 않은 사용자부터 정리하여 메모리 사용량을 제한한다.
+ * 영구 저장소가 있으면 순번 발급과 저장을 DB에서 먼저 수행하고 메모리는 최신 알림 캐시로만 쓴다.
+ * 조회 시 DB의 마지막 순번이 캐시보다 앞서 있으면(다른 노드에서 저장된 알림) 다시 읽어 들이며,
+ * 읽지 않은 개수도 DB 기준으로 계산하여 어느 노드에서 조회해도 같은 값을 돌려준다.
+ */
+@Component
+@Slf4j
+public class AlarmStore {
+
+    private final Map<String, UserAlarmBuffer> buffers = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int capacityPerUser;
+    private final int maxUsers;
+    private final int evictTargetUsers;
+    private final AlarmPersistence persistence;
+
+    public AlarmStore(int capacityPerUser, int maxUsers) {
+        this(capacityPerUser, maxUsers, (AlarmPersistence) null);
+    }
+
+    @Autowired
+    public AlarmStore(@Value("${alarm.store.capacity-per-user:50}") int capacityPerUser,
+                      @Value("${alarm.store.max-users:100000}") int maxUsers,
+                      ObjectProvider<AlarmPersistence> persistence) {
+        this(capacityPerUser, maxUsers, persistence.getIfAvailable());
+    }
+
+    AlarmStore(int capacityPerUser, int maxUsers, AlarmPersistence persistence) {
+        if (capacityPerUser <= 0 || maxUsers <= 0) {
+            throw new IllegalArgumentException("알림 저장소 용량은 1 이상이어야 합니다");
+        }
+        this.capacityPerUser = capacityPerUser;
+        this.maxUsers = maxUsers;
+        // 상한 도달 시마다 정리하지 않도록 90%까지 한 번에 비운다
+        this.evictTargetUsers = Math.max(1, maxUsers - Math.max(1, maxUsers / 10));
+        this.persistence = persistence;
+    }
+
+    public Alarm add(String userId, AlarmType type, String message) {
+        if (persistence == null) {
+            return buffer(userId, true).add(type, message, LocalDateTime.now());
+        }
+        Alarm alarm = persistence.append(userId, type, message, LocalDateTime.now());
+        UserAlarmBuffer buffer = buffer(userId, true);
+        if (!buffer.append(alarm)) {
+            // 다른 노드에서 저장된 알림이 사이에 있으면 DB에서 다시 읽는다
+            reload(userId, buffer);
+        }
+        return alarm;
+    }
+
+    public int unreadCount(String userId) {
+        if (persistence != null) {
+            touch(userId);
+            return persistence.cursor(userId).unread(capacityPerUser);
+        }
+        UserAlarmBuffer buffer = buffer(userId, false);
+        return buffer != null ? buffer.unreadCount() : 0;
+    }
+
+    public void markRead(String userId) {
+        if (persistence != null) {
+            persistence.markRead(userId);
+        }
+        UserAlarmBuffer buffer = buffers.get(userId);
+        if (buffer != null) {
+            buffer.markRead();
+        }
+    }
+
+    /**
+     * 최신순 알림 목록
+     * @param category null이면 전체
+     */
+    public List<Alarm> list(String userId, AlarmCategory category) {
+        UserAlarmBuffer buffer = current(userId);
+        return buffer != null ? buffer.snapshot(category) : List.of();
+    }
+
+    /**
+     * 지정한 순번 이후의 알림 (오래된 순)
+     */
+    public List<Alarm> since(String userId, long afterId) {
+        UserAlarmBuffer buffer = current(userId);
+        return buffer != null ? buffer.since(afterId) : List.of();
+    }
+
+    /**
+     * 마지막 알림 순번 (알림이 없으면 0)
+     */
+    public long lastId(String userId) {
+        UserAlarmBuffer buffer = current(userId);
+        return buffer != null ? buffer.lastId() : 0L;
+    }
+
+    /**
+     * 접근 시각 갱신 (구독 중인 사용자가 유휴 정리 대상이 되지 않도록)
+     */
+    void touch(String userId) {
+        UserAlarmBuffer buffer = buffers.get(userId);
+        if (buffer != null) {
+            buffer.touch();
+        }
+    }
+
+    public int getUserCount() {
+        return buffers.size();
+    }
+
+    /**
+     * 사용자 버퍼 조회
+     * 영구 저장소가 있으면 캐시 미스 시 DB에서 최신 알림을 복원하고(알림이 없어도 빈 버퍼를 캐시),
+     * 없으면 create가 true일 때만 새 버퍼를 만든다.
+     */
+    private UserAlarmBuffer buffer(String userId, boolean create) {
+        UserAlarmBuffer buffer = buffers.get(userId);
+        if (buffer != null) {
+            return buffer;
+        }
+        if (persistence != null) {
+            // DB 조회는 맵 잠금 밖에서 수행하고, 동시에 복원된 경우 먼저 등록된 버퍼를 사용
+            UserAlarmBuffer restored = new UserAlarmBuffer(capacityPerUser, persistence.loadRecent(userId, capacityPerUser));
+            UserAlarmBuffer existing = buffers.putIfAbsent(userId, restored);
+            buffer = existing != null ? existing : restored;
+        } else if (create) {
+            buffer = buffers.computeIfAbsent(userId, k -> new UserAlarmBuffer(capacityPerUser));
+        } else {
+            return null;
+        }
+        if (buffers.size() > maxUsers) {
+            evictIdleUsers(userId);
+        }
+        return buffer;
+    }
+
+    /**
+     * 최신 상태의 사용자 버퍼
+     * DB의 마지막 순번이 캐시보다 앞서 있으면 다른 노드에서 저장된 알림이 있으므로 다시 읽는다.
+     */
+    private UserAlarmBuffer current(String userId) {
+        UserAlarmBuffer buffer = buffer(userId, false);
+        if (buffer != null && persistence != null && persistence.cursor(userId).lastId() > buffer.lastId()) {
+            buffer = reload(userId, buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * DB에서 최신 알림을 다시 읽어 버퍼 교체
+     * 그 사이 다른 스레드가 교체했으면 교체된 버퍼를 사용한다 (뒤처져 있으면 다음 조회에서 다시 읽음).
+     */
+    private UserAlarmBuffer reload(String userId, UserAlarmBuffer stale) {
+        UserAlarmBuffer fresh = new UserAlarmBuffer(capacityPerUser, persistence.loadRecent(userId, capacityPerUser));
+        if (buffers.replace(userId, stale, fresh)) {
+            return fresh;
+        }
+        UserAlarmBuffer existing = buffers.putIfAbsent(userId, fresh);
+        return existing != null ? existing : fresh;
+    }
+
+    /**
+     * 유휴 사용자 정리 (LRU 근사)
+     * 다른 스레드가 정리 중이면 기다리지 않고 넘어가며, 방금 알림을 받은 사용자는 제외한다.
+     */
+    private void evictIdleUsers(String currentUserId) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = buffers.size() - evictTargetUsers;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중 접근 시각이 바뀌지 않도록 먼저 복사해 둔다
+            List<IdleCandidate> candidates = new ArrayList<>(buffers.size());
+            buffers.forEach((userId, buffer) -> candidates.add(new IdleCandidate(userId, buffer, buffer.lastAccessNanos())));
+            candidates.sort(Comparator.comparingLong(IdleCandidate::lastAccessNanos));
+            int evicted = 0;
+            for (IdleCandidate candidate : candidates) {
+                if (evicted >= excess) {
+                    break;
+                }
+                if (!candidate.userId().equals(currentUserId) && buffers.remove(candidate.userId(), candidate.buffer())) {
+                    evicted++;
+                }
+            }
+            log.debug("유휴 사용자 알림 정리 - 정리: {}명, 남은 사용자: {}명", evicted, buffers.size());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record IdleCandidate(String userId, UserAlarmBuffer buffer, long lastAccessNanos) {
+    }
+}
@@ -0,0 +1,241 @@
+package fintech2.easypay.audit.alarm;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE 구독 관리
+ * 발행자는 연결별 제한 큐에 넣기만 하고, 실제 전송은 별도 전송 스레드가 담당하므로
+ * 느린 클라이언트가 알림 저장/발행 경로를 막지 않는다.
+ * 큐가 넘친 연결은 종료하며, 클라이언트는 Last-Event-ID로 재연결하여 알림 버퍼에서 누락분을 받는다.
+ */
+@Component
+@Slf4j
+public class AlarmStreamRegistry {
+
+    static final String ALARM_EVENT = "alarm";
+
+    // 하트비트 신호 (큐에서 알림과 구분)
+    private static final Alarm HEARTBEAT = new Alarm(-1L, AlarmType.GENERAL, "", null);
+
+    private final AlarmStore alarmStore;
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int queueCapacity;
+    private final long timeoutMs;
+
+    public AlarmStreamRegistry(AlarmStore alarmStore,
+                               @Value("${alarm.stream.queue-capacity:64}") int queueCapacity,
+                               @Value("${alarm.stream.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${alarm.stream.sender-threads:4}") int senderThreads) {
+        this.alarmStore = alarmStore;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "alarm-sse-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * 구독 등록
+     * @param lastEventId 클라이언트가 마지막으로 받은 알림 순번 (없으면 이후 알림만 전송)
+     */
+    public SseEmitter subscribe(String userId, Long lastEventId) {
+        long lastId = alarmStore.lastId(userId);
+        // 버퍼가 정리되어 순번이 다시 시작된 경우에는 남아 있는 알림을 모두 재전송
+        long start = lastEventId == null ? lastId : (lastEventId > lastId ? 0L : lastEventId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(userId, emitter, start);
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+
+        subscriptions.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+        connectionCount.incrementAndGet();
+
+        // 등록 이후 발행된 알림과 겹쳐도 전송 시 순번으로 걸러진다
+        for (Alarm alarm : alarmStore.since(userId, start)) {
+            subscription.enqueue(alarm);
+        }
+        subscription.enqueue(HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * 사용자의 모든 연결에 알림 발행 (대기 없이 반환)
+     */
+    public void publish(String userId, Alarm alarm) {
+        Set<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            subscription.enqueue(alarm);
+        }
+    }
+
+    /**
+     * 하트비트 (프록시 유휴 연결 종료 방지 및 끊어진 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${alarm.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscriptions.forEach((userId, userSubscriptions) -> {
+            alarmStore.touch(userId);
+            for (Subscription subscription : userSubscriptions) {
+                subscription.enqueue(HEARTBEAT);
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(s -> s.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void unregister(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        subscriptions.computeIfPresent(subscription.userId, (k, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    /**
+     * SSE 연결 하나 (제한 큐 + 한 번에 하나의 전송 작업)
+     */
+    private final class Subscription implements Runnable {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Alarm> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 전송 스레드에서만 접근
+        private long lastSentId;
+
+        private Subscription(String userId, SseEmitter emitter, long lastSentId) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.lastSentId = lastSentId;
+        }
+
+        void enqueue(Alarm alarm) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(alarm)) {
+                if (alarm == HEARTBEAT) {
+                    return;
+                }
+                // 느린 클라이언트: 연결을 끊고 재연결 시 버퍼에서 재전송
+                log.debug("알림 SSE 큐 초과로 연결 종료 - 사용자: {}", userId);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Alarm alarm;
+                while (!closed.get() && (alarm = queue.poll()) != null) {
+                    send(alarm);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // 전송 중 새로 들어온 항목이 있으면 다시 예약
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(Alarm alarm) throws IOException {
+            if (alarm == HEARTBEAT) {
+                // 다른 노드에서 저장된 알림은 이 노드로 발행되지 않으므로 하트비트마다 저장소에서 따라잡는다
+                for (Alarm missed : alarmStore.since(userId, lastSentId)) {
+                    sendAlarm(missed);
+                }
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            if (alarm.id() <= lastSentId) {
+                return;
+            }
+            // 큐에 들어오기 전에 발행된 알림이 있으면 순서대로 먼저 전송
+            if (alarm.id() > lastSentId + 1) {
+                List<Alarm> missed = alarmStore.since(userId, lastSentId);
+                for (Alarm previous : missed) {
+                    if (previous.id() < alarm.id()) {
+                        sendAlarm(previous);
+                    }
+                }
+            }
+            sendAlarm(alarm);
+        }
+
+        private void sendAlarm(Alarm alarm) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(alarm.id()))
+                .name(ALARM_EVENT)
+                .data(alarm, MediaType.APPLICATION_JSON));
+            lastSentId = alarm.id();
+        }
+
+        private void close() {
+            try {
+                emitter.complete();
+            } finally {
+                unregister(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package fintech2.easypay.audit.alarm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 유형 (레벨/카테고리를 유형에 고정하여 알림마다 계산하지 않음)
+ * 정의되지 않은 이벤트 유형은 GENERAL로 저장
+ */
+public enum AlarmType {
+    BALANCE_CHANGE(AlarmLevel.INFO, AlarmCategory.BALANCE),
+    INSUFFICIENT_BALANCE(AlarmLevel.WARNING, AlarmCategory.BALANCE),
+    SUSPICIOUS_TRANSACTION(AlarmLevel.ERROR, AlarmCategory.BALANCE),
+    LARGE_TRANSACTION(AlarmLevel.INFO, AlarmCategory.BALANCE),
+    FREQUENT_TRANSACTION(AlarmLevel.WARNING, AlarmCategory.BALANCE),
+    LOGIN_SUCCESS(AlarmLevel.INFO, AlarmCategory.LOGIN),
+    LOGIN_FAILURE(AlarmLevel.WARNING, AlarmCategory.LOGIN),
+    ACCOUNT_LOCK(AlarmLevel.ERROR, AlarmCategory.LOGIN),
+    SYSTEM_ERROR(AlarmLevel.ERROR, AlarmCategory.SYSTEM),
+    USER_REGISTER(AlarmLevel.INFO, AlarmCategory.GENERAL),
+    GENERAL(AlarmLevel.INFO, AlarmCategory.GENERAL);
+
+    private static final Map<String, AlarmType> BY_NAME = new HashMap<>();
+
+    static {
+        for (AlarmType type : values()) {
+            BY_NAME.put(type.name(), type);
+        }
+    }
+
+    private final AlarmLevel level;
+    private final AlarmCategory category;
+
+    AlarmType(AlarmLevel level, AlarmCategory category) {
+        this.level = level;
+        this.category = category;
+    }
+
+    public AlarmLevel getLevel() {
+        return level;
+    }
+
+    public AlarmCategory getCategory() {
+        return category;
+    }
+
+    public static AlarmType from(String name) {
+        return name != null ? BY_NAME.getOrDefault(name, GENERAL) : GENERAL;
+    }
+}
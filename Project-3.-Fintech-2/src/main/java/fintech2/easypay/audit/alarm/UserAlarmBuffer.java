@@ -0,0 +1,184 @@
+package fintech2.easypay.audit.alarm;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 고정 크기 링 버퍼
+ * 용량을 넘으면 가장 오래된 알림을 덮어쓰며, 배열을 이동하거나 정렬하지 않는다.
+ * 읽지 않은 개수와 카테고리별 개수는 저장 시점에 갱신하여 조회 시 다시 세지 않는다.
+ */
+final class UserAlarmBuffer {
+
+    private static final AlarmCategory[] CATEGORIES = AlarmCategory.values();
+
+    private final Alarm[] ring;
+    // 버퍼에 남아 있는 알림의 카테고리별 개수 (lock 안에서만 변경)
+    private final int[] categoryCounts = new int[CATEGORIES.length];
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 버퍼에 반영된 마지막 알림 순번
+    private volatile long seq;
+    // 읽지 않은 알림 수 (버퍼 용량을 넘지 않음)
+    private volatile int unread;
+    // 마지막 접근 시각 (유휴 사용자 정리용)
+    private volatile long lastAccessNanos;
+
+    UserAlarmBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다");
+        }
+        this.ring = new Alarm[capacity];
+        touch();
+    }
+
+    /**
+     * 영구 저장소에서 복원 (오래된 순)
+     * 복원된 알림은 이미 확인한 것으로 보고 읽지 않은 개수에 포함하지 않는다.
+     */
+    UserAlarmBuffer(int capacity, List<Alarm> restored) {
+        this(capacity);
+        if (restored.isEmpty()) {
+            return;
+        }
+        long lastId = restored.get(restored.size() - 1).id();
+        for (Alarm alarm : restored) {
+            // 순번에 빈 곳이 있어도 링 슬롯이 겹치지 않도록 최근 capacity 범위만 복원
+            if (alarm.id() > lastId - capacity) {
+                ring[(int) ((alarm.id() - 1) % capacity)] = alarm;
+                categoryCounts[alarm.category().ordinal()]++;
+            }
+        }
+        seq = lastId;
+    }
+
+    Alarm add(AlarmType type, String message, LocalDateTime timestamp) {
+        lock.lock();
+        try {
+            Alarm alarm = new Alarm(seq + 1, type, message, timestamp);
+            put(alarm);
+            return alarm;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 영구 저장소에서 순번을 발급받은 알림 저장
+     * @return 버퍼에 반영되었으면 true (이미 복원된 알림 포함),
+     *         사이에 다른 노드가 저장한 알림이 있어 순번이 이어지지 않으면 false
+     */
+    boolean append(Alarm alarm) {
+        lock.lock();
+        try {
+            if (alarm.id() <= seq) {
+                return true;
+            }
+            if (alarm.id() != seq + 1) {
+                return false;
+            }
+            put(alarm);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서만 호출
+    private void put(Alarm alarm) {
+        int slot = (int) ((alarm.id() - 1) % ring.length);
+        Alarm overwritten = ring[slot];
+        if (overwritten != null) {
+            categoryCounts[overwritten.category().ordinal()]--;
+        }
+        ring[slot] = alarm;
+        categoryCounts[alarm.category().ordinal()]++;
+        unread = Math.min(unread + 1, ring.length);
+        seq = alarm.id();
+        touch();
+    }
+
+    int unreadCount() {
+        touch();
+        return unread;
+    }
+
+    void markRead() {
+        touch();
+        lock.lock();
+        try {
+            unread = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최신순 스냅샷
+     * 링은 저장 순서를 유지하므로 역순으로 읽기만 하면 되고,
+     * 카테고리별 개수만큼 모으면 나머지 슬롯은 보지 않는다.
+     * @param category null이면 전체
+     */
+    List<Alarm> snapshot(AlarmCategory category) {
+        touch();
+        lock.lock();
+        try {
+            int size = (int) Math.min(seq, ring.length);
+            int expected = category == null ? totalCount() : categoryCounts[category.ordinal()];
+            List<Alarm> result = new ArrayList<>(expected);
+            for (long id = seq; id > seq - size && result.size() < expected; id--) {
+                Alarm alarm = ring[(int) ((id - 1) % ring.length)];
+                if (alarm != null && (category == null || alarm.category() == category)) {
+                    result.add(alarm);
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 순번 이후의 알림 (오래된 순, 재연결 시 누락분 재전송용)
+     * 이미 덮어써진 알림은 포함되지 않는다.
+     */
+    List<Alarm> since(long afterId) {
+        touch();
+        lock.lock();
+        try {
+            long from = Math.max(afterId + 1, seq - Math.min(seq, ring.length) + 1);
+            List<Alarm> result = new ArrayList<>((int) Math.max(0, seq - from + 1));
+            for (long id = from; id <= seq; id++) {
+                Alarm alarm = ring[(int) ((id - 1) % ring.length)];
+                if (alarm != null) {
+                    result.add(alarm);
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int totalCount() {
+        int total = 0;
+        for (int count : categoryCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    long lastId() {
+        return seq;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+}
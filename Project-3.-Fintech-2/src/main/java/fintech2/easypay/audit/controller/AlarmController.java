@@ -1,15 +1,19 @@
 package fintech2.easypay.audit.controller;
 
+import fintech2.easypay.audit.alarm.Alarm;
 import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.auth.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -49,7 +53,7 @@ public class AlarmController {
             @RequestParam(defaultValue = "all") String category) {
         try {
             String userId = userPrincipal != null ? userPrincipal.getId().toString() : null;
-            List<Map<String, Object>> alarms = alarmService.getNotificationList(userId, category);
+            List<Alarm> alarms = alarmService.getNotificationList(userId, category);
             
             Map<String, Object> response = new HashMap<>();
             response.put("alarms", alarms);
@@ -86,4 +90,15 @@ public class AlarmController {
             return ResponseEntity.ok(response);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 실시간 알림 구독 (SSE)
+     * EventSource는 헤더를 지정할 수 없으므로 access_token 쿼리 파라미터로도 인증한다.
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 먼저 전송한다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return alarmService.subscribe(userPrincipal.getId().toString(), lastEventId);
+    }
+}
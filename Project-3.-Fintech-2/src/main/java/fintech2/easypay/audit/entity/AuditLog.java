@@ -8,8 +8,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "audit_logs")
 @Getter @Setter @NoArgsConstructor
+@IdClass(AuditLogId.class)
 public class AuditLog {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 50)
     private Long id;
 
     private Long userId;
@@ -29,5 +32,8 @@ public class AuditLog {
     @Enumerated(EnumType.STRING)
     private AuditResult result;
     
+    // 월 파티션 키이자 PK 일부
+    @Id
+    @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package fintech2.easypay.audit.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 복합 키 (id, created_at) - 월 파티션 키를 포함하는 DB PK와 같은 구성
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AuditLogId implements Serializable {
+    private Long id;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package fintech2.easypay.audit.entity;
+
+import fintech2.easypay.audit.alarm.AlarmType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림 영구 저장 (메모리 알림 버퍼의 원본, 노드 간 공유)
+ */
+@Entity
+@Table(name = "user_alarm", indexes = {
+    // 재기동/다른 노드에서 사용자 최신 알림 복원용
+    @Index(name = "idx_user_alarm_user_seq", columnList = "user_id, seq"),
+    // 보관 기간 정리용
+    @Index(name = "idx_user_alarm_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserAlarm {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_alarm_seq")
+    @SequenceGenerator(name = "user_alarm_seq", sequenceName = "user_alarm_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    // 사용자별 알림 순번 (SSE 이벤트 ID, UserAlarmCounter에서 발급)
+    @Column(nullable = false)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private AlarmType type;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
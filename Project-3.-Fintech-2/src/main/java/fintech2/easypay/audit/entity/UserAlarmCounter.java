@@ -0,0 +1,33 @@
+package fintech2.easypay.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 알림 순번 카운터
+ * 순번 발급과 알림 저장을 같은 트랜잭션에서 이 행을 잠근 채 수행하므로
+ * 노드가 여러 개여도 사용자별 순번이 겹치지 않고, 순번 순서가 커밋 순서와 같다.
+ */
+@Entity
+@Table(name = "user_alarm_counter")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAlarmCounter {
+    @Id
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    // 마지막으로 발급한 알림 순번
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    // 읽음 처리한 마지막 알림 순번
+    @Column(name = "read_seq", nullable = false)
+    private Long readSeq;
+
+    public long next() {
+        lastSeq = lastSeq + 1;
+        return lastSeq;
+    }
+}
@@ -1,10 +1,12 @@
 package fintech2.easypay.audit.repository;
 
 import fintech2.easypay.audit.entity.AuditLog;
+import fintech2.easypay.audit.entity.AuditLogId;
+import fintech2.easypay.retention.AppendOnlyHistoryRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, AuditLogId>, AppendOnlyHistoryRepository<AuditLog> {
     List<AuditLog> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<AuditLog> findByActionOrderByCreatedAtDesc(String action);
 } 
\ No newline at end of file
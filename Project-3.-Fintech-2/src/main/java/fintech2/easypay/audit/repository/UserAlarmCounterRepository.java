@@ -0,0 +1,25 @@
+package fintech2.easypay.audit.repository;
+
+import fintech2.easypay.audit.entity.UserAlarmCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserAlarmCounterRepository extends JpaRepository<UserAlarmCounter, String> {
+
+    /**
+     * 순번 발급용 조회 (비관적 락)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM UserAlarmCounter c WHERE c.userId = :userId")
+    Optional<UserAlarmCounter> findByIdWithLock(@Param("userId") String userId);
+
+    @Modifying
+    @Query("UPDATE UserAlarmCounter c SET c.readSeq = c.lastSeq WHERE c.userId = :userId")
+    int markAllRead(@Param("userId") String userId);
+}
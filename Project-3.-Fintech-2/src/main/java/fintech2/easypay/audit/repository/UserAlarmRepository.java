@@ -0,0 +1,32 @@
+package fintech2.easypay.audit.repository;
+
+import fintech2.easypay.audit.entity.UserAlarm;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserAlarmRepository extends JpaRepository<UserAlarm, Long> {
+
+    List<UserAlarm> findByUserIdOrderBySeqDesc(String userId, Pageable pageable);
+
+    @Query("SELECT MAX(a.seq) FROM UserAlarm a WHERE a.userId = :userId")
+    Long findMaxSeq(@Param("userId") String userId);
+
+    @Query("SELECT MIN(a.id) FROM UserAlarm a")
+    Long findMinId();
+
+    @Query("SELECT MAX(a.id) FROM UserAlarm a WHERE a.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * PK 범위 단위 일괄 삭제 (id는 시간순으로 증가하므로 보관 기간이 지난 구간을 잘라낸다)
+     */
+    @Modifying
+    @Query("DELETE FROM UserAlarm a WHERE a.id >= :fromId AND a.id < :toId AND a.createdAt < :cutoff")
+    int deleteRange(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("cutoff") LocalDateTime cutoff);
+}
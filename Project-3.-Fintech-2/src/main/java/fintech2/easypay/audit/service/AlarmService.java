@@ -1,27 +1,44 @@
 package fintech2.easypay.audit.service;
 
+import fintech2.easypay.audit.alarm.Alarm;
+import fintech2.easypay.audit.alarm.AlarmCategory;
+import fintech2.easypay.audit.alarm.AlarmStore;
+import fintech2.easypay.audit.alarm.AlarmStreamRegistry;
+import fintech2.easypay.audit.alarm.AlarmType;
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.fraud.rule.FraudDecision;
+import fintech2.easypay.fraud.rule.FraudRuleEngine;
+import fintech2.easypay.fraud.velocity.VelocityEngine;
+import fintech2.easypay.fraud.velocity.VelocityRules;
+import fintech2.easypay.fraud.velocity.VelocitySnapshot;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class AlarmService {
 
-    // 실제로는 DB에 저장해야 하지만, 현재는 메모리에 저장 (테스트용)
-    private final Map<String, List<Map<String, Object>>> userAlarms = new ConcurrentHashMap<>();
+    // 사용자별 알림 저장소 (사용자당 고정 크기 링 버퍼)
+    private final AlarmStore alarmStore;
     
-    // 읽음 처리된 알림 추적
-    private final Map<String, LocalDateTime> userReadTimes = new ConcurrentHashMap<>();
+    // 실시간 알림 구독 (SSE)
+    private final AlarmStreamRegistry alarmStreamRegistry;
     
-    // 이상거래 감지 임계값
-    private static final BigDecimal SUSPICIOUS_AMOUNT_THRESHOLD = new BigDecimal("1000000"); // 100만원
+    // 계좌별 거래 속도 집계 및 규칙
+    private final VelocityEngine velocityEngine;
+    private final VelocityRules velocityRules;
+    
+    // 이상거래 규칙 (FLAG 판정 시 이상거래 알림, fraud-rules.conf)
+    private final FraudRuleEngine fraudRuleEngine;
+    
+    // 큰 금액 거래 안내 임계값
     private static final BigDecimal LARGE_AMOUNT_THRESHOLD = new BigDecimal("500000"); // 50만원
-    private static final int FREQUENT_TRANSACTION_THRESHOLD = 5; // 5분 내 5회 이상 거래
 
     // 시스템 알람 (관리자용 - 시스템 에러, 보안 이슈 등)
     public void sendSystemAlert(String service, String message, Exception ex) {
@@ -55,6 +72,15 @@ public class AlarmService {
         sendUserNotification(userId, "BALANCE_CHANGE", message);
     }
 
+    // 잔액 변동 요약 알람 (사용자용 - 짧은 시간에 몰린 같은 계좌의 변동을 최신 잔액 하나로 합침)
+    public void sendBalanceSummaryAlert(String accountNumber, String userId, int count, String netAmount, String balanceAfter) {
+        String message = String.format("계좌 %s에 %d건의 잔액 변동이 있었습니다. 합계: %s원, 잔액: %s원",
+            accountNumber, count, netAmount, balanceAfter);
+
+        log.info("[BALANCE_ALERT] {}", message);
+        sendUserNotification(userId, "BALANCE_CHANGE", message);
+    }
+
     // 잔액 부족 경고 알람 (사용자용)
     public void sendInsufficientBalanceAlert(String accountNumber, String userId, String currentBalance, String requiredAmount) {
         String message = String.format("계좌 %s의 잔액이 부족합니다. 현재 잔액: %s원, 필요 금액: %s원", 
@@ -88,15 +114,26 @@ public class AlarmService {
 
     // 이상거래 감지 및 알림
     public void detectSuspiciousTransaction(String accountNumber, String userId, BigDecimal amount, String transactionType) {
-        // 1. 대금액 거래 감지
-        if (amount.compareTo(SUSPICIOUS_AMOUNT_THRESHOLD) > 0) {
-            String message = String.format("⚠️ 이상거래 감지: 계좌 %s에서 %s원의 대금액 거래가 발생했습니다. 거래유형: %s", 
+        detectSuspiciousTransaction(accountNumber, userId, amount, transactionType, null);
+    }
+
+    // 이상거래 감지 및 알림 (거래 상대 계좌 포함)
+    public void detectSuspiciousTransaction(String accountNumber, String userId, BigDecimal amount, String transactionType,
+                                            String counterpartyAccountNumber) {
+        long amountMinor = amount.movePointRight(2).longValue();
+        
+        // 1. 이상거래 규칙 감지 (속도 기록 전에 평가하여 커밋 전 검사와 같은 집계를 본다)
+        FraudDecision decision = fraudRuleEngine.evaluate(accountNumber, amountMinor,
+            TransactionType.valueOf(transactionType), System.currentTimeMillis());
+        if (decision.flagged() || decision.blocked()) {
+            String message = String.format("⚠️ 이상거래 감지: 계좌 %s에서 %s원의 거래가 발생했습니다. 거래유형: %s", 
                 accountNumber, amount.toString(), transactionType);
             
-            log.warn("[SUSPICIOUS_TRANSACTION] {}", message);
+            log.warn("[SUSPICIOUS_TRANSACTION] {} (규칙: {})", message, decision.ruleName());
             sendUserNotification(userId, "SUSPICIOUS_TRANSACTION", message);
             sendAdminNotification("SUSPICIOUS_TRANSACTION", 
-                String.format("대금액 거래 감지 - 계좌: %s, 금액: %s원, 유형: %s", accountNumber, amount, transactionType), null);
+                String.format("이상거래 규칙 감지 - 계좌: %s, 금액: %s원, 유형: %s, 규칙: %s",
+                    accountNumber, amount, transactionType, decision.ruleName()), null);
         }
         
         // 2. 큰 금액 거래 알림
@@ -108,14 +145,17 @@ public class AlarmService {
             sendUserNotification(userId, "LARGE_TRANSACTION", message);
         }
         
-        // 3. 빈번한 거래 감지 (실제로는 DB에서 최근 거래 내역을 조회해야 함)
-        // 현재는 간단한 예시로 구현
-        if (transactionType.equals("WITHDRAWAL") || transactionType.equals("PAYMENT")) {
-            String message = String.format("⚡ 빈번한 거래 감지: 계좌 %s에서 잦은 %s 거래가 발생했습니다.", 
-                accountNumber, transactionType);
-            
-            log.warn("[FREQUENT_TRANSACTION] {}", message);
-            sendUserNotification(userId, "FREQUENT_TRANSACTION", message);
+        // 3. 빈번한 거래 감지 (출금성 거래의 1분/5분/1시간 건수, 금액, 거래 상대 수)
+        if (transactionType.equals("WITHDRAWAL") || transactionType.equals("PAYMENT") || transactionType.equals("TRANSFER")) {
+            VelocitySnapshot velocity = velocityEngine.record(accountNumber, amountMinor, counterpartyAccountNumber);
+            List<String> violations = velocityRules.evaluate(velocity, amountMinor);
+            if (!violations.isEmpty()) {
+                String message = String.format("⚡ 빈번한 거래 감지: 계좌 %s - %s", 
+                    accountNumber, String.join(", ", violations));
+                
+                log.warn("[FREQUENT_TRANSACTION] {}", message);
+                sendUserNotification(userId, "FREQUENT_TRANSACTION", message);
+            }
         }
     }
 
@@ -124,29 +164,7 @@ public class AlarmService {
         if (userPrincipal == null) {
             return 0;
         }
-        
-        List<Map<String, Object>> userAlarmList = userAlarms.get(userPrincipal);
-        if (userAlarmList == null) {
-            return 0;
-        }
-        
-        // 읽음 처리된 시간 확인
-        LocalDateTime readTime = userReadTimes.get(userPrincipal);
-        if (readTime != null) {
-            // 읽음 처리된 시간 이후의 알림만 카운트
-            long unreadCount = userAlarmList.stream()
-                .filter(alarm -> {
-                    LocalDateTime alarmTime = (LocalDateTime) alarm.get("timestamp");
-                    return alarmTime.isAfter(readTime);
-                })
-                .count();
-            return (int) unreadCount;
-        }
-        
-        // 읽음 처리된 적이 없으면 모든 알림을 읽지 않은 것으로 처리
-        int count = userAlarmList.size();
-        log.info("[NOTIFICATION_COUNT] User: {}, Count: {}", userPrincipal, count);
-        return count;
+        return alarmStore.unreadCount(userPrincipal);
     }
 
     // 알림 읽음 처리
@@ -155,43 +173,21 @@ public class AlarmService {
             return;
         }
         
-        userReadTimes.put(userId, LocalDateTime.now());
-        log.info("[NOTIFICATION_READ] User: {}, Read time: {}", userId, LocalDateTime.now());
+        alarmStore.markRead(userId);
+        log.debug("[NOTIFICATION_READ] User: {}", userId);
     }
 
-    // 알림 목록 조회
-    public List<Map<String, Object>> getNotificationList(String userPrincipal, String category) {
-        List<Map<String, Object>> alarms = new ArrayList<>();
-        
+    // 알림 목록 조회 (저장소가 최신순으로 반환하므로 별도 정렬 없음)
+    public List<Alarm> getNotificationList(String userPrincipal, String category) {
         if (userPrincipal == null) {
-            return alarms;
+            return List.of();
         }
-        
-        // 사용자별 저장된 알림 가져오기
-        List<Map<String, Object>> userAlarmList = userAlarms.get(userPrincipal);
-        if (userAlarmList != null) {
-            // 카테고리 필터링
-            if (category.equals("all")) {
-                alarms.addAll(userAlarmList);
-            } else {
-                for (Map<String, Object> alarm : userAlarmList) {
-                    String alarmCategory = (String) alarm.get("category");
-                    if (category.equals(alarmCategory)) {
-                        alarms.add(alarm);
-                    }
-                }
-            }
-        }
-        
-        // 최신순으로 정렬
-        alarms.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
-        });
-        
-        log.info("[NOTIFICATION_LIST] User: {}, Category: {}, Count: {}", userPrincipal, category, alarms.size());
-        return alarms;
+        return alarmStore.list(userPrincipal, AlarmCategory.fromValue(category));
+    }
+    
+    // 실시간 알림 구독
+    public SseEmitter subscribe(String userId, Long lastEventId) {
+        return alarmStreamRegistry.subscribe(userId, lastEventId);
     }
     
     // 사용자 알림 (거래내역, 잔액 변동 등)
@@ -199,8 +195,7 @@ public class AlarmService {
         log.info("[USER_NOTIFICATION] User: {}, Type: {}, Message: {}", userId, type, message);
         
         // 사용자별 알림 저장
-        Map<String, Object> alarm = createAlarm(type, message);
-        saveUserAlarm(userId, alarm);
+        saveUserAlarm(userId, AlarmType.from(type), message);
         
         // 사용자 알림 유형별 처리
         switch (type) {
@@ -245,79 +240,20 @@ public class AlarmService {
         // TODO: 이메일 알림 전송
     }
     
-    // 알림 생성
-    private Map<String, Object> createAlarm(String type, String message) {
-        Map<String, Object> alarm = new HashMap<>();
-        alarm.put("id", System.currentTimeMillis()); // 임시 ID
-        alarm.put("type", type);
-        alarm.put("message", message);
-        alarm.put("timestamp", LocalDateTime.now());
-        alarm.put("level", getAlarmLevel(type));
-        alarm.put("category", getAlarmCategory(type));
-        return alarm;
-    }
-    
-    // 알림 레벨 결정
-    private String getAlarmLevel(String type) {
-        switch (type) {
-            case "ACCOUNT_LOCK":
-            case "SYSTEM_ERROR":
-            case "SUSPICIOUS_TRANSACTION":
-                return "error";
-            case "LOGIN_FAILURE":
-            case "INSUFFICIENT_BALANCE":
-            case "FREQUENT_TRANSACTION":
-                return "warning";
-            case "BALANCE_CHANGE":
-            case "LOGIN_SUCCESS":
-            case "LARGE_TRANSACTION":
-            default:
-                return "info";
-        }
-    }
-    
-    // 알림 카테고리 결정
-    private String getAlarmCategory(String type) {
-        switch (type) {
-            case "BALANCE_CHANGE":
-            case "INSUFFICIENT_BALANCE":
-            case "SUSPICIOUS_TRANSACTION":
-            case "LARGE_TRANSACTION":
-            case "FREQUENT_TRANSACTION":
-                return "balance";
-            case "LOGIN_SUCCESS":
-            case "LOGIN_FAILURE":
-            case "ACCOUNT_LOCK":
-                return "login";
-            case "SYSTEM_ERROR":
-                return "system";
-            default:
-                return "general";
-        }
-    }
-    
     // 사용자별 알림 저장
-    private void saveUserAlarm(String userId, Map<String, Object> alarm) {
+    private void saveUserAlarm(String userId, AlarmType type, String message) {
         if (userId == null) {
             return;
         }
         
         // USER_REGISTER 알림은 사용자에게 표시하지 않음
-        String type = (String) alarm.get("type");
-        if ("USER_REGISTER".equals(type)) {
-            log.info("[ALARM_FILTERED] USER_REGISTER alarm filtered for user: {}", userId);
+        if (type == AlarmType.USER_REGISTER) {
+            log.debug("[ALARM_FILTERED] USER_REGISTER alarm filtered for user: {}", userId);
             return;
         }
         
-        List<Map<String, Object>> userAlarmList = userAlarms.computeIfAbsent(userId, k -> new ArrayList<>());
-        
-        // 최근 50개 알림만 유지
-        if (userAlarmList.size() >= 50) {
-            userAlarmList.remove(0);
-        }
-        
-        userAlarmList.add(alarm);
-        log.info("[USER_ALARM_SAVED] User: {}, Type: {}, Message: {}", userId, type, alarm.get("message"));
+        Alarm alarm = alarmStore.add(userId, type, message);
+        alarmStreamRegistry.publish(userId, alarm);
     }
 
     // 관리자 알림 (시스템 에러, 보안 이슈 등)
@@ -3,22 +3,42 @@ package fintech2.easypay.audit.service;
 import fintech2.easypay.audit.entity.AuditLog;
 import fintech2.easypay.audit.repository.AuditLogRepository;
 import fintech2.easypay.common.AuditResult;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Map;
 
+/**
+ * 감사 로그 서비스
+ * 기본은 AuditLogWriter 큐에 넣고 즉시 반환하여 업무 트랜잭션(잔액 행 락 보유 시간)에 insert 비용을 더하지 않는다.
+ * after-commit 모드에서는 SUCCESS 로그를 업무 트랜잭션 커밋 이후에만 넣는다.
+ * 경고/오류 로그는 롤백되는 트랜잭션에서 주로 발생하므로 항상 즉시 넣는다.
+ */
 @Service
-@RequiredArgsConstructor
 public class AuditLogService {
     private final AuditLogRepository auditLogRepository;
     private final AlarmService alarmService;
+    private final AuditLogWriter auditLogWriter;
+    private final boolean asyncEnabled;
+    private final boolean afterCommit;
+
+    public AuditLogService(AuditLogRepository auditLogRepository,
+                           AlarmService alarmService,
+                           AuditLogWriter auditLogWriter,
+                           @Value("${audit.async.enabled:true}") boolean asyncEnabled,
+                           @Value("${audit.async.after-commit:false}") boolean afterCommit) {
+        this.auditLogRepository = auditLogRepository;
+        this.alarmService = alarmService;
+        this.auditLogWriter = auditLogWriter;
+        this.asyncEnabled = asyncEnabled;
+        this.afterCommit = afterCommit;
+    }
 
-    @Transactional
     public void logSuccess(Long userId, String action, String resourceType, String resourceId, String oldValue, String newValue) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, oldValue, newValue, AuditResult.SUCCESS);
-        auditLogRepository.save(log);
+        write(log);
         
         // 중요 비즈니스 이벤트는 알람 전송
         if (isImportantEvent(action)) {
@@ -26,10 +46,9 @@ public class AuditLogService {
         }
     }
 
-    @Transactional
     public void logSuccess(String action, String resourceType, String resourceId, String description, Map<String, Object> details) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.SUCCESS);
-        auditLogRepository.save(log);
+        write(log);
         
         // 중요 비즈니스 이벤트는 알람 전송
         if (isImportantEvent(action)) {
@@ -37,34 +56,48 @@ public class AuditLogService {
         }
     }
 
-    @Transactional
     public void logError(Long userId, String action, String resourceType, String resourceId, String error) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, null, error, AuditResult.ERROR);
-        auditLogRepository.save(log);
+        write(log);
         
         // 에러는 항상 알람
         alarmService.sendSystemAlert(resourceType, error, null);
     }
 
-    @Transactional
     public void logError(String action, String resourceType, String resourceId, String description, Exception exception) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.ERROR);
-        auditLogRepository.save(log);
+        write(log);
         
         // 에러는 항상 알람
         alarmService.sendSystemAlert(resourceType, description, exception);
     }
 
-    @Transactional
     public void logWarning(Long userId, String action, String resourceType, String resourceId, String warning) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, null, warning, AuditResult.WARNING);
-        auditLogRepository.save(log);
+        write(log);
     }
 
-    @Transactional
     public void logWarning(String action, String resourceType, String resourceId, String description) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.WARNING);
-        auditLogRepository.save(log);
+        write(log);
+    }
+
+    private void write(AuditLog log) {
+        if (!asyncEnabled) {
+            auditLogRepository.save(log);
+            return;
+        }
+        if (afterCommit && log.getResult() == AuditResult.SUCCESS
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.offer(log);
+                }
+            });
+            return;
+        }
+        auditLogWriter.offer(log);
     }
 
     private AuditLog createAuditLog(Long userId, String action, String resourceType, String resourceId, String oldValue, String newValue, AuditResult result) {
@@ -0,0 +1,201 @@
+package fintech2.easypay.audit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.audit.entity.AuditLog;
+import fintech2.easypay.audit.repository.AuditLogRepository;
+import fintech2.easypay.common.batch.AsyncBatchWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 비동기 배치 기록기
+ * 업무 트랜잭션과 분리된 별도 트랜잭션에서 saveAll로 모아서 기록한다.
+ * 큐가 가득 차면 offer-timeout 동안 기다린 뒤, 그래도 넘치거나 DB 기록에 실패한 로그는 spill 디렉터리에 NDJSON으로 남기고,
+ * 다음 기동 시 배치 크기 단위로 나누어 다시 적재한다.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter extends AsyncBatchWriter<AuditLog> {
+
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransactionTemplate;
+    private final Path spillDir;
+    private final int replayBatchSize;
+
+    public AuditLogWriter(AuditLogRepository auditLogRepository,
+                          ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${audit.async.capacity:10000}") int capacity,
+                          @Value("${audit.async.batch-size:200}") int batchSize,
+                          @Value("${audit.async.flush-interval-ms:200}") long flushIntervalMs,
+                          @Value("${audit.async.offer-timeout-ms:50}") long offerTimeoutMs,
+                          @Value("${audit.async.spill-dir:./data/audit-spill}") String spillDir) {
+        super("audit-log", capacity, batchSize, flushIntervalMs, offerTimeoutMs);
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.spillDir = Paths.get(spillDir);
+        this.replayBatchSize = batchSize;
+
+        // 호출자 트랜잭션과 무관한 독립 트랜잭션으로 기록
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() {
+        replaySpilled();
+        start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        shutdown();
+    }
+
+    @Override
+    protected void writeBatch(List<AuditLog> batch) {
+        writeTransactionTemplate.executeWithoutResult(status -> auditLogRepository.saveAll(batch));
+    }
+
+    @Override
+    protected void onOverflow(AuditLog auditLog) {
+        spill(List.of(auditLog));
+    }
+
+    @Override
+    protected void onWriteFailure(List<AuditLog> batch, Exception e) {
+        log.error("감사 로그 배치 기록 실패 - 건수: {}, 오류: {}", batch.size(), e.getMessage());
+        spill(batch);
+    }
+
+    /**
+     * 감사 로그를 디스크에 추가 기록 (유실 방지용)
+     */
+    private synchronized void spill(List<AuditLog> auditLogs) {
+        Path file = spillDir.resolve("audit-spill-" + LocalDate.now() + ".ndjson");
+        try {
+            Files.createDirectories(spillDir);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditLog auditLog : auditLogs) {
+                    auditLog.setId(null);
+                    writer.write(objectMapper.writeValueAsString(auditLog));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("감사 로그 spill 실패 - 건수: {}, 파일: {}, 오류: {}", auditLogs.size(), file, e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 실행에서 spill된 감사 로그를 배치 크기 단위로 나누어 DB로 다시 적재하고 파일을 삭제
+     * 파일 전체를 메모리에 올리거나 한 트랜잭션으로 저장하지 않는다.
+     */
+    private void replaySpilled() {
+        if (!Files.isDirectory(spillDir)) {
+            return;
+        }
+        // 재적재 도중 남은 로그를 다시 쓰므로 디렉터리 순회와 파일 변경을 분리
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillDir, "audit-spill-*.ndjson")) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error("spill 디렉터리 조회 실패 - 디렉터리: {}, 오류: {}", spillDir, e.getMessage());
+            return;
+        }
+        for (Path file : files) {
+            replayFile(file);
+        }
+    }
+
+    private void replayFile(Path file) {
+        long replayed = 0;
+        List<AuditLog> chunk = new ArrayList<>(replayBatchSize);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(objectMapper.readValue(line, AuditLog.class));
+                if (chunk.size() >= replayBatchSize) {
+                    writeBatch(chunk);
+                    replayed += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeBatch(chunk);
+                replayed += chunk.size();
+            }
+        } catch (Exception e) {
+            // 이미 커밋된 앞부분은 잘라내고 나머지만 남겨 다음 기동 때 중복 없이 다시 시도
+            log.error("spill된 감사 로그 재적재 실패 - 파일: {}, 적재 건수: {}, 오류: {}",
+                file.getFileName(), replayed, e.getMessage());
+            truncateReplayed(file, replayed);
+            return;
+        }
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            log.error("spill 파일 삭제 실패 - 파일: {}, 오류: {}", file.getFileName(), e.getMessage());
+        }
+        log.info("spill된 감사 로그 재적재 완료 - 파일: {}, 건수: {}", file.getFileName(), replayed);
+    }
+
+    /**
+     * spill 파일에서 이미 적재된 앞의 replayed건을 제외한 나머지로 파일을 교체
+     */
+    private void truncateReplayed(Path file, long replayed) {
+        if (replayed == 0) {
+            return;
+        }
+        Path remaining = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(remaining, StandardCharsets.UTF_8)) {
+            long skipped = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (skipped < replayed) {
+                    skipped++;
+                    continue;
+                }
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.error("spill 파일 정리 실패 - 파일: {}, 오류: {}", file.getFileName(), e.getMessage());
+            return;
+        }
+        try {
+            Files.move(remaining, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("spill 파일 교체 실패 - 파일: {}, 오류: {}", file.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.account.event.BalanceChangedEvent;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 잔액 이벤트 알림 발송기
+ * 잔액 변경 트랜잭션이 커밋된 뒤에 이벤트를 받아 전용 스레드에서 알림/이상거래 감지를 수행하므로
+ * 계좌 락을 잡은 동안에는 문자열 포맷, 로그, 알림 저장이 일어나지 않고, 롤백된 변경은 알림을 보내지 않는다.
+ * 같은 사용자의 이벤트는 사용자별 대기열에 모아 한 작업에서 순서대로 처리하며,
+ * 처리 시점에 같은 계좌의 잔액 변경이 연달아 쌓여 있으면 최신 잔액 기준의 요약 알림 하나로 합친다
+ * (이상거래 감지는 이벤트마다 수행, 합쳐진 건수는 balance.alarm.events{result=coalesced}로 집계).
+ * 전체 대기 건수가 상한을 넘으면 이벤트를 버리고 balance.alarm.events{result=dropped}로 집계한다.
+ */
+@Component
+@Slf4j
+public class BalanceAlarmDispatcher {
+
+    private final AlarmService alarmService;
+    private final ExecutorService executor;
+    private final Map<String, UserQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int maxPending;
+    private final Counter dispatchedCounter;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+
+    public BalanceAlarmDispatcher(AlarmService alarmService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${balance.alarm.threads:2}") int threads,
+                                  @Value("${balance.alarm.max-pending:10000}") int maxPending) {
+        this.alarmService = alarmService;
+        this.maxPending = maxPending;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "balance-alarm-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.dispatchedCounter = Counter.builder("balance.alarm.events").tag("result", "dispatched")
+            .description("커밋 후 처리된 잔액 알림 이벤트 수").register(meterRegistry);
+        this.droppedCounter = Counter.builder("balance.alarm.events").tag("result", "dropped")
+            .description("대기열 초과로 버려진 잔액 알림 이벤트 수").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("balance.alarm.events").tag("result", "coalesced")
+            .description("최신 잔액 알림으로 합쳐져 따로 발송되지 않은 잔액 알림 이벤트 수").register(meterRegistry);
+        meterRegistry.gauge("balance.alarm.pending", pending);
+    }
+
+    /**
+     * 잔액 변경 커밋 후 알림 (트랜잭션 밖에서 발행된 경우 즉시 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        enqueue(keyOf(event.userId(), event.accountNumber()), event);
+    }
+
+    /**
+     * 잔액 부족은 변경이 롤백되어도 알려야 하므로 트랜잭션 종료 후 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onInsufficientBalance(InsufficientBalanceEvent event) {
+        enqueue(keyOf(event.userId(), event.accountNumber()), event);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("잔액 알림 발송 종료 대기 초과 - 남은 이벤트: {}", pending.get());
+        }
+    }
+
+    private void enqueue(String key, Object event) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+        // 대기열 추가는 맵 잠금 안에서만 하여, 비어서 제거되는 대기열에 이벤트가 들어가지 않도록 한다
+        UserQueue queue = queues.compute(key, (k, existing) -> {
+            UserQueue target = existing != null ? existing : new UserQueue(k);
+            target.events.add(event);
+            return target;
+        });
+        queue.schedule();
+    }
+
+    private static String keyOf(String userId, String accountNumber) {
+        return userId != null ? userId : accountNumber;
+    }
+
+    /**
+     * 한 번에 꺼낸 사용자 이벤트를 순서대로 처리 (같은 계좌의 연속된 잔액 변경은 알림 하나로 합침)
+     */
+    private void dispatch(String key, List<Object> events) {
+        int index = 0;
+        while (index < events.size()) {
+            Object event = events.get(index);
+            if (event instanceof BalanceChangedEvent changed) {
+                int end = index + 1;
+                while (end < events.size() && events.get(end) instanceof BalanceChangedEvent next
+                        && next.accountNumber().equals(changed.accountNumber())) {
+                    end++;
+                }
+                List<BalanceChangedEvent> run = new ArrayList<>(end - index);
+                for (int i = index; i < end; i++) {
+                    run.add((BalanceChangedEvent) events.get(i));
+                }
+                sendBalanceAlert(key, run);
+                index = end;
+            } else {
+                InsufficientBalanceEvent insufficient = (InsufficientBalanceEvent) event;
+                runSafely(key, () -> alarmService.sendInsufficientBalanceAlert(insufficient.accountNumber(),
+                    insufficient.userId(), insufficient.balance().toString(), insufficient.amount().toString()));
+                index++;
+            }
+        }
+        dispatchedCounter.increment(events.size());
+    }
+
+    private void sendBalanceAlert(String key, List<BalanceChangedEvent> run) {
+        BalanceChangedEvent latest = run.get(run.size() - 1);
+        if (run.size() == 1) {
+            String changeType = latest.amount().signum() > 0 ? "입금" : "출금";
+            runSafely(key, () -> alarmService.sendBalanceChangeAlert(latest.accountNumber(), latest.userId(), changeType,
+                latest.amount().abs().toString(), latest.balanceAfter().toString()));
+        } else {
+            BigDecimal netAmount = BigDecimal.ZERO;
+            for (BalanceChangedEvent event : run) {
+                netAmount = netAmount.add(event.amount());
+            }
+            String net = netAmount.toString();
+            runSafely(key, () -> alarmService.sendBalanceSummaryAlert(latest.accountNumber(), latest.userId(),
+                run.size(), net, latest.balanceAfter().toString()));
+            coalescedCounter.increment(run.size() - 1);
+        }
+        // 이상거래 감지는 합치지 않고 거래마다 수행
+        for (BalanceChangedEvent event : run) {
+            if (event.detectSuspicious()) {
+                runSafely(key, () -> alarmService.detectSuspiciousTransaction(event.accountNumber(), event.userId(),
+                    event.amount().abs(), event.transactionType().name(), event.counterpartyAccountNumber()));
+            }
+        }
+    }
+
+    private void runSafely(String key, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("잔액 알림 처리 실패 - 대상: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자별 이벤트 대기열 (한 번에 하나의 작업만 실행하여 사용자 알림 순서 유지)
+     */
+    private final class UserQueue implements Runnable {
+        private final String key;
+        private final Queue<Object> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger state = new AtomicInteger(); // 0: 대기, 1: 예약/실행 중
+
+        private UserQueue(String key) {
+            this.key = key;
+        }
+
+        void schedule() {
+            if (state.compareAndSet(0, 1)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중: 남은 이벤트는 버림
+                    state.set(0);
+                    int dropped = drainWithoutRunning();
+                    droppedCounter.increment(dropped);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Object> batch = new ArrayList<>();
+            Object event;
+            while (true) {
+                // 지금까지 쌓인 이벤트를 한 번에 꺼내 합칠 수 있는 것은 합쳐서 처리
+                while ((event = events.poll()) != null) {
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    dispatch(key, batch);
+                } finally {
+                    pending.addAndGet(-batch.size());
+                    batch.clear();
+                }
+            }
+            state.set(0);
+            // 비어 있는지 확인과 제거를 추가와 같은 맵 잠금 안에서 수행하므로,
+            // 제거된 뒤에는 이 대기열에 이벤트가 들어올 수 없어 같은 사용자의 작업이 동시에 실행되지 않는다
+            queues.computeIfPresent(key, (k, queue) -> queue == this && events.isEmpty() ? null : queue);
+            // 제거되지 않았다면 그 사이 들어온 이벤트가 있으므로 다시 예약
+            if (!events.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private int drainWithoutRunning() {
+            int count = 0;
+            while (events.poll() != null) {
+                pending.decrementAndGet();
+                count++;
+            }
+            return count;
+        }
+    }
+}
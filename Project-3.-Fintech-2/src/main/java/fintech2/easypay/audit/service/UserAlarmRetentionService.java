@@ -0,0 +1,67 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.repository.UserAlarmRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림 보관 기간 정리
+ * 보관 기간이 지난 구간을 PK 범위 단위로 잘라서 삭제하며, 구간마다 별도 트랜잭션으로 커밋하여
+ * 한 번에 긴 락이나 큰 undo 로그가 생기지 않도록 한다.
+ */
+@Service
+@ConditionalOnProperty(name = "alarm.persistence.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserAlarmRetentionService {
+
+    private final UserAlarmRepository userAlarmRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final long deleteChunkSize;
+
+    public UserAlarmRetentionService(UserAlarmRepository userAlarmRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${alarm.retention.days:90}") int retentionDays,
+                                     @Value("${alarm.retention.delete-chunk-size:10000}") long deleteChunkSize) {
+        this.userAlarmRepository = userAlarmRepository;
+        this.retentionDays = retentionDays;
+        this.deleteChunkSize = deleteChunkSize;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${alarm.retention.cron:0 30 3 * * ?}") // 매일 새벽 3시 30분
+    public void purgeExpiredAlarms() {
+        purgeBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 기준 시각 이전 알림 삭제
+     * @return 삭제 건수
+     */
+    public long purgeBefore(LocalDateTime cutoff) {
+        Long minId = userAlarmRepository.findMinId();
+        Long maxId = userAlarmRepository.findMaxIdCreatedBefore(cutoff);
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        long deleted = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += deleteChunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + deleteChunkSize, maxId + 1);
+            Integer count = transactionTemplate.execute(status -> userAlarmRepository.deleteRange(from, to, cutoff));
+            deleted += count != null ? count : 0;
+        }
+        log.info("사용자 알림 보관 기간 정리 완료 - 기준: {}, 삭제: {}건", cutoff, deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,114 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.alarm.Alarm;
+import fintech2.easypay.audit.alarm.AlarmPersistence;
+import fintech2.easypay.audit.alarm.AlarmType;
+import fintech2.easypay.audit.entity.UserAlarm;
+import fintech2.easypay.audit.entity.UserAlarmCounter;
+import fintech2.easypay.audit.repository.UserAlarmCounterRepository;
+import fintech2.easypay.audit.repository.UserAlarmRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 알림 기록기
+ * 사용자별 카운터 행을 잠근 채 순번을 발급하고 같은 트랜잭션에서 알림을 저장한다.
+ * 순번이 DB에서 발급되므로 노드 간에 겹치지 않고, 커밋 전에 메모리에만 있는 알림이 없어
+ * 캐시 정리나 재기동으로 알림이 사라지거나 순번이 재사용되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "alarm.persistence.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserAlarmWriter implements AlarmPersistence {
+
+    private final UserAlarmRepository userAlarmRepository;
+    private final UserAlarmCounterRepository userAlarmCounterRepository;
+    private final TransactionTemplate writeTransactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public UserAlarmWriter(UserAlarmRepository userAlarmRepository,
+                           UserAlarmCounterRepository userAlarmCounterRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.userAlarmRepository = userAlarmRepository;
+        this.userAlarmCounterRepository = userAlarmCounterRepository;
+
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public Alarm append(String userId, AlarmType type, String message, LocalDateTime timestamp) {
+        try {
+            return writeTransactionTemplate.execute(status -> appendInTransaction(userId, type, message, timestamp));
+        } catch (DataIntegrityViolationException e) {
+            // 첫 알림을 여러 노드가 동시에 저장하여 카운터 행 생성이 겹친 경우, 생성된 행을 잠그고 다시 발급
+            log.debug("알림 순번 카운터 생성 충돌, 재시도 - 사용자: {}", userId);
+            return writeTransactionTemplate.execute(status -> appendInTransaction(userId, type, message, timestamp));
+        }
+    }
+
+    private Alarm appendInTransaction(String userId, AlarmType type, String message, LocalDateTime timestamp) {
+        UserAlarmCounter counter = userAlarmCounterRepository.findByIdWithLock(userId)
+            .orElseGet(() -> createCounter(userId));
+        long seq = counter.next();
+        userAlarmRepository.save(UserAlarm.builder()
+            .userId(userId)
+            .seq(seq)
+            .type(type)
+            .message(message)
+            .createdAt(timestamp)
+            .build());
+        return new Alarm(seq, type, message, timestamp);
+    }
+
+    /**
+     * 카운터 행 생성 (카운터 도입 이전 알림이 있으면 그 다음 순번부터, 기존 알림은 읽은 것으로 본다)
+     */
+    private UserAlarmCounter createCounter(String userId) {
+        Long maxSeq = userAlarmRepository.findMaxSeq(userId);
+        long lastSeq = maxSeq != null ? maxSeq : 0L;
+        return userAlarmCounterRepository.saveAndFlush(new UserAlarmCounter(userId, lastSeq, lastSeq));
+    }
+
+    @Override
+    public Cursor cursor(String userId) {
+        Cursor cursor = readOnlyTransactionTemplate.execute(status ->
+            userAlarmCounterRepository.findById(userId)
+                .map(counter -> new Cursor(counter.getLastSeq(), counter.getReadSeq()))
+                .orElse(Cursor.EMPTY));
+        return cursor != null ? cursor : Cursor.EMPTY;
+    }
+
+    @Override
+    public void markRead(String userId) {
+        writeTransactionTemplate.executeWithoutResult(status -> userAlarmCounterRepository.markAllRead(userId));
+    }
+
+    @Override
+    public List<Alarm> loadRecent(String userId, int limit) {
+        List<UserAlarm> rows = readOnlyTransactionTemplate.execute(status ->
+            userAlarmRepository.findByUserIdOrderBySeqDesc(userId, PageRequest.of(0, limit)));
+        if (rows == null || rows.isEmpty()) {
+            return List.of();
+        }
+        List<Alarm> alarms = new ArrayList<>(rows.size());
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            UserAlarm row = rows.get(i);
+            alarms.add(new Alarm(row.getSeq(), row.getType(), row.getMessage(), row.getCreatedAt()));
+        }
+        return alarms;
+    }
+}
@@ -3,6 +3,7 @@ package fintech2.easypay.auth.controller;
 import fintech2.easypay.auth.dto.LoginRequest;
 import fintech2.easypay.auth.dto.RegisterRequest;
 import fintech2.easypay.auth.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,8 +19,13 @@ public class AuthController {
         return authService.register(req);
     }
 
+    /**
+     * 로그인
+     * IP별 시도 제한의 키는 클라이언트가 보낸 X-Forwarded-For가 아니라 연결 주소를 쓴다.
+     * 프록시 뒤에서는 server.forward-headers-strategy=native로 신뢰하는 프록시가 전달한 헤더만 연결 주소에 반영된다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest req) {
-        return authService.login(req);
+    public ResponseEntity<?> login(@RequestBody LoginRequest req, HttpServletRequest request) {
+        return authService.login(req, request.getRemoteAddr(), request.getHeader("User-Agent"));
     }
 } 
\ No newline at end of file
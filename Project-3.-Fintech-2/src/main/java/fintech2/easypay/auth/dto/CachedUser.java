@@ -0,0 +1,34 @@
+package fintech2.easypay.auth.dto;
+
+import fintech2.easypay.auth.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 캐시 값 (엔티티와 분리된 불변 스냅샷)
+ * 로그인 실패 횟수처럼 자주 바뀌는 값은 담지 않고, 잠금 상태는 잠금/해제 시 캐시를 무효화하여 맞춘다.
+ */
+public record CachedUser(Long id, String phoneNumber, String password, String accountNumber,
+                         boolean locked, LocalDateTime lockExpiresAt, String lockReason) {
+
+    public static CachedUser from(User user) {
+        return new CachedUser(user.getId(), user.getPhoneNumber(), user.getPassword(), user.getAccountNumber(),
+                user.isLocked(), user.getLockExpiresAt(), user.getLockReason());
+    }
+
+    /**
+     * 잠금 여부 (잠금 만료 시각이 지났으면 해제된 것으로 본다)
+     */
+    public boolean isAccountLocked() {
+        return locked && (lockExpiresAt == null || LocalDateTime.now().isBefore(lockExpiresAt));
+    }
+
+    public UserPrincipal toPrincipal() {
+        return UserPrincipal.builder()
+                .id(id)
+                .phoneNumber(phoneNumber)
+                .password(password)
+                .accountNumber(accountNumber)
+                .build();
+    }
+}
@@ -3,7 +3,6 @@ package fintech2.easypay.auth.entity;
 import fintech2.easypay.common.LoginResult;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -14,9 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@IdClass(LoginHistoryId.class)
 public class LoginHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "login_history_seq")
+    @SequenceGenerator(name = "login_history_seq", sequenceName = "login_history_seq", allocationSize = 50)
     private Long id;
 
     private String phoneNumber;
@@ -31,6 +32,15 @@ public class LoginHistory {
     private Integer failCount;
     private boolean isLocked;
 
-    @CreationTimestamp
+    // 배치 기록 시점이 아닌 로그인 시점 (LoginHistoryService에서 지정), 월 파티션 키이자 PK 일부
+    @Id
+    @Column(nullable = false)
     private LocalDateTime loginAt;
+
+    @PrePersist
+    void assignLoginAt() {
+        if (loginAt == null) {
+            loginAt = LocalDateTime.now();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package fintech2.easypay.auth.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 이력 복합 키 (id, login_at) - 월 파티션 키를 포함하는 DB PK와 같은 구성
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LoginHistoryId implements Serializable {
+    private Long id;
+    private LocalDateTime loginAt;
+}
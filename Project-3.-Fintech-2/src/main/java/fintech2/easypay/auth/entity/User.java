@@ -1,14 +1,18 @@
 package fintech2.easypay.auth.entity;
 
 import fintech2.easypay.account.entity.VirtualAccount;
+import fintech2.easypay.auth.event.UserAuthStateChangedEvent;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.AbstractAggregateRoot;
+
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "users")
 @Getter @Setter @NoArgsConstructor @Builder @AllArgsConstructor
-public class User {
+public class User extends AbstractAggregateRoot<User> {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -42,16 +46,48 @@ public class User {
         return null;
     }
 
+    /**
+     * 가입 처리 (저장 시 이전에 캐시된 '없는 사용자' 조회 결과 무효화)
+     */
+    public void markRegistered() {
+        registerEvent(new UserAuthStateChangedEvent(id, phoneNumber));
+    }
+
+    /**
+     * 비밀번호 재해시 (그 사이 비밀번호가 바뀌지 않은 경우에만, 저장 시 캐시된 해시 무효화)
+     */
+    public void upgradePassword(String currentHash, String upgradedHash) {
+        if (Objects.equals(this.password, currentHash)) {
+            this.password = upgradedHash;
+            registerEvent(new UserAuthStateChangedEvent(id, phoneNumber));
+        }
+    }
+
     public void incrementLoginFailCount() {
         this.loginFailCount++;
         if (this.loginFailCount >= 5) {
-            this.isLocked = true;
-            this.lockExpiresAt = LocalDateTime.now().plusMinutes(30);
-            this.lockReason = "로그인 5회 실패로 인한 계정 잠금";
+            lockAfterFailures(this.loginFailCount);
         }
     }
 
+    /**
+     * 로그인 연속 실패로 계정 잠금 (실패 횟수는 메모리에서 세고 잠금 시점에만 저장)
+     */
+    public void lockAfterFailures(int failCount) {
+        if (!isAccountLocked()) {
+            // 잠금 전환 시에만 캐시 무효화 이벤트 (저장 시 발행)
+            registerEvent(new UserAuthStateChangedEvent(id, phoneNumber));
+        }
+        this.loginFailCount = failCount;
+        this.isLocked = true;
+        this.lockExpiresAt = LocalDateTime.now().plusMinutes(30);
+        this.lockReason = "로그인 " + failCount + "회 실패로 인한 계정 잠금";
+    }
+
     public void resetLoginFailCount() {
+        if (this.isLocked) {
+            registerEvent(new UserAuthStateChangedEvent(id, phoneNumber));
+        }
         this.loginFailCount = 0;
         this.isLocked = false;
         this.lockExpiresAt = null;
@@ -0,0 +1,8 @@
+package fintech2.easypay.auth.event;
+
+/**
+ * 사용자 인증 상태 변경 이벤트 (가입, 계정 잠금/해제)
+ * User 저장 시 도메인 이벤트로 발행되며 커밋 이후 사용자 캐시를 무효화한다.
+ */
+public record UserAuthStateChangedEvent(Long userId, String phoneNumber) {
+}
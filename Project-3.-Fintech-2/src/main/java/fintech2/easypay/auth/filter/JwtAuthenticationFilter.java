@@ -2,6 +2,8 @@ package fintech2.easypay.auth.filter;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.service.JwtService;
+import fintech2.easypay.auth.service.TokenRevocationCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,8 +23,13 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // EventSource는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터 토큰을 허용하는 경로
+    private static final String ALARM_STREAM_PATH = "/api/alarms/stream";
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationCache tokenRevocationCache;
 
     @Override
     protected void doFilterInternal(
@@ -35,27 +42,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt;
         final String phoneNumber;
         
-        // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 다음 필터로
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            // Bearer 제거하고 JWT 토큰 추출
+            jwt = authHeader.substring(7);
+        } else if (ALARM_STREAM_PATH.equals(request.getServletPath())
+                && request.getParameter(ACCESS_TOKEN_PARAM) != null) {
+            jwt = request.getParameter(ACCESS_TOKEN_PARAM);
+        } else {
+            // 토큰이 없으면 다음 필터로
             filterChain.doFilter(request, response);
             return;
         }
         
-        // Bearer 제거하고 JWT 토큰 추출
-        jwt = authHeader.substring(7);
-        
         try {
-            // JWT에서 휴대폰 번호 추출
-            phoneNumber = jwtService.extractPhoneNumber(jwt);
+            // 서명/만료 검증은 요청당 한 번만 수행하고 이후 검사는 Claims로 처리
+            Claims claims = jwtService.parseToken(jwt);
+            phoneNumber = claims.getSubject();
             
             // 휴대폰 번호가 있고, 현재 인증된 사용자가 없으면
             if (phoneNumber != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
-                // 사용자 정보 조회
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(phoneNumber);
+                // 검증된 Claims로 사용자 정보 구성 (사용자 ID가 없는 이전 형식 토큰만 DB 조회)
+                UserDetails userDetails = jwtService.toPrincipal(claims);
+                if (userDetails == null) {
+                    userDetails = this.userDetailsService.loadUserByUsername(phoneNumber);
+                }
                 
-                // JWT 토큰이 유효하면 인증 설정
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                // JWT 토큰이 유효하고 로그아웃/계정 잠금으로 폐기되지 않았으면 인증 설정
+                if (jwtService.isTokenValid(claims, userDetails) && !isRevoked(userDetails, claims)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -72,4 +86,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+
+    private boolean isRevoked(UserDetails userDetails, Claims claims) {
+        return userDetails instanceof UserPrincipal principal
+                && tokenRevocationCache.isRevoked(principal.getId(), claims.getIssuedAt());
+    }
 } 
\ No newline at end of file
@@ -1,12 +1,14 @@
 package fintech2.easypay.auth.repository;
 
 import fintech2.easypay.auth.entity.LoginHistory;
+import fintech2.easypay.auth.entity.LoginHistoryId;
+import fintech2.easypay.retention.AppendOnlyHistoryRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface LoginHistoryRepository extends JpaRepository<LoginHistory, Long> {
+public interface LoginHistoryRepository extends JpaRepository<LoginHistory, LoginHistoryId>, AppendOnlyHistoryRepository<LoginHistory> {
     List<LoginHistory> findByPhoneNumberOrderByLoginAtDesc(String phoneNumber);
     List<LoginHistory> findByUserIdOrderByLoginAtDesc(Long userId);
 } 
\ No newline at end of file
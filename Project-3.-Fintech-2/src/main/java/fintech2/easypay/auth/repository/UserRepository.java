@@ -2,6 +2,8 @@ package fintech2.easypay.auth.repository;
 
 import fintech2.easypay.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,10 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     boolean existsByPhoneNumber(String phoneNumber);
+
+    /**
+     * 계좌번호로 소유자 ID만 조회 (이체 입금 알림 대상 확인용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
 } 
\ No newline at end of file
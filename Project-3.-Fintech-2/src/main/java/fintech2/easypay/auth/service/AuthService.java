@@ -1,6 +1,8 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.auth.dto.CachedUser;
 import fintech2.easypay.auth.dto.LoginRequest;
+import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.dto.RegisterRequest;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
@@ -8,12 +10,12 @@ import fintech2.easypay.account.entity.AccountBalance;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.AlarmService;
-import lombok.RequiredArgsConstructor;
+import fintech2.easypay.common.exception.ServiceOverloadedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,25 +24,56 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+/**
+ * 회원가입/로그인
+ * 비밀번호 해시는 PasswordHashingService의 전용 스레드에서 트랜잭션을 열기 전에 처리하여
+ * 해시 계산 동안 DB 커넥션을 잡지 않는다. 해시 처리 용량을 넘으면 503으로 거절한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final AccountBalanceRepository accountBalanceRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
+    private final TokenRevocationCache tokenRevocationCache;
     private final LoginHistoryService loginHistoryService;
     private final AuditLogService auditLogService;
     private final AlarmService alarmService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final TransactionTemplate transactionTemplate;
 
     private static final Pattern PHONE_PATTERN = Pattern.compile("^010-\\d{4}-\\d{4}$");
 
-    @Transactional
+    public AuthService(UserRepository userRepository,
+                       UserCache userCache,
+                       AccountBalanceRepository accountBalanceRepository,
+                       PasswordHashingService passwordHashingService,
+                       JwtService jwtService,
+                       TokenRevocationCache tokenRevocationCache,
+                       LoginHistoryService loginHistoryService,
+                       AuditLogService auditLogService,
+                       AlarmService alarmService,
+                       LoginAttemptLimiter loginAttemptLimiter,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtService = jwtService;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.loginHistoryService = loginHistoryService;
+        this.auditLogService = auditLogService;
+        this.alarmService = alarmService;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     public ResponseEntity<?> register(RegisterRequest req) {
         try {
             // 유효성 검사
             // 1. 휴대폰 번호 중복 체크
-            if (userRepository.findByPhoneNumber(req.getPhoneNumber()).isPresent()) {
+            if (userCache.findByPhoneNumber(req.getPhoneNumber()).isPresent()) {
                 auditLogService.logWarning(null, "REGISTER_ATTEMPT", "USER", req.getPhoneNumber(), "중복된 휴대폰 번호로 가입 시도");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "DUPLICATE_PHONE", "message", "이미 가입된 휴대폰 번호입니다"));
@@ -55,25 +88,28 @@ public class AuthService {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "INVALID_PHONE", "message", "휴대폰 번호 형식이 올바르지 않습니다"));
             }
-            // 4. 비밀번호 암호화
-            String encoded = passwordEncoder.encode(req.getPassword());
+            // 4. 비밀번호 암호화 (트랜잭션 밖, 전용 스레드)
+            String encoded = passwordHashingService.encode(req.getPassword());
             // 5. 가상계좌번호 생성
             String accountNumber = generateAccountNumber();
-            // 6. User 저장
+            // 6. User, AccountBalance 저장
             User user = new User();
             user.setPhoneNumber(req.getPhoneNumber());
             user.setPassword(encoded);
             user.setName(req.getName());
             user.setAccountNumber(accountNumber);
-            userRepository.save(user);
-            // 7. AccountBalance 생성
-            AccountBalance accountBalance = AccountBalance.builder()
-                    .accountNumber(accountNumber)
-                    .balance(BigDecimal.ZERO)
-                    .build();
-            accountBalanceRepository.save(accountBalance);
+            user.markRegistered();
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.save(user);
+                // 7. AccountBalance 생성
+                AccountBalance accountBalance = AccountBalance.builder()
+                        .accountNumber(accountNumber)
+                        .balance(BigDecimal.ZERO)
+                        .build();
+                accountBalanceRepository.save(accountBalance);
+            });
             // 8. JWT 발급
-            String jwt = jwtService.generateAccessToken(user.getPhoneNumber());
+            String jwt = jwtService.generateAccessToken(UserPrincipal.from(user));
             // 9. 감사로그 기록
             auditLogService.logSuccess(user.getId(), "USER_REGISTER", "USER", user.getId().toString(), 
                     null, "회원가입 완료 - 계좌번호: " + accountNumber);
@@ -83,6 +119,8 @@ public class AuthService {
             resp.put("accessToken", jwt);
             resp.put("accountNumber", accountNumber);
             return ResponseEntity.status(HttpStatus.CREATED).body(resp);
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             auditLogService.logError(null, "USER_REGISTER", "USER", req.getPhoneNumber(), "회원가입 실패: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -90,73 +128,67 @@ public class AuthService {
         }
     }
 
-    @Transactional
     public ResponseEntity<?> login(LoginRequest req) {
-        String ipAddress = "127.0.0.1"; // 실제로는 HttpServletRequest에서 추출
-        String userAgent = "Browser"; // 실제로는 HttpServletRequest에서 추출
+        return login(req, "127.0.0.1", "Browser");
+    }
+
+    /**
+     * 로그인
+     * 시도 제한에 걸리면 사용자 조회/BCrypt/DB 기록 없이 429로 거절하고,
+     * 비밀번호 실패 횟수는 메모리에서 세어 잠금 전환 시에만 사용자 정보를 저장한다.
+     */
+    public ResponseEntity<?> login(LoginRequest req, String ipAddress, String userAgent) {
+        // 필수 값 검증 (빈 값은 시도 제한 키로 쓰지 않고 400으로 거절)
+        if (req.getPhoneNumber() == null || req.getPhoneNumber().isBlank()
+                || req.getPassword() == null || req.getPassword().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "INVALID_REQUEST", "message", "휴대폰 번호와 비밀번호를 입력해주세요"));
+        }
+        // 시도 빈도 제한 (휴대폰 번호, IP)
+        loginAttemptLimiter.acquire(req.getPhoneNumber(), ipAddress);
         
         try {
-            Optional<User> userOpt = userRepository.findByPhoneNumber(req.getPhoneNumber());
-            if (userOpt.isEmpty()) {
+            // 없는 계정/잠긴 계정은 캐시만으로 거절 (DB 조회 없음)
+            Optional<CachedUser> cachedOpt = userCache.findByPhoneNumber(req.getPhoneNumber());
+            if (cachedOpt.isEmpty()) {
                 // 계정 없음 이력 기록
-                loginHistoryService.recordLoginFailure(req.getPhoneNumber(), null, "존재하지 않는 계정", ipAddress, userAgent, 0, false);
-                auditLogService.logWarning(null, "LOGIN_ATTEMPT", "USER", req.getPhoneNumber(), "존재하지 않는 계정으로 로그인 시도");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "INVALID_CREDENTIALS", "message", "휴대폰 번호 또는 비밀번호가 올바르지 않습니다"));
+                loginHistoryService.recordAccountNotFound(req.getPhoneNumber(), userAgent, ipAddress);
+                return invalidCredentials();
+            }
+            CachedUser cached = cachedOpt.get();
+            if (cached.isAccountLocked()) {
+                return accountLocked(req.getPhoneNumber(), cached.id(), cached.lockReason(), ipAddress, userAgent);
             }
             
-            User user = userOpt.get();
-            
-            // 계정 잠금 확인
-            if (user.isAccountLocked()) {
-                loginHistoryService.recordAccountLocked(req.getPhoneNumber(), user.getId(), user.getLockReason(), ipAddress, userAgent);
-                auditLogService.logWarning(user.getId(), "LOGIN_BLOCKED", "USER", user.getId().toString(), "계정 잠금으로 로그인 차단");
-                
-                // 계정 잠금 알림 발송
-                alarmService.sendAccountLockAlert(req.getPhoneNumber(), user.getId().toString(), user.getLockReason());
-                
-                return ResponseEntity.status(HttpStatus.LOCKED)
-                        .body(Map.of("error", "ACCOUNT_LOCKED", "message", "계정이 잠겨있습니다"));
+            // 비밀번호 검증 (트랜잭션 밖, 전용 스레드)
+            if (!passwordHashingService.matches(req.getPassword(), cached.password())) {
+                return loginFailed(req.getPhoneNumber(), cached, ipAddress, userAgent);
             }
+            loginAttemptLimiter.reset(req.getPhoneNumber());
+            // 저장된 해시가 현재 설정보다 약하면 새 해시도 트랜잭션 밖에서 계산
+            String upgradedHash = upgradeHash(req.getPassword(), cached.password());
             
-            // 비밀번호 검증
-            if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
-                // 로그인 실패 처리
-                user.incrementLoginFailCount();
-                userRepository.save(user);
-                
-                loginHistoryService.recordLoginFailure(req.getPhoneNumber(), user.getId(), "잘못된 비밀번호", 
-                        ipAddress, userAgent, user.getLoginFailCount(), user.isAccountLocked());
+            return transactionTemplate.execute(status -> {
+                Optional<User> userOpt = userRepository.findById(cached.id());
+                if (userOpt.isEmpty()) {
+                    loginHistoryService.recordAccountNotFound(req.getPhoneNumber(), userAgent, ipAddress);
+                    return invalidCredentials();
+                }
+                User user = userOpt.get();
                 
-                auditLogService.logWarning(user.getId(), "LOGIN_FAIL", "USER", user.getId().toString(), 
-                        "로그인 실패 - 실패 횟수: " + user.getLoginFailCount());
+                // 계정 잠금 확인 (캐시 무효화 전에 잠긴 경우)
+                if (user.isAccountLocked()) {
+                    return accountLocked(req.getPhoneNumber(), user.getId(), user.getLockReason(), ipAddress, userAgent);
+                }
                 
-                // 로그인 실패 알림 발송
-                alarmService.sendLoginFailureAlert(req.getPhoneNumber(), user.getId().toString(), "잘못된 비밀번호");
-                
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "INVALID_CREDENTIALS", "message", "휴대폰 번호 또는 비밀번호가 올바르지 않습니다"));
-            }
-            
-            // 로그인 성공
-            user.resetLoginFailCount();
-            userRepository.save(user);
-            
-            String jwt = jwtService.generateAccessToken(user.getPhoneNumber());
-            
-            // 로그인 성공 이력 기록
-            loginHistoryService.recordLoginSuccess(req.getPhoneNumber(), user.getId(), ipAddress, userAgent);
-            auditLogService.logSuccess(user.getId(), "USER_LOGIN", "USER", user.getId().toString(), null, "로그인 성공");
-            
-            // 로그인 성공 알림 생성
-            String loginTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분"));
-            alarmService.sendBusinessEvent("LOGIN_SUCCESS", user.getId().toString(), 
-                String.format("로그인 성공 - %s에 로그인되었습니다", loginTime));
-            
-            Map<String, Object> resp = new HashMap<>();
-            resp.put("accessToken", jwt);
-            return ResponseEntity.ok(resp);
+                if (upgradedHash != null) {
+                    user.upgradePassword(cached.password(), upgradedHash);
+                }
+                return loginSucceeded(req.getPhoneNumber(), user, ipAddress, userAgent);
+            });
             
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             auditLogService.logError(null, "USER_LOGIN", "USER", req.getPhoneNumber(), "로그인 처리 오류: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -164,6 +196,87 @@ public class AuthService {
         }
     }
 
+    private String upgradeHash(String rawPassword, String encodedPassword) {
+        if (!passwordHashingService.upgradeEncoding(encodedPassword)) {
+            return null;
+        }
+        try {
+            return passwordHashingService.encode(rawPassword);
+        } catch (ServiceOverloadedException e) {
+            // 재해시는 다음 로그인으로 미룬다 (로그인 자체는 성공 처리)
+            return null;
+        }
+    }
+
+    private ResponseEntity<?> loginFailed(String phoneNumber, CachedUser cached, String ipAddress, String userAgent) {
+        int failCount = loginAttemptLimiter.recordFailure(phoneNumber);
+        boolean locked = loginAttemptLimiter.shouldLock(failCount) && lockAccount(phoneNumber, cached.id(), failCount);
+        
+        loginHistoryService.recordLoginFailure(phoneNumber, cached.id(), userAgent, ipAddress,
+                "잘못된 비밀번호", failCount, locked);
+        return invalidCredentials();
+    }
+
+    /**
+     * 잠금 전환 (실패가 잠금 기준에 도달한 시점에만 사용자 정보 저장, 감사로그, 알림)
+     */
+    private boolean lockAccount(String phoneNumber, Long userId, int failCount) {
+        Boolean locked = transactionTemplate.execute(status -> {
+            Optional<User> userOpt = userRepository.findById(userId);
+            if (userOpt.isEmpty()) {
+                return false;
+            }
+            User user = userOpt.get();
+            user.lockAfterFailures(failCount);
+            userRepository.save(user);
+            // 잠긴 계정의 기존 Access Token도 거부
+            tokenRevocationCache.revokeAll(user.getId());
+            
+            auditLogService.logWarning(user.getId(), "ACCOUNT_LOCK", "USER", user.getId().toString(), 
+                    "로그인 " + failCount + "회 실패로 계정 잠금");
+            alarmService.sendAccountLockAlert(user.getPhoneNumber(), user.getId().toString(), user.getLockReason());
+            return true;
+        });
+        // 잠금 해제 후에는 실패 횟수를 다시 센다
+        loginAttemptLimiter.reset(phoneNumber);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    private ResponseEntity<?> loginSucceeded(String phoneNumber, User user, String ipAddress, String userAgent) {
+        // 이미 초기화된 사용자는 변경 사항이 없어 UPDATE가 실행되지 않음
+        user.resetLoginFailCount();
+        userRepository.save(user);
+        
+        String jwt = jwtService.generateAccessToken(UserPrincipal.from(user));
+        
+        // 로그인 성공 이력 기록
+        loginHistoryService.recordLoginSuccess(phoneNumber, user.getId(), userAgent, ipAddress);
+        auditLogService.logSuccess(user.getId(), "USER_LOGIN", "USER", user.getId().toString(), null, "로그인 성공");
+        
+        // 로그인 성공 알림 생성
+        String loginTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분"));
+        alarmService.sendBusinessEvent("LOGIN_SUCCESS", user.getId().toString(), 
+            String.format("로그인 성공 - %s에 로그인되었습니다", loginTime));
+        
+        Map<String, Object> resp = new HashMap<>();
+        resp.put("accessToken", jwt);
+        return ResponseEntity.ok(resp);
+    }
+
+    private static ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "INVALID_CREDENTIALS", "message", "휴대폰 번호 또는 비밀번호가 올바르지 않습니다"));
+    }
+
+    private ResponseEntity<?> accountLocked(String phoneNumber, Long userId, String lockReason,
+                                            String ipAddress, String userAgent) {
+        // 잠금 알림/감사로그는 잠금 전환 시 한 번만 남기고, 잠긴 동안의 시도는 이력만 기록
+        loginHistoryService.recordAccountLocked(phoneNumber, userId, userAgent, ipAddress, lockReason);
+        
+        return ResponseEntity.status(HttpStatus.LOCKED)
+                .body(Map.of("error", "ACCOUNT_LOCKED", "message", "계정이 잠겨있습니다"));
+    }
+
     private String generateAccountNumber() {
         // 예시: VA + 8자리 랜덤 + 2자리 체크섬
         String num = String.valueOf((long)(Math.random() * 1_0000_0000L) + 10_000_000L);
@@ -1,34 +1,23 @@
 package fintech2.easypay.auth.service;
 
-import fintech2.easypay.auth.dto.UserPrincipal;
-import fintech2.easypay.auth.entity.User;
-import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.auth.dto.CachedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String phoneNumber) throws UsernameNotFoundException {
-        User user = userRepository.findByPhoneNumber(phoneNumber)
+        // 엔티티 대신 캐시된 스냅샷으로 UserPrincipal 생성
+        return userCache.findByPhoneNumber(phoneNumber)
+                .map(CachedUser::toPrincipal)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + phoneNumber));
-        
-        // Hibernate 세션 문제를 피하기 위해 직접 UserPrincipal 생성
-        return UserPrincipal.builder()
-                .id(user.getId())
-                .phoneNumber(user.getPhoneNumber())
-                .password(user.getPassword())
-                .accountNumber(user.getVirtualAccount() != null ? 
-                    user.getVirtualAccount().getAccountNumber() : null)
-                .build();
     }
-} 
\ No newline at end of file
+}
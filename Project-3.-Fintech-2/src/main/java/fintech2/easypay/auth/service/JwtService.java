@@ -1,8 +1,9 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.auth.dto.UserPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -10,43 +11,95 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * JWT 발급/검증
+ * 서명 키와 파서는 기동 시 한 번만 만들어 재사용한다 (JwtParser는 불변이라 스레드 안전).
+ * 요청마다 parseToken으로 한 번만 서명을 검증하고, 이후 검사는 얻은 Claims로 처리한다.
+ * Access Token에 사용자 ID와 계좌번호를 담아 요청마다 사용자를 DB에서 다시 조회하지 않는다.
+ */
 @Service
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
-    private String secretKey;
+    static final String USER_ID_CLAIM = "uid";
+    static final String ACCOUNT_NUMBER_CLAIM = "acct";
 
-    @Value("${jwt.expiration:86400000}") // 24시간
-    private long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
 
+    public JwtService(@Value("${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}") String secretKey,
+                      @Value("${jwt.expiration:86400000}") long jwtExpiration) { // 24시간
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    /**
+     * 휴대폰 번호만 담은 토큰 (필터가 사용자를 DB에서 조회)
+     */
     public String generateAccessToken(String phoneNumber) {
         return generateToken(new HashMap<>(), phoneNumber, jwtExpiration);
     }
 
+    /**
+     * 사용자 ID와 계좌번호를 담은 토큰 (필터가 Claims만으로 인증 정보 구성)
+     */
+    public String generateAccessToken(UserPrincipal principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, principal.getId());
+        if (principal.getAccountNumber() != null) {
+            claims.put(ACCOUNT_NUMBER_CLAIM, principal.getAccountNumber());
+        }
+        return generateToken(claims, principal.getPhoneNumber(), jwtExpiration);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, String subject, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .setClaims(extraClaims)
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .claims(extraClaims)
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * 서명과 만료를 검증하고 Claims 반환 (요청당 한 번만 호출)
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 검증된 Claims로 UserPrincipal 구성 (사용자 ID가 없는 이전 형식 토큰이면 null)
+     */
+    public UserPrincipal toPrincipal(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (!(userId instanceof Number id)) {
+            return null;
+        }
+        return UserPrincipal.builder()
+                .id(id.longValue())
+                .phoneNumber(claims.getSubject())
+                .accountNumber(claims.get(ACCOUNT_NUMBER_CLAIM, String.class))
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseToken(token));
     }
 
     public String extractPhoneNumber(String token) {
@@ -57,25 +110,18 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 이미 검증된 Claims로 사용자 일치 여부와 만료 확인 (서명을 다시 검증하지 않음)
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(parseToken(token), userDetails);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package fintech2.easypay.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 제한 (메모리)
+ * 휴대폰 번호별, IP별 토큰 버킷으로 시도 빈도를 제한하고, 휴대폰 번호별 최근 실패 시각을 슬라이딩 윈도우로 센다.
+ * 제한에 걸린 시도는 사용자 조회, BCrypt, DB 기록 없이 429로 거절하고 auth.login.rejected로만 집계한다.
+ * 키 수는 최대 max-keys로 제한되며, 한동안 시도가 없는 키는 자동으로 제거된다.
+ * (단일 인스턴스 기준, 여러 인스턴스면 인스턴스 수만큼 허용량이 늘어난다)
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Cache<String, TokenBucket> phoneBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, FailureWindow> failures;
+    private final int phoneCapacity;
+    private final double phoneRefillPerNano;
+    private final int ipCapacity;
+    private final double ipRefillPerNano;
+    private final int maxFailures;
+    private final long failureWindowNanos;
+    private final LongSupplier nanoClock;
+    private final Counter phoneRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    @Autowired
+    public LoginAttemptLimiter(MeterRegistry meterRegistry,
+                               @Value("${auth.login-limit.phone.capacity:5}") int phoneCapacity,
+                               @Value("${auth.login-limit.phone.refill-per-minute:5}") int phoneRefillPerMinute,
+                               @Value("${auth.login-limit.ip.capacity:30}") int ipCapacity,
+                               @Value("${auth.login-limit.ip.refill-per-minute:60}") int ipRefillPerMinute,
+                               @Value("${auth.login-limit.failure.max:5}") int maxFailures,
+                               @Value("${auth.login-limit.failure.window-seconds:900}") long failureWindowSeconds,
+                               @Value("${auth.login-limit.max-keys:100000}") long maxKeys) {
+        this(meterRegistry, phoneCapacity, phoneRefillPerMinute, ipCapacity, ipRefillPerMinute,
+            maxFailures, failureWindowSeconds, maxKeys, System::nanoTime);
+    }
+
+    LoginAttemptLimiter(MeterRegistry meterRegistry, int phoneCapacity, int phoneRefillPerMinute,
+                        int ipCapacity, int ipRefillPerMinute, int maxFailures, long failureWindowSeconds,
+                        long maxKeys, LongSupplier nanoClock) {
+        this.phoneCapacity = phoneCapacity;
+        this.phoneRefillPerNano = phoneRefillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = ipRefillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.maxFailures = maxFailures;
+        this.failureWindowNanos = Duration.ofSeconds(failureWindowSeconds).toNanos();
+        this.nanoClock = nanoClock;
+        // 버킷은 가득 찰 때까지 시도가 없으면 새로 만든 것과 같으므로 그 시간 동안만 유지
+        this.phoneBuckets = newCache(maxKeys, refillDuration(phoneCapacity, phoneRefillPerMinute));
+        this.ipBuckets = newCache(maxKeys, refillDuration(ipCapacity, ipRefillPerMinute));
+        this.failures = newCache(maxKeys, Duration.ofSeconds(failureWindowSeconds));
+        this.phoneRejectedCounter = Counter.builder("auth.login.rejected").tag("key", "phone")
+            .description("휴대폰 번호별 시도 제한으로 거절된 로그인 수").register(meterRegistry);
+        this.ipRejectedCounter = Counter.builder("auth.login.rejected").tag("key", "ip")
+            .description("IP별 시도 제한으로 거절된 로그인 수").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 1회 허용 여부 확인 (허용 시 휴대폰 번호, IP 버킷에서 토큰 1개씩 사용)
+     * @throws RateLimitExceededException 어느 한쪽 버킷이라도 비어 있는 경우
+     * @throws IllegalArgumentException 휴대폰 번호가 없는 경우
+     */
+    public void acquire(String phoneNumber, String ipAddress) {
+        if (phoneNumber == null) {
+            throw new IllegalArgumentException("휴대폰 번호가 필요합니다");
+        }
+        long now = nanoClock.getAsLong();
+        if (ipAddress != null) {
+            long waitNanos = ipBuckets.get(ipAddress, key -> new TokenBucket(ipCapacity, ipRefillPerNano, now))
+                .tryConsume(now);
+            if (waitNanos > 0) {
+                ipRejectedCounter.increment();
+                throw new RateLimitExceededException("IP별 로그인 시도 제한 초과", retryAfterSeconds(waitNanos));
+            }
+        }
+        long waitNanos = phoneBuckets.get(phoneNumber, key -> new TokenBucket(phoneCapacity, phoneRefillPerNano, now))
+            .tryConsume(now);
+        if (waitNanos > 0) {
+            phoneRejectedCounter.increment();
+            throw new RateLimitExceededException("휴대폰 번호별 로그인 시도 제한 초과", retryAfterSeconds(waitNanos));
+        }
+    }
+
+    /**
+     * 비밀번호 불일치 기록
+     * @return 윈도우 안의 실패 횟수 (이번 실패 포함)
+     */
+    public int recordFailure(String phoneNumber) {
+        long now = nanoClock.getAsLong();
+        return failures.get(phoneNumber, key -> new FailureWindow(maxFailures)).record(now, failureWindowNanos);
+    }
+
+    /**
+     * 실패 횟수가 잠금 기준에 도달했는지
+     */
+    public boolean shouldLock(int failureCount) {
+        return failureCount >= maxFailures;
+    }
+
+    /**
+     * 로그인 성공 또는 계정 잠금 시 실패 기록 초기화
+     */
+    public void reset(String phoneNumber) {
+        failures.invalidate(phoneNumber);
+    }
+
+    private static <V> Cache<String, V> newCache(long maxKeys, Duration expireAfterAccess) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(expireAfterAccess)
+            .build();
+    }
+
+    private static Duration refillDuration(int capacity, int refillPerMinute) {
+        long seconds = (long) Math.ceil(capacity * 60.0 / Math.max(1, refillPerMinute));
+        return Duration.ofSeconds(Math.max(1, seconds));
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (long) Math.ceil(waitNanos / 1_000_000_000.0));
+    }
+
+    /**
+     * 토큰 버킷 (용량만큼 연속 시도 허용, 이후 초당 일정량씩 보충)
+     */
+    static final class TokenBucket {
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int capacity, double refillPerNano, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        /**
+         * @return 0이면 토큰 사용 성공, 아니면 다음 토큰까지 남은 시간(ns)
+         */
+        synchronized long tryConsume(long now) {
+            if (now > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+                lastRefillNanos = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return refillPerNano > 0 ? (long) Math.ceil((1 - tokens) / refillPerNano) : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 최근 실패 시각 링 버퍼 (잠금 기준 횟수만큼만 보관)
+     */
+    static final class FailureWindow {
+        private final long[] timestamps;
+        private int next;
+        private int size;
+
+        FailureWindow(int maxFailures) {
+            this.timestamps = new long[Math.max(1, maxFailures)];
+        }
+
+        synchronized int record(long now, long windowNanos) {
+            timestamps[next] = now;
+            next = (next + 1) % timestamps.length;
+            size = Math.min(size + 1, timestamps.length);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (now - timestamps[i] < windowNanos) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
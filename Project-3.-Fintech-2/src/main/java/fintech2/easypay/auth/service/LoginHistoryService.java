@@ -2,24 +2,26 @@ package fintech2.easypay.auth.service;
 
 import fintech2.easypay.auth.entity.LoginHistory;
 import fintech2.easypay.auth.entity.User;
-import fintech2.easypay.auth.repository.LoginHistoryRepository;
 import fintech2.easypay.common.LoginResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 
+/**
+ * 로그인 이력 기록
+ * 이력은 LoginHistoryWriter 큐에 넣기만 하고 백그라운드에서 배치로 저장하므로 로그인 응답 시간에 insert가 포함되지 않는다.
+ * 로그인 시각은 큐에 넣는 시점으로 기록한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoginHistoryService {
 
-    private final LoginHistoryRepository loginHistoryRepository;
+    private final LoginHistoryWriter loginHistoryWriter;
 
-    @Transactional
     public void recordLoginSuccess(String phoneNumber, Long userId, String userAgent, String ipAddress) {
         LoginHistory history = LoginHistory.builder()
                 .phoneNumber(phoneNumber)
@@ -30,17 +32,15 @@ public class LoginHistoryService {
                 .loginAt(LocalDateTime.now())
                 .build();
         
-        loginHistoryRepository.save(history);
+        loginHistoryWriter.offer(history);
         log.info("로그인 성공 기록: 사용자 ID {}, IP {}", userId, ipAddress);
     }
 
-    @Transactional
     public void recordLoginSuccess(User user, HttpServletRequest request) {
         recordLoginSuccess(user.getPhoneNumber(), user.getId(), 
             request.getHeader("User-Agent"), getClientIpAddress(request));
     }
 
-    @Transactional
     public void recordLoginFailure(String phoneNumber, Long userId, String userAgent, String ipAddress, String reason, int failCount, boolean isLocked) {
         LoginHistory history = LoginHistory.builder()
                 .phoneNumber(phoneNumber)
@@ -54,16 +54,14 @@ public class LoginHistoryService {
                 .loginAt(LocalDateTime.now())
                 .build();
         
-        loginHistoryRepository.save(history);
+        loginHistoryWriter.offer(history);
         log.warn("로그인 실패 기록: 사용자 ID {}, IP {}, 사유: {}", userId, ipAddress, reason);
     }
 
-    @Transactional
     public void recordLoginFailure(String phoneNumber, Long userId, String userAgent, HttpServletRequest request, int failCount, boolean isLocked) {
         recordLoginFailure(phoneNumber, userId, userAgent, getClientIpAddress(request), "비밀번호 불일치", failCount, isLocked);
     }
 
-    @Transactional
     public void recordAccountNotFound(String phoneNumber, String userAgent, String ipAddress) {
         LoginHistory history = LoginHistory.builder()
                 .phoneNumber(phoneNumber)
@@ -74,16 +72,14 @@ public class LoginHistoryService {
                 .loginAt(LocalDateTime.now())
                 .build();
         
-        loginHistoryRepository.save(history);
+        loginHistoryWriter.offer(history);
         log.warn("계정 없음 기록: 전화번호 {}, IP {}", phoneNumber, ipAddress);
     }
 
-    @Transactional
     public void recordAccountNotFound(String phoneNumber, HttpServletRequest request) {
         recordAccountNotFound(phoneNumber, request.getHeader("User-Agent"), getClientIpAddress(request));
     }
 
-    @Transactional
     public void recordAccountLocked(String phoneNumber, Long userId, String userAgent, String ipAddress, String reason) {
         LoginHistory history = LoginHistory.builder()
                 .phoneNumber(phoneNumber)
@@ -96,26 +92,20 @@ public class LoginHistoryService {
                 .loginAt(LocalDateTime.now())
                 .build();
         
-        loginHistoryRepository.save(history);
+        loginHistoryWriter.offer(history);
         log.warn("계정 잠금 기록: 사용자 ID {}, IP {}, 사유: {}", userId, ipAddress, reason);
     }
 
-    @Transactional
     public void recordAccountLocked(String phoneNumber, Long userId, String userAgent, HttpServletRequest request) {
         recordAccountLocked(phoneNumber, userId, userAgent, getClientIpAddress(request), "로그인 5회 연속 실패");
     }
 
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0];
-        }
-        
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            return xRealIp;
-        }
-        
+    /**
+     * 클라이언트 IP (연결 주소)
+     * X-Forwarded-For/X-Real-IP는 클라이언트가 임의로 넣을 수 있으므로 직접 읽지 않고,
+     * 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 보낸 경우에만 컨테이너가 연결 주소에 반영한다.
+     */
+    public static String getClientIpAddress(HttpServletRequest request) {
         return request.getRemoteAddr();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.auth.entity.LoginHistory;
+import fintech2.easypay.auth.repository.LoginHistoryRepository;
+import fintech2.easypay.common.batch.AsyncBatchWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 로그인 이력 비동기 배치 기록기
+ * 로그인 처리 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 로그인 트랜잭션과 분리된 트랜잭션에서
+ * saveAll로 모아 기록한다 (시퀀스 allocationSize와 hibernate.jdbc.batch_size로 JDBC 배치 insert).
+ * 큐가 넘치면 이력을 버리고 login.history.events{result=dropped}로 집계한다.
+ * 종료 시 큐에 남은 이력을 모두 기록한다.
+ */
+@Component
+@Slf4j
+public class LoginHistoryWriter extends AsyncBatchWriter<LoginHistory> {
+
+    private final LoginHistoryRepository loginHistoryRepository;
+    private final TransactionTemplate writeTransactionTemplate;
+
+    public LoginHistoryWriter(LoginHistoryRepository loginHistoryRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${login.history.async.capacity:10000}") int capacity,
+                              @Value("${login.history.async.batch-size:200}") int batchSize,
+                              @Value("${login.history.async.flush-interval-ms:500}") long flushIntervalMs,
+                              @Value("${login.history.async.offer-timeout-ms:0}") long offerTimeoutMs) {
+        super("login-history", capacity, batchSize, flushIntervalMs, offerTimeoutMs);
+        this.loginHistoryRepository = loginHistoryRepository;
+
+        // 호출자 트랜잭션과 무관한 독립 트랜잭션으로 기록
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("login.history.queue", this, LoginHistoryWriter::getQueueDepth)
+            .description("기록 대기 중인 로그인 이력 수").register(meterRegistry);
+        FunctionCounter.builder("login.history.events", this, LoginHistoryWriter::getWrittenCount)
+            .tag("result", "written").description("기록된 로그인 이력 수").register(meterRegistry);
+        FunctionCounter.builder("login.history.events", this, LoginHistoryWriter::getOverflowCount)
+            .tag("result", "dropped").description("큐 초과로 버려진 로그인 이력 수").register(meterRegistry);
+        FunctionCounter.builder("login.history.events", this, LoginHistoryWriter::getFailedCount)
+            .tag("result", "failed").description("기록에 실패한 로그인 이력 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        shutdown();
+    }
+
+    @Override
+    protected void writeBatch(List<LoginHistory> batch) {
+        writeTransactionTemplate.executeWithoutResult(status -> loginHistoryRepository.saveAll(batch));
+    }
+
+    @Override
+    protected void onOverflow(LoginHistory loginHistory) {
+        // 공격 트래픽으로 큐가 넘칠 때 항목마다 로그를 남기지 않도록 메트릭으로만 집계
+        log.debug("로그인 이력 큐 초과 - 휴대폰: {}, 결과: {}", loginHistory.getPhoneNumber(), loginHistory.getResult());
+    }
+}
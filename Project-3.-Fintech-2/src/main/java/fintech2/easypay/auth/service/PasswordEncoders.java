@@ -0,0 +1,96 @@
+package fintech2.easypay.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 구성
+ * 저장 해시에 {bcrypt}, {pbkdf2} 접두어를 붙이는 DelegatingPasswordEncoder를 사용하여
+ * 알고리즘이나 비용을 바꿔도 기존 해시는 그대로 검증되고, 로그인 성공 시 새 설정으로 다시 해시된다.
+ * 접두어가 없는 기존 BCrypt 해시도 검증하며 재해시 대상으로 본다.
+ */
+@Slf4j
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * @param encodingId 새 해시에 사용할 알고리즘 (bcrypt, pbkdf2)
+     * @param bcryptStrength BCrypt 비용 (2^strength 라운드)
+     */
+    public static PasswordEncoder create(String encodingId, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 인코더: " + encodingId);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        // 접두어 없는 기존 해시는 BCrypt로 검증
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    /**
+     * 벤치마크 후보 인코더 ("bcrypt:12", "pbkdf2")
+     */
+    public static PasswordEncoder candidate(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case BCRYPT -> new BCryptPasswordEncoder(parts.length > 1 ? Integer.parseInt(parts[1]) : 10);
+            case PBKDF2 -> Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            default -> throw new IllegalArgumentException("지원하지 않는 비밀번호 인코더: " + spec);
+        };
+    }
+
+    /**
+     * 현재 하드웨어에서 해시 1회가 목표 시간을 넘지 않는 가장 큰 BCrypt 비용 선택
+     * 최소 비용으로 실측한 뒤 비용 1 증가마다 시간이 2배가 되는 것으로 추정한다.
+     */
+    public static int calibrateBcryptStrength(long targetMs, int minStrength, int maxStrength) {
+        long measuredNanos = measureBcryptNanos(minStrength);
+        int strength = strengthFor(measuredNanos, targetMs, minStrength, maxStrength);
+        double estimatedMs = measuredNanos / 1_000_000.0 * (1L << (strength - minStrength));
+        log.info("BCrypt 비용 보정 - 비용 {} 실측: {}ms, 선택 비용: {} (예상 {}ms, 코어당 초당 로그인 약 {}건)",
+            minStrength, String.format("%.1f", measuredNanos / 1_000_000.0), strength,
+            String.format("%.1f", estimatedMs), String.format("%.1f", 1000.0 / estimatedMs));
+        return strength;
+    }
+
+    static int strengthFor(long measuredNanos, long targetMs, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long nanos = Math.max(1, measuredNanos);
+        long targetNanos = targetMs * 1_000_000L;
+        while (strength < maxStrength && nanos * 2 <= targetNanos) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long measureBcryptNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode(SAMPLE_PASSWORD); // 워밍업
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, encoded);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,122 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt는 요청당 수십~수백 ms의 CPU를 쓰므로 Tomcat 워커나 DB 커넥션을 잡은 채 실행하지 않고
+ * CPU 코어 수만큼의 전용 스레드에서 처리한다. 대기열이 가득 차거나 대기 시간을 넘기면
+ * ServiceOverloadedException(503)으로 즉시 거절하여 로그인 폭주가 잔액/송금 처리로 번지지 않게 한다.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.password-hashing.threads:0}") int threads,
+                                  @Value("${auth.password-hashing.queue-capacity:200}") int queueCapacity,
+                                  @Value("${auth.password-hashing.timeout-ms:2000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+            .description("비밀번호 해시 생성 시간").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches")
+            .description("비밀번호 해시 검증 시간").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+            .description("처리 용량 초과로 거절된 해시 요청 수").register(meterRegistry);
+        meterRegistry.gauge("auth.password.queue", executor, e -> e.getQueue().size());
+        log.info("비밀번호 해시 실행기 시작 - 스레드: {}, 대기열: {}", poolSize, queueCapacity);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Boolean matched = submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘/비용보다 약하면 true (해시 계산 없이 접두어와 비용만 확인)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("비밀번호 해시 대기열 초과", RETRY_AFTER_SECONDS);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 오래 기다린 요청은 실행하지 않고 버림
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("비밀번호 해시 대기 시간 초과", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 처리 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 실패", cause);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package fintech2.easypay.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기 목록 (메모리)
+ * 로그아웃이나 계정 잠금 시 사용자별로 폐기 시각을 기록하고, 그 이전에 발급된 토큰을 거부한다.
+ * 폐기 시각 이전 토큰은 토큰 수명이 지나면 어차피 만료되므로 그 뒤에는 항목을 정리한다.
+ * 인스턴스마다 따로 유지되며 재기동 시 비워진다.
+ */
+@Component
+@Slf4j
+public class TokenRevocationCache {
+
+    private final boolean enabled;
+    private final long tokenLifetimeMillis;
+    // 사용자 ID -> 폐기 시각 (epoch 초, JWT iat 단위와 동일)
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationCache(@Value("${jwt.revocation.enabled:true}") boolean enabled,
+                                @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis) {
+        this.enabled = enabled;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 Access Token 폐기
+     */
+    public void revokeAll(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        revokedBefore.put(userId, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * 폐기된 토큰 여부 (같은 초에 발급된 토큰은 폐기 직후 재로그인일 수 있으므로 허용)
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        if (!enabled || userId == null) {
+            return false;
+        }
+        Long revokedAt = revokedBefore.get(userId);
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() / 1000 < revokedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        long expiredBefore = (System.currentTimeMillis() - tokenLifetimeMillis) / 1000;
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < expiredBefore);
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+}
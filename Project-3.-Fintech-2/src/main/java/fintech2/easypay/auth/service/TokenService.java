@@ -1,8 +1,10 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.entity.RefreshToken;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.RefreshTokenRepository;
+import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.common.exception.AuthException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,12 +21,15 @@ public class TokenService {
 
     private final JwtService jwtService;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final UserCache userCache;
 
     /**
      * Access Token과 Refresh Token 생성
      */
     public TokenPair generateTokenPair(User user) {
-        String accessToken = jwtService.generateAccessToken(user.getPhoneNumber());
+        String accessToken = jwtService.generateAccessToken(UserPrincipal.from(user));
         String refreshToken = generateRefreshToken(user);
         
         return TokenPair.builder()
@@ -68,7 +73,11 @@ public class TokenService {
             throw new AuthException("EXPIRED_REFRESH_TOKEN", "만료된 Refresh Token입니다");
         }
         
-        return jwtService.generateAccessToken(refreshToken.getPhoneNumber());
+        // 토큰에 담을 계좌번호 조회 (갱신 시에만 한 번)
+        UserPrincipal principal = userRepository.findById(refreshToken.getUserId())
+                .map(UserPrincipal::from)
+                .orElseThrow(() -> new AuthException("USER_NOT_FOUND", "사용자를 찾을 수 없습니다"));
+        return jwtService.generateAccessToken(principal);
     }
 
     /**
@@ -83,10 +92,12 @@ public class TokenService {
     }
 
     /**
-     * 사용자의 모든 Refresh Token 폐기 (로그아웃)
+     * 사용자의 모든 Refresh Token 폐기 (로그아웃), 이미 발급된 Access Token도 거부
      */
     public void revokeAllUserTokens(Long userId) {
         refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        tokenRevocationCache.revokeAll(userId);
+        userCache.invalidateUser(userId);
     }
 
     /**
@@ -0,0 +1,74 @@
+package fintech2.easypay.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.auth.dto.CachedUser;
+import fintech2.easypay.auth.event.UserAuthStateChangedEvent;
+import fintech2.easypay.auth.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 휴대폰 번호 기준 사용자 조회 캐시 (크기 제한 + TTL)
+ * 없는 사용자 조회 결과도 캐시하여 존재하지 않는 번호로 반복되는 로그인 시도가 DB에 닿지 않게 한다.
+ * 가입, 계정 잠금/해제는 커밋 이후 이벤트로, 토큰 전체 폐기는 호출 즉시 해당 항목을 무효화한다.
+ * 적중/미스/제거 건수는 cache.* 메트릭(cache=users)으로 노출한다.
+ */
+@Component
+@Slf4j
+public class UserCache {
+
+    static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<CachedUser>> cache;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${auth.user-cache.maximum-size:100000}") long maximumSize,
+                     @Value("${auth.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 휴대폰 번호로 사용자 조회 (캐시에 없으면 DB 조회 후 저장)
+     */
+    public Optional<CachedUser> findByPhoneNumber(String phoneNumber) {
+        return cache.get(phoneNumber, key -> userRepository.findByPhoneNumber(key).map(CachedUser::from));
+    }
+
+    public void invalidate(String phoneNumber) {
+        cache.invalidate(phoneNumber);
+    }
+
+    /**
+     * 사용자 ID로 무효화 (키가 휴대폰 번호이므로 캐시 항목을 훑는다, 로그아웃 등 드문 경로용)
+     */
+    public void invalidateUser(Long userId) {
+        cache.asMap().values().removeIf(cached -> cached.isPresent() && cached.get().id().equals(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAuthStateChanged(UserAuthStateChangedEvent event) {
+        invalidate(event.phoneNumber());
+        log.debug("사용자 캐시 무효화 - 휴대폰: {}", event.phoneNumber());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,193 @@
+package fintech2.easypay.common.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비동기 배치 기록기
+ * 호출 스레드는 고정 크기 큐에 넣기만 하고, 백그라운드 스레드가 flush 주기 또는 배치 크기 단위로 모아 기록한다.
+ * 큐가 가득 차면 offer-timeout 동안 대기(backpressure)한 뒤 {@link #onOverflow(Object)}로 넘긴다.
+ * 종료 시 큐에 남은 항목을 모두 기록한다.
+ * @param <T> 기록 대상
+ */
+@Slf4j
+public abstract class AsyncBatchWriter<T> {
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    // 백그라운드 스레드와 flush() 호출이 동시에 기록하지 않도록 직렬화
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    protected AsyncBatchWriter(String name, int capacity, int batchSize, long flushIntervalMs, long offerTimeoutMs) {
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("큐 용량, 배치 크기, flush 주기는 0보다 커야 합니다");
+        }
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    /**
+     * 항목 하나를 기록 대기열에 넣는다.
+     * @return 대기열에 들어갔으면 true, 넘쳐서 onOverflow로 넘겼으면 false
+     */
+    public boolean offer(T item) {
+        try {
+            if (offerTimeoutMs > 0 ? queue.offer(item, offerTimeoutMs, TimeUnit.MILLISECONDS) : queue.offer(item)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        overflowCount.increment();
+        onOverflow(item);
+        return false;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, name + "-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("비동기 배치 기록기 시작 - {}, 배치 크기: {}, flush 주기: {}ms", name, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 백그라운드 스레드를 멈추고 큐에 남은 항목을 모두 기록
+     */
+    public synchronized void shutdown() {
+        running = false;
+        if (flusher != null) {
+            // 기록 중인 JDBC 호출을 끊지 않도록 인터럽트 없이 다음 poll 주기에 종료되기를 기다린다
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        flush();
+        log.info("비동기 배치 기록기 종료 - {}, 기록: {}, 넘침: {}, 실패: {}",
+            name, writtenCount.sum(), overflowCount.sum(), failedCount.sum());
+    }
+
+    /**
+     * 호출 스레드에서 큐에 쌓인 항목을 즉시 모두 기록
+     */
+    public void flush() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 배치 기록 (백그라운드 스레드에서 호출)
+     */
+    protected abstract void writeBatch(List<T> batch) throws Exception;
+
+    /**
+     * 큐가 가득 차 넣지 못한 항목 처리 (기본: 버림)
+     */
+    protected void onOverflow(T item) {
+        log.warn("비동기 배치 기록기 큐 초과로 항목을 버립니다 - {}", name);
+    }
+
+    /**
+     * 배치 기록 실패 처리 (기본: 로그만 남기고 버림)
+     */
+    protected void onWriteFailure(List<T> batch, Exception e) {
+        log.error("비동기 배치 기록 실패 - {}, 건수: {}, 오류: {}", name, batch.size(), e.getMessage(), e);
+    }
+
+    private void runFlusher() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                T first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 한 주기 동안 배치 크기만큼 모은다
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 모은 배치는 기록하고 종료 (나머지는 shutdown()에서 flush)
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private void write(List<T> batch) {
+        writeLock.lock();
+        try {
+            writeBatch(batch);
+            writtenCount.add(batch.size());
+        } catch (Exception e) {
+            failedCount.add(batch.size());
+            onWriteFailure(new ArrayList<>(batch), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
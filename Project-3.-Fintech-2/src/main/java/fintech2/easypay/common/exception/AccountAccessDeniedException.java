@@ -0,0 +1,8 @@
+package fintech2.easypay.common.exception;
+
+public class AccountAccessDeniedException extends RuntimeException {
+    
+    public AccountAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package fintech2.easypay.common.exception;
+
+public class AccountLockTimeoutException extends RuntimeException {
+    
+    public AccountLockTimeoutException(String message) {
+        super(message);
+    }
+    
+    public AccountLockTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package fintech2.easypay.common.exception;
 import fintech2.easypay.audit.service.AlarmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -111,6 +112,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    // 계좌 락 대기 시간 초과 (핫 계좌 경합)
+    @ExceptionHandler(AccountLockTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleAccountLockTimeoutException(AccountLockTimeoutException e) {
+        log.warn("Account Lock Timeout: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "ACCOUNT_BUSY");
+        response.put("message", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 본인 소유가 아닌 계좌 접근
+    @ExceptionHandler(AccountAccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAccountAccessDeniedException(AccountAccessDeniedException e) {
+        log.warn("Account Access Denied: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "ACCOUNT_ACCESS_DENIED");
+        response.put("message", "본인 계좌만 조회할 수 있습니다");
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
+    // 이상거래 규칙에 의한 거래 차단
+    @ExceptionHandler(TransactionBlockedException.class)
+    public ResponseEntity<Map<String, Object>> handleTransactionBlockedException(TransactionBlockedException e) {
+        log.warn("Transaction Blocked: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "TRANSACTION_BLOCKED");
+        response.put("message", "이상거래가 의심되어 거래가 차단되었습니다. 고객센터로 문의해주세요");
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
+    // 전용 처리 용량 초과 (로그인 폭주 등)
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Service Overloaded: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "SERVICE_OVERLOADED");
+        response.put("message", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // 로그인 시도 빈도 제한 초과
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.debug("Rate Limit Exceeded: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "TOO_MANY_REQUESTS");
+        response.put("message", "시도 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요");
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // 잘못된 요청 값
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.warn("Invalid Request: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "INVALID_REQUEST");
+        response.put("message", e.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     // 일반적인 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception e) {
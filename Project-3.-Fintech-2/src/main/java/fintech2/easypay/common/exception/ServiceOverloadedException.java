@@ -0,0 +1,18 @@
+package fintech2.easypay.common.exception;
+
+/**
+ * 전용 처리 용량(스레드 풀, 대기열)이 가득 차 요청을 받지 못한 경우 (503)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package fintech2.easypay.common.exception;
+
+/**
+ * 이상거래 규칙(BLOCK)에 의해 거래가 차단된 경우
+ */
+public class TransactionBlockedException extends RuntimeException {
+
+    private final String ruleName;
+
+    public TransactionBlockedException(String message, String ruleName) {
+        super(message);
+        this.ruleName = ruleName;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+}
@@ -0,0 +1,40 @@
+package fintech2.easypay.config;
+
+import fintech2.easypay.retention.H2TableRotationStore;
+import fintech2.easypay.retention.MySqlPartitionStore;
+import fintech2.easypay.retention.PartitionStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 이력 테이블 파티션 저장소 선택
+ * MySQL은 RANGE 파티션, 그 외(H2)는 월 테이블 회전을 사용한다 (JPA로 직접 조회하는 테이블은 회전하지 않음).
+ */
+@Configuration
+@Slf4j
+public class RetentionConfig {
+
+    @Bean
+    public PartitionStore partitionStore(DataSource dataSource,
+                                         JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${retention.h2.main-table-months:2}") int mainTableMonths)
+            throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        log.info("이력 파티션 저장소 - DB: {}", product);
+        if ("MySQL".equalsIgnoreCase(product)) {
+            return new MySqlPartitionStore(jdbcTemplate);
+        }
+        return new H2TableRotationStore(jdbcTemplate, new TransactionTemplate(transactionManager), mainTableMonths);
+    }
+}
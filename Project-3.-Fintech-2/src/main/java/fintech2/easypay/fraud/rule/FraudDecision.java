@@ -0,0 +1,18 @@
+package fintech2.easypay.fraud.rule;
+
+/**
+ * 규칙 평가 결과 (규칙 컴파일 시 미리 만들어 두므로 평가 중에는 생성되지 않는다)
+ * @param ruleName 일치한 규칙 이름 (ALLOW이면 null)
+ */
+public record FraudDecision(FraudVerdict verdict, String ruleName) {
+
+    public static final FraudDecision ALLOW = new FraudDecision(FraudVerdict.ALLOW, null);
+
+    public boolean blocked() {
+        return verdict == FraudVerdict.BLOCK;
+    }
+
+    public boolean flagged() {
+        return verdict == FraudVerdict.FLAG;
+    }
+}
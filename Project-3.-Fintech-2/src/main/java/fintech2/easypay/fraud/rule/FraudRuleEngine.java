@@ -0,0 +1,129 @@
+package fintech2.easypay.fraud.rule;
+
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import fintech2.easypay.fraud.velocity.VelocityEngine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.TimeZone;
+
+/**
+ * 이상거래 규칙 평가기
+ * 규칙 파일(fraud.rules.location)을 기동 시 컴파일하고, 파일이 바뀌면 주기적으로 다시 컴파일하여 교체한다.
+ * 다시 컴파일에 실패하면 기존 규칙을 유지한다.
+ * 평가는 스레드별 특성 벡터를 재사용하므로 거래당 객체를 만들지 않는다.
+ */
+@Component
+@Slf4j
+public class FraudRuleEngine {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+    private final ResourceLoader resourceLoader;
+    private final VelocityEngine velocityEngine;
+    private final String location;
+    private final TimeZone timeZone = TimeZone.getDefault();
+    private final ThreadLocal<long[]> featureBuffer = ThreadLocal.withInitial(() -> new long[TransactionFeatures.SIZE]);
+
+    private volatile FraudRuleSet ruleSet = FraudRuleSet.EMPTY;
+    // 마지막으로 읽은 파일 수정 시각 (jar 내부 등 수정 시각을 알 수 없으면 -1, 다시 읽지 않음)
+    private long loadedLastModified = -1;
+
+    public FraudRuleEngine(ResourceLoader resourceLoader,
+                           VelocityEngine velocityEngine,
+                           @Value("${fraud.rules.location:classpath:fraud-rules.conf}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.velocityEngine = velocityEngine;
+        this.location = location;
+    }
+
+    /**
+     * 기동 시 규칙 컴파일 (오류가 있으면 기동 실패)
+     */
+    @PostConstruct
+    public synchronized void init() {
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            install(resource);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("이상거래 규칙을 불러올 수 없습니다: " + location, e);
+        }
+    }
+
+    /**
+     * 규칙 파일이 바뀌었으면 다시 컴파일
+     */
+    @Scheduled(fixedDelayString = "${fraud.rules.reload-interval-ms:10000}")
+    public synchronized void reloadIfChanged() {
+        if (loadedLastModified < 0) {
+            return;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            if (resource.lastModified() != loadedLastModified) {
+                install(resource);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("이상거래 규칙 다시 불러오기 실패, 기존 규칙 유지 - 위치: {}, 오류: {}", location, e.getMessage());
+        }
+    }
+
+    private void install(Resource resource) throws IOException {
+        long lastModified = lastModified(resource);
+        FraudRuleSet compiled = FraudRuleSet.compile(resource.getContentAsString(StandardCharsets.UTF_8));
+        ruleSet = compiled;
+        loadedLastModified = lastModified;
+        log.info("이상거래 규칙 적용 - 위치: {}, 규칙 수: {}", location, compiled.size());
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 거래 평가 (속도 특성은 이번 거래 이전까지의 집계)
+     * @param amountMinor 거래 금액 (최소 단위, 양수)
+     */
+    public FraudDecision evaluate(String accountNumber, long amountMinor, TransactionType transactionType, long nowMillis) {
+        long[] features = featureBuffer.get();
+        features[TransactionFeatures.AMOUNT] = amountMinor;
+        features[TransactionFeatures.TYPE] = transactionType.ordinal();
+        features[TransactionFeatures.HOUR] = Math.floorMod((nowMillis + timeZone.getOffset(nowMillis)) / HOUR_MILLIS, 24L);
+        velocityEngine.peek(accountNumber, nowMillis, features, TransactionFeatures.COUNT_1M);
+        return ruleSet.evaluate(features);
+    }
+
+    public FraudDecision evaluate(String accountNumber, BigDecimal amount, TransactionType transactionType) {
+        return evaluate(accountNumber, amount.abs().movePointRight(2).longValue(), transactionType, System.currentTimeMillis());
+    }
+
+    /**
+     * 커밋 전 거래 검사 (BLOCK 판정이면 TransactionBlockedException)
+     */
+    public void screen(String accountNumber, BigDecimal amount, TransactionType transactionType) {
+        FraudDecision decision = evaluate(accountNumber, amount, transactionType);
+        if (decision.blocked()) {
+            log.warn("[TRANSACTION_BLOCKED] 계좌: {}, 금액: {}, 유형: {}, 규칙: {}",
+                accountNumber, amount, transactionType, decision.ruleName());
+            throw new TransactionBlockedException(
+                "이상거래 의심으로 거래가 차단되었습니다 (규칙: " + decision.ruleName() + ")", decision.ruleName());
+        }
+    }
+
+    public int getRuleCount() {
+        return ruleSet.size();
+    }
+}
@@ -0,0 +1,230 @@
+package fintech2.easypay.fraud.rule;
+
+import fintech2.easypay.common.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 이상거래 규칙 묶음 (불변)
+ * 규칙 텍스트를 조건 단위의 평평한 배열(특성 인덱스, 연산자, 피연산자)로 바꿔 두고,
+ * 평가 시에는 특성 벡터(long[])만 읽으므로 객체를 만들지 않는다.
+ * BLOCK 규칙을 FLAG 규칙보다 앞에 두어 처음 일치한 규칙이 가장 심각한 판정이 된다.
+ *
+ * 규칙 형식 (한 줄에 하나, #은 주석):
+ *   이름: 조건 [and 조건 ...] -> FLAG|BLOCK
+ *   조건: 특성 (> | >= | < | <= | == | !=) 값, 또는 type in (유형, ...)
+ *   예) huge-outgoing: amount > 100000000 and type in (WITHDRAWAL, TRANSFER) -> BLOCK
+ */
+public final class FraudRuleSet {
+
+    public static final FraudRuleSet EMPTY = new FraudRuleSet(new int[0], new int[0], new int[0], new long[0], new FraudDecision[0]);
+
+    private static final int GT = 0;
+    private static final int GE = 1;
+    private static final int LT = 2;
+    private static final int LE = 3;
+    private static final int EQ = 4;
+    private static final int NE = 5;
+    private static final int IN = 6;
+
+    private static final Pattern RULE = Pattern.compile("^([\\w.-]+)\\s*:\\s*(.+?)\\s*->\\s*(\\w+)$");
+    private static final Pattern AND = Pattern.compile("\\s+and\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COMPARISON = Pattern.compile("^(\\w+)\\s*(>=|<=|==|!=|>|<)\\s*([\\w.]+)$");
+    private static final Pattern MEMBERSHIP = Pattern.compile("^(\\w+)\\s+in\\s*\\(([^)]*)\\)$", Pattern.CASE_INSENSITIVE);
+
+    // 규칙 r의 조건은 [ruleEnd[r-1], ruleEnd[r]) 구간
+    private final int[] ruleEnd;
+    private final int[] features;
+    private final int[] operators;
+    private final long[] operands;
+    private final FraudDecision[] decisions;
+
+    private FraudRuleSet(int[] ruleEnd, int[] features, int[] operators, long[] operands, FraudDecision[] decisions) {
+        this.ruleEnd = ruleEnd;
+        this.features = features;
+        this.operators = operators;
+        this.operands = operands;
+        this.decisions = decisions;
+    }
+
+    /**
+     * 규칙 텍스트 컴파일 (형식 오류는 줄 번호와 함께 IllegalArgumentException)
+     */
+    public static FraudRuleSet compile(String source) {
+        List<ParsedRule> rules = new ArrayList<>();
+        String[] lines = source.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = stripComment(lines[i]);
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                rules.add(parseRule(line, rules.size()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("이상거래 규칙 " + (i + 1) + "번째 줄 오류: " + e.getMessage(), e);
+            }
+        }
+        // 심각한 판정 우선, 같은 판정은 작성 순서 유지
+        rules.sort(Comparator.comparing(ParsedRule::verdict).reversed().thenComparingInt(ParsedRule::order));
+
+        int conditionCount = rules.stream().mapToInt(rule -> rule.conditions().size()).sum();
+        int[] ruleEnd = new int[rules.size()];
+        int[] features = new int[conditionCount];
+        int[] operators = new int[conditionCount];
+        long[] operands = new long[conditionCount];
+        FraudDecision[] decisions = new FraudDecision[rules.size()];
+        int c = 0;
+        for (int r = 0; r < rules.size(); r++) {
+            ParsedRule rule = rules.get(r);
+            for (long[] condition : rule.conditions()) {
+                features[c] = (int) condition[0];
+                operators[c] = (int) condition[1];
+                operands[c] = condition[2];
+                c++;
+            }
+            ruleEnd[r] = c;
+            decisions[r] = new FraudDecision(rule.verdict(), rule.name());
+        }
+        return new FraudRuleSet(ruleEnd, features, operators, operands, decisions);
+    }
+
+    /**
+     * 특성 벡터 평가 (가장 심각한 일치 규칙의 결과, 없으면 ALLOW)
+     */
+    public FraudDecision evaluate(long[] values) {
+        int c = 0;
+        for (int r = 0; r < ruleEnd.length; r++) {
+            int end = ruleEnd[r];
+            boolean matched = true;
+            for (; c < end; c++) {
+                if (!test(operators[c], values[features[c]], operands[c])) {
+                    matched = false;
+                    c = end;
+                    break;
+                }
+            }
+            if (matched) {
+                return decisions[r];
+            }
+        }
+        return FraudDecision.ALLOW;
+    }
+
+    public int size() {
+        return ruleEnd.length;
+    }
+
+    private static boolean test(int operator, long value, long operand) {
+        return switch (operator) {
+            case GT -> value > operand;
+            case GE -> value >= operand;
+            case LT -> value < operand;
+            case LE -> value <= operand;
+            case EQ -> value == operand;
+            case NE -> value != operand;
+            // operand는 허용 값의 비트마스크 (거래 유형 ordinal)
+            case IN -> value >= 0 && value < Long.SIZE && ((operand >>> value) & 1L) != 0;
+            default -> false;
+        };
+    }
+
+    private static ParsedRule parseRule(String line, int order) {
+        Matcher matcher = RULE.matcher(line);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("'이름: 조건 -> 판정' 형식이 아닙니다: " + line);
+        }
+        FraudVerdict verdict = parseVerdict(matcher.group(3));
+        List<long[]> conditions = new ArrayList<>();
+        for (String condition : AND.split(matcher.group(2))) {
+            conditions.add(parseCondition(condition.trim()));
+        }
+        return new ParsedRule(matcher.group(1), verdict, conditions, order);
+    }
+
+    private static FraudVerdict parseVerdict(String text) {
+        String normalized = text.toUpperCase(Locale.ROOT);
+        if (normalized.equals(FraudVerdict.FLAG.name())) {
+            return FraudVerdict.FLAG;
+        }
+        if (normalized.equals(FraudVerdict.BLOCK.name())) {
+            return FraudVerdict.BLOCK;
+        }
+        throw new IllegalArgumentException("판정은 FLAG 또는 BLOCK이어야 합니다: " + text);
+    }
+
+    /**
+     * 조건 하나를 {특성 인덱스, 연산자, 피연산자}로 변환
+     */
+    private static long[] parseCondition(String condition) {
+        Matcher membership = MEMBERSHIP.matcher(condition);
+        if (membership.matches()) {
+            int feature = TransactionFeatures.indexOf(membership.group(1));
+            if (feature != TransactionFeatures.TYPE) {
+                throw new IllegalArgumentException("in 조건은 type에만 사용할 수 있습니다: " + condition);
+            }
+            long mask = 0;
+            for (String type : membership.group(2).split(",")) {
+                mask |= 1L << parseType(type.trim()).ordinal();
+            }
+            return new long[] {feature, IN, mask};
+        }
+
+        Matcher comparison = COMPARISON.matcher(condition);
+        if (!comparison.matches()) {
+            throw new IllegalArgumentException("조건 형식이 올바르지 않습니다: " + condition);
+        }
+        int feature = TransactionFeatures.indexOf(comparison.group(1));
+        int operator = parseOperator(comparison.group(2));
+        String operand = comparison.group(3);
+        if (feature == TransactionFeatures.TYPE) {
+            if (operator != EQ && operator != NE) {
+                throw new IllegalArgumentException("type은 ==, != 또는 in으로만 비교할 수 있습니다: " + condition);
+            }
+            return new long[] {feature, operator, parseType(operand).ordinal()};
+        }
+        try {
+            BigDecimal value = new BigDecimal(operand);
+            // 금액은 원 단위로 작성하고 최소 단위로 비교
+            long scaled = TransactionFeatures.isAmount(feature)
+                ? value.movePointRight(2).longValueExact()
+                : value.longValueExact();
+            return new long[] {feature, operator, scaled};
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException(
+                TransactionFeatures.nameOf(feature) + "의 비교 값이 올바른 정수가 아닙니다: " + operand);
+        }
+    }
+
+    private static int parseOperator(String operator) {
+        return switch (operator) {
+            case ">" -> GT;
+            case ">=" -> GE;
+            case "<" -> LT;
+            case "<=" -> LE;
+            case "==" -> EQ;
+            default -> NE;
+        };
+    }
+
+    private static TransactionType parseType(String name) {
+        try {
+            return TransactionType.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 거래 유형입니다: " + name);
+        }
+    }
+
+    private static String stripComment(String line) {
+        int comment = line.indexOf('#');
+        return (comment >= 0 ? line.substring(0, comment) : line).trim();
+    }
+
+    private record ParsedRule(String name, FraudVerdict verdict, List<long[]> conditions, int order) {
+    }
+}
@@ -0,0 +1,10 @@
+package fintech2.easypay.fraud.rule;
+
+/**
+ * 이상거래 규칙 판정 (심각도 오름차순)
+ */
+public enum FraudVerdict {
+    ALLOW,  // 통과
+    FLAG,   // 통과시키되 이상거래 알림
+    BLOCK   // 거래 차단
+}
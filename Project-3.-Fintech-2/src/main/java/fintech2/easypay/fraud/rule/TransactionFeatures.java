@@ -0,0 +1,52 @@
+package fintech2.easypay.fraud.rule;
+
+import java.util.Locale;
+
+/**
+ * 규칙 평가에 쓰는 거래 특성 벡터의 인덱스 (long[] 한 개에 모두 담아 객체 생성 없이 평가)
+ * 금액은 최소 단위(원 x 100), 거래 유형은 TransactionType.ordinal(), 시각은 0~23시.
+ * 속도 특성은 이번 거래 이전까지의 집계이며 VelocityEngine.peek 순서와 같다.
+ */
+public final class TransactionFeatures {
+
+    public static final int AMOUNT = 0;
+    public static final int TYPE = 1;
+    public static final int HOUR = 2;
+    public static final int COUNT_1M = 3;
+    public static final int COUNT_5M = 4;
+    public static final int COUNT_1H = 5;
+    public static final int AMOUNT_1H = 6;
+    public static final int COUNTERPARTIES_1H = 7;
+    public static final int SIZE = 8;
+
+    private static final String[] NAMES = {
+        "amount", "type", "hour", "count1m", "count5m", "count1h", "amount1h", "counterparties1h"
+    };
+
+    private TransactionFeatures() {
+    }
+
+    /**
+     * 규칙에서 쓰는 특성 이름을 인덱스로 변환
+     */
+    static int indexOf(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equals(normalized)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 특성입니다: " + name);
+    }
+
+    static String nameOf(int index) {
+        return NAMES[index];
+    }
+
+    /**
+     * 원 단위로 쓰는 금액 특성 여부 (컴파일 시 최소 단위로 변환)
+     */
+    static boolean isAmount(int index) {
+        return index == AMOUNT || index == AMOUNT_1H;
+    }
+}
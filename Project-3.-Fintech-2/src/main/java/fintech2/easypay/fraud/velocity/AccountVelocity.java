@@ -0,0 +1,76 @@
+package fintech2.easypay.fraud.velocity;
+
+/**
+ * 계좌 하나의 거래 속도 상태
+ * 1분 윈도우는 5초 버킷 12개, 5분/1시간 윈도우는 1분 버킷 60개 링으로 유지한다.
+ * 거래 상대는 최근 상대 계좌 해시를 고정 크기 배열에 보관하여 1시간 내 서로 다른 상대 수를 센다.
+ */
+final class AccountVelocity {
+
+    static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    private static final int COUNTERPARTY_SLOTS = 32;
+
+    private final SlidingWindowCounter minute = new SlidingWindowCounter(5_000L, 12, 12);
+    private final SlidingWindowCounter hour = new SlidingWindowCounter(60_000L, 60, 5, 60);
+    private final int[] counterpartyHashes = new int[COUNTERPARTY_SLOTS];
+    private final long[] counterpartySeenAt = new long[COUNTERPARTY_SLOTS];
+    private volatile long lastActivityMillis;
+
+    synchronized VelocitySnapshot record(long nowMillis, long amountMinor, String counterparty) {
+        minute.add(nowMillis, amountMinor);
+        hour.add(nowMillis, amountMinor);
+        boolean newCounterparty = counterparty != null && touchCounterparty(counterparty.hashCode(), nowMillis);
+        lastActivityMillis = nowMillis;
+        return new VelocitySnapshot(
+            minute.count(0, nowMillis), minute.sum(0, nowMillis),
+            hour.count(0, nowMillis), hour.sum(0, nowMillis),
+            hour.count(1, nowMillis), hour.sum(1, nowMillis),
+            distinctCounterparties(nowMillis), newCounterparty);
+    }
+
+    /**
+     * 기록 없이 현재 속도 조회 (VelocityEngine.peek 참고)
+     */
+    synchronized void peek(long nowMillis, long[] out, int from) {
+        out[from] = minute.count(0, nowMillis);
+        out[from + 1] = hour.count(0, nowMillis);
+        out[from + 2] = hour.count(1, nowMillis);
+        out[from + 3] = hour.sum(1, nowMillis);
+        out[from + 4] = distinctCounterparties(nowMillis);
+    }
+
+    long lastActivityMillis() {
+        return lastActivityMillis;
+    }
+
+    /**
+     * 상대 계좌 기록 (이미 있으면 시각 갱신, 없으면 가장 오래된 슬롯에 저장)
+     * @return 1시간 내 처음 본 상대이면 true
+     */
+    private boolean touchCounterparty(int hash, long nowMillis) {
+        int oldest = 0;
+        for (int i = 0; i < COUNTERPARTY_SLOTS; i++) {
+            if (counterpartySeenAt[i] != 0 && counterpartyHashes[i] == hash) {
+                boolean expired = nowMillis - counterpartySeenAt[i] > HOUR_MILLIS;
+                counterpartySeenAt[i] = nowMillis;
+                return expired;
+            }
+            if (counterpartySeenAt[i] < counterpartySeenAt[oldest]) {
+                oldest = i;
+            }
+        }
+        counterpartyHashes[oldest] = hash;
+        counterpartySeenAt[oldest] = nowMillis;
+        return true;
+    }
+
+    private int distinctCounterparties(long nowMillis) {
+        int distinct = 0;
+        for (int i = 0; i < COUNTERPARTY_SLOTS; i++) {
+            if (counterpartySeenAt[i] != 0 && nowMillis - counterpartySeenAt[i] <= HOUR_MILLIS) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+}
@@ -0,0 +1,93 @@
+package fintech2.easypay.fraud.velocity;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 시간 버킷 링 (건수/금액 합계)
+ * 여러 길이의 윈도우 합계를 버킷이 윈도우에서 빠질 때마다 차감하여 유지하므로
+ * 기록과 조회 모두 버킷 수와 무관하게 O(1)이다 (경과 시간만큼의 버킷 이동은 상각).
+ * 동기화는 호출자(AccountVelocity)가 담당한다.
+ */
+final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int[] counts;
+    private final long[] sums;
+    // 윈도우 길이 (버킷 수, 링 크기 이하)
+    private final int[] spans;
+    private final int[] windowCounts;
+    private final long[] windowSums;
+    // 마지막으로 기록한 버킷 번호 (epoch 기준)
+    private long currentBucket = Long.MIN_VALUE;
+
+    SlidingWindowCounter(long bucketMillis, int bucketCount, int... spans) {
+        this.bucketMillis = bucketMillis;
+        this.counts = new int[bucketCount];
+        this.sums = new long[bucketCount];
+        this.spans = spans;
+        this.windowCounts = new int[spans.length];
+        this.windowSums = new long[spans.length];
+        for (int span : spans) {
+            if (span <= 0 || span > bucketCount) {
+                throw new IllegalArgumentException("윈도우 길이는 1 이상 버킷 수 이하여야 합니다: " + span);
+            }
+        }
+    }
+
+    void add(long nowMillis, long amount) {
+        advance(nowMillis);
+        int slot = slot(currentBucket);
+        counts[slot]++;
+        sums[slot] += amount;
+        for (int w = 0; w < spans.length; w++) {
+            windowCounts[w]++;
+            windowSums[w] += amount;
+        }
+    }
+
+    int count(int window, long nowMillis) {
+        advance(nowMillis);
+        return windowCounts[window];
+    }
+
+    long sum(int window, long nowMillis) {
+        advance(nowMillis);
+        return windowSums[window];
+    }
+
+    /**
+     * 현재 시각의 버킷까지 이동하며 윈도우에서 빠지는 버킷을 합계에서 차감
+     */
+    private void advance(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        if (currentBucket == Long.MIN_VALUE || bucket - currentBucket >= counts.length) {
+            // 처음이거나 모든 윈도우가 지난 경우: 전체 초기화
+            reset(bucket);
+            return;
+        }
+        while (currentBucket < bucket) {
+            currentBucket++;
+            for (int w = 0; w < spans.length; w++) {
+                // 새 버킷이 들어오면 span 이전 버킷이 윈도우에서 빠진다
+                int leaving = slot(currentBucket - spans[w]);
+                windowCounts[w] -= counts[leaving];
+                windowSums[w] -= sums[leaving];
+            }
+            int slot = slot(currentBucket);
+            counts[slot] = 0;
+            sums[slot] = 0;
+        }
+    }
+
+    private void reset(long bucket) {
+        Arrays.fill(counts, 0);
+        Arrays.fill(sums, 0);
+        Arrays.fill(windowCounts, 0);
+        Arrays.fill(windowSums, 0);
+        currentBucket = bucket;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) counts.length);
+    }
+}
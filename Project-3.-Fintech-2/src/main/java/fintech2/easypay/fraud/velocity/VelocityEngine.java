@@ -0,0 +1,81 @@
+package fintech2.easypay.fraud.velocity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계좌별 거래 속도 집계 (메모리)
+ * 거래마다 DB를 조회하지 않고 최근 1분/5분/1시간 건수, 금액, 거래 상대 수를 O(1)로 계산한다.
+ * 1시간 이상 거래가 없는 계좌는 주기적으로 정리한다.
+ */
+@Component
+@Slf4j
+public class VelocityEngine {
+
+    private final Map<String, AccountVelocity> accounts = new ConcurrentHashMap<>();
+    private final int maxAccounts;
+
+    public VelocityEngine(@Value("${fraud.velocity.max-accounts:200000}") int maxAccounts) {
+        this.maxAccounts = maxAccounts;
+    }
+
+    /**
+     * 거래 기록 후 현재 속도 반환
+     * @param amountMinor 거래 금액 (최소 단위, 양수)
+     * @param counterparty 상대 계좌 (없으면 null)
+     */
+    public VelocitySnapshot record(String accountNumber, long amountMinor, String counterparty, long nowMillis) {
+        AccountVelocity velocity = accounts.get(accountNumber);
+        if (velocity == null) {
+            if (accounts.size() >= maxAccounts) {
+                evictIdle(nowMillis);
+            }
+            velocity = accounts.computeIfAbsent(accountNumber, k -> new AccountVelocity());
+        }
+        return velocity.record(nowMillis, amountMinor, counterparty);
+    }
+
+    public VelocitySnapshot record(String accountNumber, long amountMinor, String counterparty) {
+        return record(accountNumber, amountMinor, counterparty, System.currentTimeMillis());
+    }
+
+    /**
+     * 기록 없이 현재 속도를 배열에 채움 (거래 전 규칙 평가용, 객체 생성 없음)
+     * out[from]부터 1분 건수, 5분 건수, 1시간 건수, 1시간 금액(최소 단위), 1시간 거래 상대 수 순서로 기록한다.
+     */
+    public void peek(String accountNumber, long nowMillis, long[] out, int from) {
+        AccountVelocity velocity = accounts.get(accountNumber);
+        if (velocity == null) {
+            Arrays.fill(out, from, from + 5, 0L);
+            return;
+        }
+        velocity.peek(nowMillis, out, from);
+    }
+
+    public int getAccountCount() {
+        return accounts.size();
+    }
+
+    @Scheduled(fixedDelayString = "${fraud.velocity.evict-interval-ms:300000}")
+    public void evictIdle() {
+        evictIdle(System.currentTimeMillis());
+    }
+
+    /**
+     * 1시간 윈도우가 모두 지난 계좌 정리 (남아 있어도 모든 값이 0이므로 결과에 영향 없음)
+     */
+    void evictIdle(long nowMillis) {
+        int before = accounts.size();
+        accounts.values().removeIf(velocity -> nowMillis - velocity.lastActivityMillis() > AccountVelocity.HOUR_MILLIS);
+        int evicted = before - accounts.size();
+        if (evicted > 0) {
+            log.debug("유휴 계좌 거래 속도 정리 - 정리: {}개, 남은 계좌: {}개", evicted, accounts.size());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package fintech2.easypay.fraud.velocity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 속도 규칙 (설정값 기반)
+ * 임계값을 이번 거래로 처음 넘었을 때만 위반으로 보고하여, 넘은 뒤 이어지는 거래마다 알림이 쏟아지지 않게 한다.
+ * 0 이하로 설정한 규칙은 사용하지 않는다.
+ */
+@Component
+public class VelocityRules {
+
+    private final int maxCount1m;
+    private final int maxCount5m;
+    private final int maxCount1h;
+    private final long maxAmount1hMinor;
+    private final int maxCounterparties1h;
+
+    public VelocityRules(@Value("${fraud.velocity.max-count-1m:3}") int maxCount1m,
+                         @Value("${fraud.velocity.max-count-5m:5}") int maxCount5m,
+                         @Value("${fraud.velocity.max-count-1h:20}") int maxCount1h,
+                         @Value("${fraud.velocity.max-amount-1h:3000000}") long maxAmount1h,
+                         @Value("${fraud.velocity.max-counterparties-1h:5}") int maxCounterparties1h) {
+        this.maxCount1m = maxCount1m;
+        this.maxCount5m = maxCount5m;
+        this.maxCount1h = maxCount1h;
+        this.maxAmount1hMinor = maxAmount1h * 100;
+        this.maxCounterparties1h = maxCounterparties1h;
+    }
+
+    /**
+     * 이번 거래로 새로 넘은 규칙 목록
+     * @param amountMinor 이번 거래 금액 (최소 단위)
+     */
+    public List<String> evaluate(VelocitySnapshot snapshot, long amountMinor) {
+        List<String> violations = new ArrayList<>(2);
+        if (crossed(snapshot.count1m(), 1, maxCount1m)) {
+            violations.add("1분 내 " + snapshot.count1m() + "회 거래");
+        }
+        if (crossed(snapshot.count5m(), 1, maxCount5m)) {
+            violations.add("5분 내 " + snapshot.count5m() + "회 거래");
+        }
+        if (crossed(snapshot.count1h(), 1, maxCount1h)) {
+            violations.add("1시간 내 " + snapshot.count1h() + "회 거래");
+        }
+        if (crossed(snapshot.amount1h(), amountMinor, maxAmount1hMinor)) {
+            violations.add("1시간 내 누적 " + snapshot.amount1h() / 100 + "원 거래");
+        }
+        if (snapshot.newCounterparty() && crossed(snapshot.distinctCounterparties1h(), 1, maxCounterparties1h)) {
+            violations.add("1시간 내 " + snapshot.distinctCounterparties1h() + "개 계좌와 거래");
+        }
+        return violations;
+    }
+
+    private static boolean crossed(long after, long delta, long limit) {
+        return limit > 0 && after > limit && after - delta <= limit;
+    }
+}
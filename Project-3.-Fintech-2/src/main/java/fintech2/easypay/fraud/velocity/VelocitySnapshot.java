@@ -0,0 +1,12 @@
+package fintech2.easypay.fraud.velocity;
+
+/**
+ * 계좌 거래 속도 (방금 기록한 거래 포함)
+ * 금액은 최소 단위(원 x 100)의 long
+ * @param newCounterparty 최근 1시간 내 처음 거래한 상대 계좌인지 여부
+ */
+public record VelocitySnapshot(int count1m, long amount1m,
+                               int count5m, long amount5m,
+                               int count1h, long amount1h,
+                               int distinctCounterparties1h, boolean newCounterparty) {
+}
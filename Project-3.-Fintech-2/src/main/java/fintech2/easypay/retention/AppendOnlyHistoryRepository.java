@@ -0,0 +1,15 @@
+package fintech2.easypay.retention;
+
+import java.util.List;
+
+/**
+ * 월 파티션 이력 테이블용 저장 (insert 전용)
+ * 복합 키에 시각 컬럼이 들어가 저장 전부터 키 일부가 채워져 있으므로, 기본 save의 신규 판단(키가 null인지)이
+ * 기존 행으로 오인해 merge(사전 SELECT)를 하게 된다. 이력은 수정되지 않으므로 항상 persist한다.
+ */
+public interface AppendOnlyHistoryRepository<T> {
+
+    <S extends T> S save(S entity);
+
+    <S extends T> List<S> saveAll(Iterable<S> entities);
+}
@@ -0,0 +1,32 @@
+package fintech2.easypay.retention;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AppendOnlyHistoryRepositoryImpl<T> implements AppendOnlyHistoryRepository<T> {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public <S extends T> S save(S entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            entityManager.persist(entity);
+            saved.add(entity);
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,134 @@
+package fintech2.easypay.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * H2 테이블 회전 (파티션 대체)
+ * H2는 파티션을 지원하지 않으므로 본 테이블에는 최근 mainTableMonths개월만 두고,
+ * 그 이전 달의 행은 월 테이블(audit_logs_p202501 등)로 옮긴다. 월 테이블이 MySQL의 월 파티션 역할을 한다.
+ * 옮긴 기간은 PartitionedHistoryDao로만 조회되므로, 본 테이블을 JPA로 직접 읽는 테이블(HistoryTable.rotatable이 false)은
+ * 옮기지 않고 본 테이블에서 시각 범위로 보관/삭제한다.
+ */
+@Slf4j
+public class H2TableRotationStore implements PartitionStore {
+
+    private static final DateTimeFormatter LITERAL_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int mainTableMonths;
+
+    public H2TableRotationStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int mainTableMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.mainTableMonths = Math.max(1, mainTableMonths);
+    }
+
+    @Override
+    public List<YearMonth> listPartitions(HistoryTable table) {
+        if (!table.rotatable()) {
+            return monthsInMainTable(table);
+        }
+        String prefix = table.tableName().toUpperCase(Locale.ROOT) + "_";
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME LIKE ? ESCAPE '!'",
+            String.class, prefix.replace("_", "!_") + "P%");
+        return names.stream()
+            .map(name -> HistoryTable.parsePartitionName(name.substring(prefix.length())))
+            .filter(Objects::nonNull)
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    public void preparePartitions(HistoryTable table, YearMonth currentMonth, int premakeMonths) {
+        if (!table.rotatable()) {
+            return;
+        }
+        LocalDateTime cutoff = HistoryTable.startOf(currentMonth.minusMonths(mainTableMonths - 1L));
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+            "SELECT MIN(" + table.timeColumn() + ") FROM " + table.tableName() +
+            " WHERE " + table.timeColumn() + " < ?", LocalDateTime.class, cutoff);
+        if (oldest == null) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(oldest); HistoryTable.startOf(month).isBefore(cutoff); month = month.plusMonths(1)) {
+            rotate(table, month);
+        }
+    }
+
+    @Override
+    public List<String> sources(HistoryTable table, List<YearMonth> months) {
+        if (!table.rotatable()) {
+            return List.of(table.tableName());
+        }
+        List<String> sources = new ArrayList<>(months.size() + 1);
+        for (YearMonth month : months) {
+            sources.add(rotatedTableName(table, month));
+        }
+        // 회전되지 않은 최근 기간은 본 테이블에 있음
+        sources.add(table.tableName());
+        return sources;
+    }
+
+    @Override
+    public void dropPartition(HistoryTable table, YearMonth month) {
+        if (!table.rotatable()) {
+            Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(
+                "DELETE FROM " + table.tableName() + " WHERE " + table.timeColumn() + " >= ? AND " + table.timeColumn() + " < ?",
+                HistoryTable.startOf(month), HistoryTable.startOf(month.plusMonths(1))));
+            log.info("본 테이블 기간 삭제 - {}, 월: {}, 삭제: {}건", table.tableName(), month, deleted);
+            return;
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + rotatedTableName(table, month));
+    }
+
+    /**
+     * 본 테이블에 행이 있는 월 (오래된 순, 옮기지 않는 테이블의 보관 대상)
+     */
+    private List<YearMonth> monthsInMainTable(HistoryTable table) {
+        String column = table.timeColumn();
+        List<Integer> periods = jdbcTemplate.queryForList(
+            "SELECT DISTINCT EXTRACT(YEAR FROM " + column + ") * 100 + EXTRACT(MONTH FROM " + column + ") AS period" +
+            " FROM " + table.tableName() + " WHERE " + column + " IS NOT NULL ORDER BY period", Integer.class);
+        return periods.stream()
+            .map(period -> YearMonth.of(period / 100, period % 100))
+            .toList();
+    }
+
+    /**
+     * 한 달치 행을 월 테이블로 이동
+     * DDL은 자동 커밋되므로 빈 월 테이블을 먼저 만들고, 복사와 삭제만 한 트랜잭션으로 묶는다.
+     * 중간에 실패해도 다시 실행하면 아직 옮겨지지 않은 행만 복사한다.
+     */
+    private void rotate(HistoryTable table, YearMonth month) {
+        String rotated = rotatedTableName(table, month);
+        String range = table.timeColumn() + " >= TIMESTAMP '" + HistoryTable.startOf(month).format(LITERAL_FORMAT) + "' AND " +
+            table.timeColumn() + " < TIMESTAMP '" + HistoryTable.startOf(month.plusMonths(1)).format(LITERAL_FORMAT) + "'";
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + rotated + " AS SELECT * FROM " + table.tableName() + " WHERE 1 = 0");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + rotated + "_owner_time ON " + rotated +
+            " (" + table.ownerColumn() + ", " + table.timeColumn() + ")");
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = jdbcTemplate.update("INSERT INTO " + rotated + " SELECT * FROM " + table.tableName() +
+                " WHERE " + range + " AND id NOT IN (SELECT id FROM " + rotated + ")");
+            jdbcTemplate.update("DELETE FROM " + table.tableName() + " WHERE " + range);
+            return copied;
+        });
+        log.info("테이블 회전 - {} -> {}, 이동: {}건", table.tableName(), rotated, moved);
+    }
+
+    static String rotatedTableName(HistoryTable table, YearMonth month) {
+        return table.tableName() + "_" + HistoryTable.partitionName(month);
+    }
+}
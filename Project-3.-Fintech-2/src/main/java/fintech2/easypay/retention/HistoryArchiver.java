@@ -0,0 +1,123 @@
+package fintech2.easypay.retention;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 월 파티션을 압축 파일로 내보내기
+ * 한 달치 행을 fetch size 단위로 읽어 gzip NDJSON(행당 JSON 한 줄, 컬럼명 그대로)으로 쓴다.
+ * 임시 파일에 다 쓴 뒤 이름을 바꾸므로 중간에 실패하면 완성된 보관 파일이 남지 않는다.
+ */
+@Component
+@Slf4j
+public class HistoryArchiver {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path archiveDir;
+
+    public HistoryArchiver(DataSource dataSource,
+                           ObjectMapper objectMapper,
+                           @Value("${retention.archive-dir:./data/archive}") String archiveDir) {
+        // MySQL은 useCursorFetch=true 접속 옵션이 있어야 fetch size가 적용된다
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+        this.archiveDir = Paths.get(archiveDir);
+    }
+
+    /**
+     * 한 달치 행을 보관 파일로 쓴다
+     * @param source 읽을 FROM 절 (PartitionStore.sources)
+     * @return 보관 파일과 행 수
+     */
+    public ArchivedPartition archive(HistoryTable table, YearMonth month, String source) {
+        Path dir = archiveDir.resolve(table.tableName());
+        Path target = dir.resolve(table.tableName() + "_" + HistoryTable.partitionName(month) + ".ndjson.gz");
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        long[] rows = {0};
+        try {
+            Files.createDirectories(dir);
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                streamingJdbcTemplate.query(
+                    "SELECT * FROM " + source + " WHERE " + table.timeColumn() + " >= ? AND " + table.timeColumn() + " < ?" +
+                    " ORDER BY " + table.timeColumn() + ", id",
+                    rs -> {
+                        ResultSetMetaData meta = rs.getMetaData();
+                        try {
+                            generator.writeStartObject();
+                            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                                writeField(generator, meta.getColumnLabel(i).toLowerCase(Locale.ROOT), rs.getObject(i));
+                            }
+                            generator.writeEndObject();
+                            generator.writeRaw('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    },
+                    HistoryTable.startOf(month), HistoryTable.startOf(month.plusMonths(1)));
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        log.info("파티션 보관 파일 생성 - 테이블: {}, 월: {}, 행: {}, 파일: {}", table.tableName(), month, rows[0], target);
+        return new ArchivedPartition(target, rows[0]);
+    }
+
+    private static void writeField(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else if (value instanceof BigDecimal decimal) {
+            generator.writeNumberField(name, decimal);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            generator.writeNumberField(name, ((Number) value).longValue());
+        } else if (value instanceof Boolean bool) {
+            generator.writeBooleanField(name, bool);
+        } else if (value instanceof Timestamp timestamp) {
+            generator.writeStringField(name, timestamp.toLocalDateTime().toString());
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 보관 파일 삭제 실패 - 파일: {}", path);
+        }
+    }
+
+    public record ArchivedPartition(Path file, long rows) {
+    }
+}
@@ -0,0 +1,127 @@
+package fintech2.easypay.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이력 테이블 파티션 관리와 보관
+ * 기동 직후와 매일 한 번 테이블별로 파티션을 준비(MySQL: 미리 생성, H2: 테이블 회전)하고,
+ * 보관 기간(hot-months, 이번 달 포함)이 지난 월 파티션은 압축 파일로 내보낸 뒤 삭제한다.
+ * 오래된 행을 DELETE하지 않고 파티션째 떼어내므로 테이블이 커져도 insert/조회 비용과 정리 비용이 일정하다.
+ * 보관한 파일은 history_archive 테이블에 기록한다.
+ */
+@Service
+@ConditionalOnProperty(name = "retention.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class HistoryRetentionService {
+
+    private final PartitionStore partitionStore;
+    private final PartitionRouter partitionRouter;
+    private final HistoryArchiver historyArchiver;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int premakeMonths;
+    private final Map<HistoryTable, Integer> hotMonths = new EnumMap<>(HistoryTable.class);
+
+    public HistoryRetentionService(PartitionStore partitionStore,
+                                   PartitionRouter partitionRouter,
+                                   HistoryArchiver historyArchiver,
+                                   JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${retention.premake-months:3}") int premakeMonths,
+                                   @Value("${retention.audit-logs.hot-months:24}") int auditLogsHotMonths,
+                                   @Value("${retention.login-history.hot-months:12}") int loginHistoryHotMonths,
+                                   @Value("${retention.transaction-history.hot-months:60}") int transactionHistoryHotMonths) {
+        this.partitionStore = partitionStore;
+        this.partitionRouter = partitionRouter;
+        this.historyArchiver = historyArchiver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.premakeMonths = premakeMonths;
+        this.hotMonths.put(HistoryTable.AUDIT_LOGS, auditLogsHotMonths);
+        this.hotMonths.put(HistoryTable.LOGIN_HISTORY, loginHistoryHotMonths);
+        this.hotMonths.put(HistoryTable.TRANSACTION_HISTORY, transactionHistoryHotMonths);
+    }
+
+    // 테이블이 모두 만들어진 뒤(Flyway, Hibernate DDL 이후) 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runMaintenance();
+    }
+
+    @Scheduled(cron = "${retention.cron:0 0 4 * * ?}") // 매일 새벽 4시
+    public void runMaintenance() {
+        YearMonth currentMonth = YearMonth.now();
+        for (HistoryTable table : HistoryTable.values()) {
+            try {
+                maintain(table, currentMonth);
+            } catch (Exception e) {
+                // 한 테이블 실패가 다른 테이블 정리를 막지 않도록 다음 주기에 다시 시도
+                log.error("이력 테이블 파티션 관리 실패 - 테이블: {}, 오류: {}", table.tableName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 파티션 준비 후 보관 기간이 지난 월 파티션 보관
+     * @return 보관한 파티션 수
+     */
+    public int maintain(HistoryTable table, YearMonth currentMonth) {
+        partitionStore.preparePartitions(table, currentMonth, premakeMonths);
+        partitionRouter.refresh(table);
+
+        YearMonth oldestHot = currentMonth.minusMonths(Math.max(1, hotMonths.get(table)) - 1L);
+        int archived = 0;
+        for (YearMonth month : partitionStore.listPartitions(table)) {
+            if (!month.isBefore(oldestHot)) {
+                break;
+            }
+            archivePartition(table, month);
+            archived++;
+        }
+        if (archived > 0) {
+            partitionRouter.refresh(table);
+        }
+        return archived;
+    }
+
+    private void archivePartition(HistoryTable table, YearMonth month) {
+        // 월 소스가 맨 앞 (H2: 월 테이블, MySQL: 시각 조건으로 해당 파티션만 읽는 본 테이블)
+        String source = partitionStore.sources(table, List.of(month)).get(0);
+        Long expected = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + source + " WHERE " + table.timeColumn() + " >= ? AND " + table.timeColumn() + " < ?",
+            Long.class, HistoryTable.startOf(month), HistoryTable.startOf(month.plusMonths(1)));
+
+        HistoryArchiver.ArchivedPartition archived = historyArchiver.archive(table, month, source);
+        if (expected == null || archived.rows() != expected) {
+            // 파일과 행 수가 다르면 파티션을 남겨두고 다음 주기에 다시 시도
+            throw new IllegalStateException("보관 파일 행 수 불일치 - 예상: " + expected + ", 기록: " + archived.rows());
+        }
+
+        partitionStore.dropPartition(table, month);
+        jdbcTemplate.update(
+            "INSERT INTO history_archive (table_name, period, row_count, file_path, archived_at) VALUES (?, ?, ?, ?, ?)",
+            table.tableName(), HistoryTable.partitionName(month).substring(1), archived.rows(),
+            archived.file().toString(), LocalDateTime.now());
+
+        Counter.builder("retention.archived.rows").tag("table", table.tableName())
+            .description("보관 파일로 옮긴 이력 행 수").register(meterRegistry).increment(archived.rows());
+        Counter.builder("retention.archived.partitions").tag("table", table.tableName())
+            .description("보관 후 삭제한 월 파티션 수").register(meterRegistry).increment();
+        log.info("월 파티션 보관 완료 - 테이블: {}, 월: {}, 행: {}", table.tableName(), month, archived.rows());
+    }
+}
@@ -0,0 +1,81 @@
+package fintech2.easypay.retention;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 월 단위로 파티션/보관하는 이력 테이블
+ * 세 테이블 모두 insert만 일어나고 시각 컬럼 기준으로 조회되므로 시각 컬럼을 파티션 키로 사용한다.
+ */
+public enum HistoryTable {
+
+    AUDIT_LOGS("audit_logs", "created_at", "user_id", true),
+    LOGIN_HISTORY("login_history", "login_at", "user_id", true),
+    // 거래내역 API(keyset)와 내보내기가 본 테이블을 JPA로 직접 조회하므로 H2에서도 월 테이블로 옮기지 않는다
+    TRANSACTION_HISTORY("transaction_history", "created_at", "account_number", false);
+
+    private final String tableName;
+    private final String timeColumn;
+    private final String ownerColumn;
+    private final boolean rotatable;
+
+    HistoryTable(String tableName, String timeColumn, String ownerColumn, boolean rotatable) {
+        this.tableName = tableName;
+        this.timeColumn = timeColumn;
+        this.ownerColumn = ownerColumn;
+        this.rotatable = rotatable;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String timeColumn() {
+        return timeColumn;
+    }
+
+    /**
+     * 조회 대상 소유자 컬럼 (사용자 ID 또는 계좌번호)
+     */
+    public String ownerColumn() {
+        return ownerColumn;
+    }
+
+    /**
+     * 파티션이 없는 DB(H2)에서 지난 달 행을 월 테이블로 옮겨도 되는지
+     * 본 테이블만 읽는 JPA 조회가 있으면 false (옮기면 그 조회에서 오래된 행이 빠진다)
+     */
+    public boolean rotatable() {
+        return rotatable;
+    }
+
+    /**
+     * 월 파티션 이름 (p202501)
+     */
+    public static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * 파티션 이름에서 월 추출 (월 파티션이 아니면 null)
+     */
+    public static YearMonth parsePartitionName(String name) {
+        if (name == null || name.length() != 7 || Character.toLowerCase(name.charAt(0)) != 'p') {
+            return null;
+        }
+        for (int i = 1; i < 7; i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return null;
+            }
+        }
+        int month = Integer.parseInt(name.substring(5, 7));
+        if (month < 1 || month > 12) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(name.substring(1, 5)), month);
+    }
+
+    public static LocalDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,99 @@
+package fintech2.easypay.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * MySQL 월 단위 RANGE COLUMNS 파티션 관리
+ * 마이그레이션(V5)은 MAXVALUE 파티션(p_future) 하나만 만들고, 월 파티션은 p_future를 REORGANIZE하여 미리 만든다.
+ * 미래 월은 비어 있으므로 REORGANIZE는 메타데이터 변경 수준으로 끝난다 (최초 1회만 기존 행을 월별로 나눈다).
+ */
+@Slf4j
+public class MySqlPartitionStore implements PartitionStore {
+
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MySqlPartitionStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<YearMonth> listPartitions(HistoryTable table) {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION",
+            String.class, table.tableName());
+        return names.stream()
+            .map(HistoryTable::parsePartitionName)
+            .filter(Objects::nonNull)
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    public void preparePartitions(HistoryTable table, YearMonth currentMonth, int premakeMonths) {
+        YearMonth through = currentMonth.plusMonths(premakeMonths);
+        List<YearMonth> existing = listPartitions(table);
+        YearMonth first;
+        if (existing.isEmpty()) {
+            // 최초 분할: p_future에 있는 가장 오래된 행의 월부터
+            LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + table.timeColumn() + ") FROM " + table.tableName(), LocalDateTime.class);
+            first = oldest != null ? YearMonth.from(oldest) : currentMonth;
+            if (first.isAfter(currentMonth)) {
+                first = currentMonth;
+            }
+        } else {
+            first = existing.get(existing.size() - 1).plusMonths(1);
+        }
+        if (first.isAfter(through)) {
+            return;
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(through); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        jdbcTemplate.execute(reorganizeSql(table, months));
+        log.info("파티션 생성 - 테이블: {}, 기간: {} ~ {}", table.tableName(), first, through);
+    }
+
+    /**
+     * 시각 컬럼 범위 조건으로 파티션 프루닝이 일어나므로 본 테이블 하나만 돌려준다
+     * (PARTITION 절로 직접 지정하면 조회 중 보관 작업이 파티션을 삭제할 때 오류가 난다).
+     */
+    @Override
+    public List<String> sources(HistoryTable table, List<YearMonth> months) {
+        return List.of(table.tableName());
+    }
+
+    @Override
+    public void dropPartition(HistoryTable table, YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " DROP PARTITION " + HistoryTable.partitionName(month));
+    }
+
+    /**
+     * p_future를 월 파티션들과 새 p_future로 나누는 DDL
+     */
+    static String reorganizeSql(HistoryTable table, List<YearMonth> months) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(table.tableName())
+            .append(" REORGANIZE PARTITION ").append(FUTURE_PARTITION).append(" INTO (");
+        for (YearMonth month : months) {
+            sql.append("PARTITION ").append(HistoryTable.partitionName(month))
+                .append(" VALUES LESS THAN ('")
+                .append(HistoryTable.startOf(month.plusMonths(1)).format(BOUNDARY_FORMAT))
+                .append("'), ");
+        }
+        return sql.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN (MAXVALUE))").toString();
+    }
+}
@@ -0,0 +1,43 @@
+package fintech2.easypay.retention;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간 조회를 해당 월 파티션으로 보내는 라우터
+ * 파티션 목록은 메모리에 두고, 파티션을 만들거나 지운 뒤 HistoryRetentionService가 refresh한다.
+ */
+@Component
+public class PartitionRouter {
+
+    private final PartitionStore partitionStore;
+    private final Map<HistoryTable, List<YearMonth>> partitions = new ConcurrentHashMap<>();
+
+    public PartitionRouter(PartitionStore partitionStore) {
+        this.partitionStore = partitionStore;
+    }
+
+    /**
+     * [from, to) 기간의 행을 읽을 FROM 절 목록
+     */
+    public List<String> sourcesFor(HistoryTable table, LocalDateTime from, LocalDateTime to) {
+        List<YearMonth> known = partitions.computeIfAbsent(table, partitionStore::listPartitions);
+        return partitionStore.sources(table, monthsOverlapping(known, from, to));
+    }
+
+    public void refresh(HistoryTable table) {
+        partitions.put(table, partitionStore.listPartitions(table));
+    }
+
+    static List<YearMonth> monthsOverlapping(List<YearMonth> months, LocalDateTime from, LocalDateTime to) {
+        return months.stream()
+            .filter(month -> HistoryTable.startOf(month).isBefore(to)
+                && HistoryTable.startOf(month.plusMonths(1)).isAfter(from))
+            .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package fintech2.easypay.retention;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DB별 월 파티션 관리
+ * MySQL은 RANGE COLUMNS 파티션, H2는 파티션이 없으므로 지난 달 행을 월 테이블로 옮기는 테이블 회전으로 구현한다.
+ */
+public interface PartitionStore {
+
+    /**
+     * 보관 대상이 될 수 있는 월 파티션 (오래된 순)
+     */
+    List<YearMonth> listPartitions(HistoryTable table);
+
+    /**
+     * 이번 달 기준으로 파티션 준비
+     * MySQL: 앞으로 premakeMonths개월치 파티션을 미리 만든다.
+     * H2: 본 테이블에 남길 기간이 지난 행을 월 테이블로 옮긴다.
+     */
+    void preparePartitions(HistoryTable table, YearMonth currentMonth, int premakeMonths);
+
+    /**
+     * 주어진 월들의 행을 읽을 FROM 절 목록
+     * MySQL은 본 테이블 하나(시각 조건으로 파티션 프루닝), H2는 월 테이블 목록과 본 테이블을 돌려준다.
+     */
+    List<String> sources(HistoryTable table, List<YearMonth> months);
+
+    /**
+     * 월 파티션 삭제 (보관 파일로 옮긴 뒤 호출)
+     */
+    void dropPartition(HistoryTable table, YearMonth month);
+}
@@ -0,0 +1,153 @@
+package fintech2.easypay.retention;
+
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.audit.entity.AuditLog;
+import fintech2.easypay.auth.entity.LoginHistory;
+import fintech2.easypay.common.AuditResult;
+import fintech2.easypay.common.LoginResult;
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션 인식 이력 조회 (기간 필수)
+ * 기간에 해당하는 월 파티션(H2는 월 테이블)만 읽고, 여러 곳이면 각 소스에서 최신순 limit건씩 읽어 UNION ALL로 합친다.
+ * 소유자 + 시각 인덱스 범위 스캔이 파티션 안에서만 일어나므로 테이블 전체 크기와 무관하게 조회 비용이 일정하다.
+ */
+@Repository
+public class PartitionedHistoryDao {
+
+    private static final RowMapper<LoginHistory> LOGIN_HISTORY_MAPPER = (rs, rowNum) -> LoginHistory.builder()
+        .id(rs.getLong("id"))
+        .phoneNumber(rs.getString("phone_number"))
+        .userId(longOrNull(rs, "user_id"))
+        .userAgent(rs.getString("user_agent"))
+        .ipAddress(rs.getString("ip_address"))
+        .result(enumOrNull(LoginResult.class, rs.getString("result")))
+        .failReason(rs.getString("fail_reason"))
+        .failCount(intOrNull(rs, "fail_count"))
+        .isLocked(rs.getBoolean("is_locked"))
+        .loginAt(timeOrNull(rs, "login_at"))
+        .build();
+
+    private static final RowMapper<AuditLog> AUDIT_LOG_MAPPER = (rs, rowNum) -> {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setId(rs.getLong("id"));
+        auditLog.setUserId(longOrNull(rs, "user_id"));
+        auditLog.setAction(rs.getString("action"));
+        auditLog.setResourceType(rs.getString("resource_type"));
+        auditLog.setResourceId(rs.getString("resource_id"));
+        auditLog.setOldValue(rs.getString("old_value"));
+        auditLog.setNewValue(rs.getString("new_value"));
+        auditLog.setIpAddress(rs.getString("ip_address"));
+        auditLog.setUserAgent(rs.getString("user_agent"));
+        auditLog.setResult(enumOrNull(AuditResult.class, rs.getString("result")));
+        auditLog.setCreatedAt(timeOrNull(rs, "created_at"));
+        return auditLog;
+    };
+
+    private static final RowMapper<TransactionHistory> TRANSACTION_HISTORY_MAPPER = (rs, rowNum) -> TransactionHistory.builder()
+        .id(rs.getLong("id"))
+        .accountNumber(rs.getString("account_number"))
+        .transactionType(enumOrNull(TransactionType.class, rs.getString("transaction_type")))
+        .amount(rs.getBigDecimal("amount"))
+        .balanceBefore(rs.getBigDecimal("balance_before"))
+        .balanceAfter(rs.getBigDecimal("balance_after"))
+        .description(rs.getString("description"))
+        .referenceId(rs.getString("reference_id"))
+        .status(enumOrNull(TransactionStatus.class, rs.getString("status")))
+        .createdAt(timeOrNull(rs, "created_at"))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionRouter partitionRouter;
+
+    public PartitionedHistoryDao(JdbcTemplate jdbcTemplate, PartitionRouter partitionRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionRouter = partitionRouter;
+    }
+
+    /**
+     * 사용자 로그인 이력 (login_at 내림차순)
+     */
+    public List<LoginHistory> findLoginHistory(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        return findLatest(HistoryTable.LOGIN_HISTORY, userId, from, to, limit, LOGIN_HISTORY_MAPPER);
+    }
+
+    /**
+     * 사용자 감사 로그 (created_at 내림차순)
+     */
+    public List<AuditLog> findAuditLogs(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        return findLatest(HistoryTable.AUDIT_LOGS, userId, from, to, limit, AUDIT_LOG_MAPPER);
+    }
+
+    /**
+     * 계좌 거래내역 (created_at 내림차순)
+     */
+    public List<TransactionHistory> findTransactionHistory(String accountNumber, LocalDateTime from, LocalDateTime to, int limit) {
+        return findLatest(HistoryTable.TRANSACTION_HISTORY, accountNumber, from, to, limit, TRANSACTION_HISTORY_MAPPER);
+    }
+
+    private <T> List<T> findLatest(HistoryTable table, Object owner, LocalDateTime from, LocalDateTime to,
+                                   int limit, RowMapper<T> rowMapper) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다");
+        }
+        List<String> sources = partitionRouter.sourcesFor(table, from, to);
+        if (sources.isEmpty()) {
+            return List.of();
+        }
+        String orderBy = " ORDER BY " + table.timeColumn() + " DESC, id DESC";
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder();
+        for (String source : sources) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("(SELECT * FROM ").append(source)
+                .append(" WHERE ").append(table.ownerColumn()).append(" = ?")
+                .append(" AND ").append(table.timeColumn()).append(" >= ?")
+                .append(" AND ").append(table.timeColumn()).append(" < ?")
+                .append(orderBy).append(" LIMIT ?)");
+            args.add(owner);
+            args.add(from);
+            args.add(to);
+            args.add(limit);
+        }
+        String query = sources.size() == 1
+            ? sql.substring(1, sql.length() - 1)
+            : "SELECT * FROM (" + sql + ") merged" + orderBy + " LIMIT ?";
+        if (sources.size() > 1) {
+            args.add(limit);
+        }
+        return jdbcTemplate.query(query, rowMapper, args.toArray());
+    }
+
+    private static Long longOrNull(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer intOrNull(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime timeOrNull(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
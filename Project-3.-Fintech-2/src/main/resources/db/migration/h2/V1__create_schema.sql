@@ -0,0 +1,94 @@
+-- 기본 스키마 (스키마는 Flyway가 관리, Hibernate는 DDL을 실행하지 않음: spring.jpa.hibernate.ddl-auto=none)
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    phone_number VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    account_number VARCHAR(255) NOT NULL,
+    login_fail_count INTEGER,
+    is_locked BOOLEAN NOT NULL,
+    lock_expires_at TIMESTAMP(6),
+    lock_reason VARCHAR(255),
+    CONSTRAINT uk_users_phone_number UNIQUE (phone_number)
+);
+-- 계좌번호로 소유자 조회 (이체 입금 알림 대상)
+CREATE INDEX IF NOT EXISTS idx_users_account_number ON users (account_number);
+
+CREATE TABLE IF NOT EXISTS virtual_accounts (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(255),
+    CONSTRAINT uk_virtual_accounts_account_number UNIQUE (account_number)
+);
+
+CREATE TABLE IF NOT EXISTS account_balances (
+    account_number VARCHAR(255) NOT NULL PRIMARY KEY,
+    balance NUMERIC(15, 2),
+    version INTEGER,
+    updated_at TIMESTAMP(6)
+);
+
+-- 이력성 엔티티 ID 시퀀스 (JPA allocationSize = 50, pooled-lo)
+CREATE SEQUENCE IF NOT EXISTS transaction_history_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS login_history_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT NOT NULL PRIMARY KEY,
+    token VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    is_revoked BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    revoked_at TIMESTAMP(6),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token)
+);
+
+-- 이력 테이블은 MySQL 월 파티션과 같은 키 구성(id, 시각)으로 생성 (엔티티도 같은 복합 키로 매핑)
+CREATE TABLE IF NOT EXISTS transaction_history (
+    id BIGINT NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    transaction_type VARCHAR(255),
+    amount NUMERIC(15, 2),
+    balance_before NUMERIC(15, 2),
+    balance_after NUMERIC(15, 2),
+    description VARCHAR(255),
+    reference_id VARCHAR(255),
+    status VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+);
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id BIGINT NOT NULL,
+    user_id BIGINT,
+    action VARCHAR(255),
+    resource_type VARCHAR(255),
+    resource_id VARCHAR(255),
+    old_value TEXT,
+    new_value TEXT,
+    ip_address VARCHAR(255),
+    user_agent VARCHAR(255),
+    result VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+);
+
+CREATE TABLE IF NOT EXISTS login_history (
+    id BIGINT NOT NULL,
+    phone_number VARCHAR(255),
+    user_id BIGINT,
+    user_agent VARCHAR(255),
+    ip_address VARCHAR(255),
+    result VARCHAR(255),
+    fail_reason VARCHAR(255),
+    fail_count INTEGER,
+    is_locked BOOLEAN NOT NULL,
+    login_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, login_at)
+);
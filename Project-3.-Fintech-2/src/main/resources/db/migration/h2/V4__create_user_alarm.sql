@@ -0,0 +1,16 @@
+-- 사용자 알림 영구 저장 (메모리 알림 버퍼는 이 테이블의 최근 구간 캐시)
+CREATE SEQUENCE IF NOT EXISTS user_alarm_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS user_alarm (
+    id BIGINT NOT NULL PRIMARY KEY,
+    user_id VARCHAR(50) NOT NULL,
+    seq BIGINT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    message VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+-- 사용자 최신 알림 복원용
+CREATE INDEX IF NOT EXISTS idx_user_alarm_user_seq ON user_alarm (user_id, seq);
+-- 보관 기간 정리용
+CREATE INDEX IF NOT EXISTS idx_user_alarm_created ON user_alarm (created_at);
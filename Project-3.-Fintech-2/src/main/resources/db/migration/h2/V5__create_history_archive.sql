@@ -0,0 +1,10 @@
+-- 보관 파일 목록
+-- H2는 파티션을 지원하지 않으므로 이력 테이블 월 분할은 H2TableRotationStore가 실행 중에 월 테이블로 옮겨 처리
+CREATE TABLE IF NOT EXISTS history_archive (
+    table_name VARCHAR(64) NOT NULL,
+    period CHAR(6) NOT NULL,
+    row_count BIGINT NOT NULL,
+    file_path VARCHAR(1000) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (table_name, period)
+);
@@ -0,0 +1,102 @@
+-- 기본 스키마 (스키마는 Flyway가 관리, Hibernate는 DDL을 실행하지 않음: spring.jpa.hibernate.ddl-auto=none)
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    phone_number VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    account_number VARCHAR(255) NOT NULL,
+    login_fail_count INT,
+    is_locked BIT NOT NULL,
+    lock_expires_at DATETIME(6),
+    lock_reason VARCHAR(255),
+    CONSTRAINT uk_users_phone_number UNIQUE (phone_number),
+    -- 계좌번호로 소유자 조회 (이체 입금 알림 대상)
+    INDEX idx_users_account_number (account_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS virtual_accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(255),
+    CONSTRAINT uk_virtual_accounts_account_number UNIQUE (account_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS account_balances (
+    account_number VARCHAR(255) NOT NULL PRIMARY KEY,
+    balance DECIMAL(15, 2),
+    version INT,
+    updated_at DATETIME(6)
+) ENGINE = InnoDB;
+
+-- 이력성 엔티티 ID 시퀀스 (JPA allocationSize = 50, pooled-lo)
+-- MySQL은 시퀀스가 없으므로 Hibernate 시퀀스 에뮬레이션 테이블(next_val 단일 행)로 생성
+CREATE TABLE IF NOT EXISTS transaction_history_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+INSERT INTO transaction_history_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS audit_logs_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+INSERT INTO audit_logs_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS login_history_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+INSERT INTO login_history_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+INSERT INTO refresh_tokens_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT NOT NULL PRIMARY KEY,
+    token VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    is_revoked BIT NOT NULL,
+    created_at DATETIME(6),
+    revoked_at DATETIME(6),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token)
+) ENGINE = InnoDB;
+
+-- 이력 테이블은 월 파티션 키(시각)를 포함한 PK (id, 시각)로 생성 (파티션은 V5, 엔티티도 같은 복합 키로 매핑)
+CREATE TABLE IF NOT EXISTS transaction_history (
+    id BIGINT NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    transaction_type VARCHAR(255),
+    amount DECIMAL(15, 2),
+    balance_before DECIMAL(15, 2),
+    balance_after DECIMAL(15, 2),
+    description VARCHAR(255),
+    reference_id VARCHAR(255),
+    status VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id BIGINT NOT NULL,
+    user_id BIGINT,
+    action VARCHAR(255),
+    resource_type VARCHAR(255),
+    resource_id VARCHAR(255),
+    old_value TEXT,
+    new_value TEXT,
+    ip_address VARCHAR(255),
+    user_agent VARCHAR(255),
+    result VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS login_history (
+    id BIGINT NOT NULL,
+    phone_number VARCHAR(255),
+    user_id BIGINT,
+    user_agent VARCHAR(255),
+    ip_address VARCHAR(255),
+    result VARCHAR(255),
+    fail_reason VARCHAR(255),
+    fail_count INT,
+    is_locked BIT NOT NULL,
+    login_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, login_at)
+) ENGINE = InnoDB;
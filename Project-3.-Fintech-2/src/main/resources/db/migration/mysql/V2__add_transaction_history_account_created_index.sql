@@ -0,0 +1,3 @@
+-- 계좌별 최신순 keyset 조회용 복합 인덱스 (account_number, created_at, id)
+CREATE INDEX idx_transaction_history_account_created
+    ON transaction_history (account_number, created_at, id);
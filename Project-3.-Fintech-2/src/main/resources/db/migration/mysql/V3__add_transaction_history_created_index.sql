@@ -0,0 +1,3 @@
+-- 전체 계좌 일별 거래내역 내보내기용 인덱스 (created_at, id)
+CREATE INDEX idx_transaction_history_created
+    ON transaction_history (created_at, id);
@@ -0,0 +1,16 @@
+-- 사용자 알림 영구 저장 (메모리 알림 버퍼는 이 테이블의 최근 구간 캐시)
+CREATE TABLE IF NOT EXISTS user_alarm_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+INSERT INTO user_alarm_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS user_alarm (
+    id BIGINT NOT NULL PRIMARY KEY,
+    user_id VARCHAR(50) NOT NULL,
+    seq BIGINT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    message VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    -- 사용자 최신 알림 복원용
+    INDEX idx_user_alarm_user_seq (user_id, seq),
+    -- 보관 기간 정리용 (PK 범위 삭제의 상한 id 조회)
+    INDEX idx_user_alarm_created (created_at)
+) ENGINE = InnoDB;
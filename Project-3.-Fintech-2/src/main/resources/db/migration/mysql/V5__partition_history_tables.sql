@@ -0,0 +1,29 @@
+-- 이력 테이블 월 단위 RANGE 파티션 (보관 기간이 지난 달은 파일로 보관 후 DROP PARTITION)
+-- 파티션 키는 모든 유니크 키에 포함되어야 하므로 세 테이블은 V1에서 PK (id, 시각)으로 생성
+-- 월 파티션은 HistoryRetentionService가 p_future를 나누어 미리 만든다
+
+CREATE INDEX idx_audit_logs_user_created ON audit_logs (user_id, created_at);
+CREATE INDEX idx_audit_logs_action_created ON audit_logs (action, created_at);
+ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+CREATE INDEX idx_login_history_user_login ON login_history (user_id, login_at);
+CREATE INDEX idx_login_history_phone_login ON login_history (phone_number, login_at);
+ALTER TABLE login_history PARTITION BY RANGE COLUMNS (login_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE transaction_history PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 보관 파일 목록
+CREATE TABLE IF NOT EXISTS history_archive (
+    table_name VARCHAR(64) NOT NULL,
+    period CHAR(6) NOT NULL,
+    row_count BIGINT NOT NULL,
+    file_path VARCHAR(1000) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (table_name, period)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- 사용자별 알림 순번 카운터 (노드가 여러 개여도 순번이 겹치지 않도록 DB 행 락으로 발급)
+CREATE TABLE IF NOT EXISTS user_alarm_counter (
+    user_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    last_seq BIGINT NOT NULL,
+    read_seq BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+-- 기존 알림은 읽은 것으로 보고 마지막 순번부터 이어서 발급
+INSERT INTO user_alarm_counter (user_id, last_seq, read_seq)
+SELECT user_id, MAX(seq), MAX(seq) FROM user_alarm GROUP BY user_id;
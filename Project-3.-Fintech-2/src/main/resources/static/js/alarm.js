@@ -4,6 +4,7 @@ document.addEventListener('DOMContentLoaded', function() {
     loadBalance();
     loadAlarms();
     loadTransactions();
+    subscribeAlarms();
 });
 
 // 페이징 관련 변수
@@ -11,6 +12,7 @@ let currentPage = 1;
 let pageSize = 10;
 let allAlarms = [];
 let filteredAlarms = [];
+let currentCategory = 'all';
 
 // 인증 확인
 function checkAuth() {
@@ -147,6 +149,30 @@ async function loadAlarms() {
     }
 }
 
+// 실시간 알림 구독 (SSE) - 새 알림을 목록 맨 앞에 추가
+function subscribeAlarms() {
+    const token = localStorage.getItem('accessToken');
+    
+    if (!token || !window.EventSource) {
+        return;
+    }
+    
+    const source = new EventSource(`/api/alarms/stream?access_token=${encodeURIComponent(token)}`);
+    source.addEventListener('alarm', function(event) {
+        const alarm = JSON.parse(event.data);
+        if (allAlarms.some(existing => existing.id === alarm.id)) {
+            return;
+        }
+        allAlarms.unshift(alarm);
+        if (currentCategory === 'all' || currentCategory === alarm.category) {
+            filteredAlarms.unshift(alarm);
+        }
+        displayAlarmsPage();
+        // 알림 화면을 보고 있으므로 바로 읽음 처리
+        markAlarmsAsRead();
+    });
+}
+
 // 현재 페이지의 알림 표시
 function displayAlarmsPage() {
     const startIndex = (currentPage - 1) * pageSize;
@@ -207,8 +233,8 @@ async function loadTransactions() {
         });
         
         if (response.ok) {
-            const transactions = await response.json();
-            displayTransactions(transactions);
+            const page = await response.json();
+            displayTransactions(page.items);
         } else {
             console.error('Transaction load error:', response.status);
             showAlert('거래내역을 불러올 수 없습니다.');
@@ -321,6 +347,7 @@ function displayAlarms(alarms) {
 
 // 알림 필터링
 async function filterAlarms(category) {
+    currentCategory = category;
     const token = localStorage.getItem('accessToken');
     
     try {
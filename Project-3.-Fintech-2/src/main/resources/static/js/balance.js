@@ -143,8 +143,8 @@ async function loadTransactionHistory() {
         });
 
         if (response.ok) {
-            const transactions = await response.json();
-            displayTransactions(transactions);
+            const page = await response.json();
+            displayTransactions(page.items);
         } else {
             // 거래내역이 없는 경우
             document.getElementById('transactionList').innerHTML = 
@@ -3,6 +3,7 @@ document.addEventListener('DOMContentLoaded', function() {
     checkAuth();
     loadUserInfo();
     loadNotifications();
+    subscribeNotifications();
 });
 
 // 인증 확인
@@ -62,6 +63,24 @@ async function loadNotifications() {
     }
 }
 
+// 실시간 알림 구독 (SSE) - 새 알림이 오면 배지 개수 증가
+function subscribeNotifications() {
+    const token = localStorage.getItem('accessToken');
+    
+    if (!token || !window.EventSource) {
+        return;
+    }
+    
+    // 연결이 끊기면 브라우저가 Last-Event-ID와 함께 자동 재연결
+    const source = new EventSource(`/api/alarms/stream?access_token=${encodeURIComponent(token)}`);
+    source.addEventListener('alarm', function() {
+        const badge = document.getElementById('notificationBadge');
+        const count = (parseInt(badge.textContent, 10) || 0) + 1;
+        badge.textContent = count;
+        badge.style.display = 'flex';
+    });
+}
+
 // 알림 체크
 function checkNotifications() {
     alert('새로운 알림이 없습니다.');
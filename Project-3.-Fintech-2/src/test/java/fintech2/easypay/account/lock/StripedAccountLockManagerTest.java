@@ -0,0 +1,100 @@
+package fintech2.easypay.account.lock;
+
+import fintech2.easypay.common.exception.AccountLockTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedAccountLockManagerTest {
+
+    @Test
+    void 같은계좌_동시요청_직렬화() throws Exception {
+        // Given
+        StripedAccountLockManager lockManager = new StripedAccountLockManager(64, 5000, true, 100);
+        AtomicInteger inCriticalSection = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 100; j++) {
+                    try (AccountLockHandle ignored = lockManager.lock("VA12345678")) {
+                        int current = inCriticalSection.incrementAndGet();
+                        maxConcurrent.accumulateAndGet(current, Math::max);
+                        inCriticalSection.decrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, maxConcurrent.get());
+        assertEquals(800, lockManager.totalWaitSnapshot().count());
+    }
+
+    @Test
+    void 대기시간초과_예외발생_및_히스토그램기록() throws Exception {
+        // Given
+        StripedAccountLockManager lockManager = new StripedAccountLockManager(64, 50, true, 100);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (AccountLockHandle ignored = lockManager.lock("VA_HOT")) {
+                locked.countDown();
+                done.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holder.start();
+        locked.await(5, TimeUnit.SECONDS);
+
+        // When & Then
+        assertThrows(AccountLockTimeoutException.class, () -> lockManager.lock("VA_HOT"));
+        done.countDown();
+        holder.join();
+
+        LockWaitHistogram.Snapshot hot = lockManager.hotAccounts(10).get(0);
+        assertEquals("VA_HOT", hot.name());
+        assertEquals(1, hot.timeouts());
+    }
+
+    @Test
+    void 복수계좌_역순요청도_데드락없음() throws Exception {
+        // Given
+        StripedAccountLockManager lockManager = new StripedAccountLockManager(64, 5000, true, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When - A→B, B→A 순서로 동시에 락 요청
+        Future<?> first = executor.submit(() -> {
+            for (int i = 0; i < 500; i++) {
+                lockManager.lockAll(List.of("VA_A", "VA_B")).release();
+            }
+        });
+        Future<?> second = executor.submit(() -> {
+            for (int i = 0; i < 500; i++) {
+                lockManager.lockAll(List.of("VA_B", "VA_A")).release();
+            }
+        });
+
+        // Then
+        assertDoesNotThrow(() -> first.get(10, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> second.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
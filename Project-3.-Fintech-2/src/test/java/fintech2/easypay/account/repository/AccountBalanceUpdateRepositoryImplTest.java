@@ -0,0 +1,88 @@
+package fintech2.easypay.account.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조건부 잔액 갱신 쿼리 검증 (H2 인메모리 DB)
+ * UPDATE ... RETURNING 경로와 갱신 행 수 + SELECT 경로(MySQL 등)를 모두 확인
+ */
+class AccountBalanceUpdateRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:balance_update;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE account_balances (" +
+            "account_number VARCHAR(255) PRIMARY KEY, balance DECIMAL(15,2), " +
+            "version INT, updated_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO account_balances VALUES ('VA12345678', 30000.00, 0, CURRENT_TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE account_balances");
+    }
+
+    @Test
+    void 잔액을_정확히0으로_만드는_출금_성공_UPDATE_RETURNING() {
+        // Given
+        AccountBalanceUpdateRepositoryImpl repository = new AccountBalanceUpdateRepositoryImpl(jdbcTemplate, true);
+
+        // When
+        Optional<BigDecimal> balance = repository.addAndGetBalance("VA12345678", new BigDecimal("-30000"));
+
+        // Then
+        assertTrue(balance.isPresent());
+        assertEquals(0, balance.get().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void 잔액을_정확히0으로_만드는_출금_성공_갱신행수_후속조회() {
+        // Given
+        AccountBalanceUpdateRepositoryImpl repository = new AccountBalanceUpdateRepositoryImpl(jdbcTemplate, false);
+
+        // When
+        Optional<BigDecimal> balance = repository.addAndGetBalance("VA12345678", new BigDecimal("-30000"));
+
+        // Then - 갱신 결과가 0이어도 잔액 부족으로 처리하지 않음
+        assertTrue(balance.isPresent());
+        assertEquals(0, balance.get().compareTo(BigDecimal.ZERO));
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT version FROM account_balances WHERE account_number = 'VA12345678'", Integer.class));
+    }
+
+    @Test
+    void 소수점잔액_그대로_반환_갱신행수_후속조회() {
+        // Given
+        AccountBalanceUpdateRepositoryImpl repository = new AccountBalanceUpdateRepositoryImpl(jdbcTemplate, false);
+
+        // When
+        Optional<BigDecimal> balance = repository.addAndGetBalance("VA12345678", new BigDecimal("-0.55"));
+
+        // Then
+        assertEquals(new BigDecimal("29999.45"), balance.orElseThrow());
+    }
+
+    @Test
+    void 잔액부족_또는_계좌없음이면_empty_갱신행수_후속조회() {
+        // Given
+        AccountBalanceUpdateRepositoryImpl repository = new AccountBalanceUpdateRepositoryImpl(jdbcTemplate, false);
+
+        // When & Then
+        assertTrue(repository.addAndGetBalance("VA12345678", new BigDecimal("-30000.01")).isEmpty());
+        assertTrue(repository.addAndGetBalance("VA00000000", new BigDecimal("-1")).isEmpty());
+        assertEquals(0, new BigDecimal("30000").compareTo(jdbcTemplate.queryForObject(
+            "SELECT balance FROM account_balances WHERE account_number = 'VA12345678'", BigDecimal.class)));
+    }
+}
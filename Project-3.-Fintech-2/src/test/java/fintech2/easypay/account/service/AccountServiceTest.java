@@ -1,23 +1,35 @@
 package fintech2.easypay.account.service;
 
-import fintech2.easypay.account.entity.AccountBalance;
-import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.dto.TransactionCursor;
+import fintech2.easypay.account.dto.TransactionPageResponse;
+import fintech2.easypay.account.dto.TransactionResponse;
+import fintech2.easypay.account.dto.TransactionSearchCondition;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.audit.service.AuditLogService;
-import org.junit.jupiter.api.BeforeEach;
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,102 +42,162 @@ class AccountServiceTest {
     @Mock
     private TransactionHistoryRepository transactionHistoryRepository;
 
+    @Mock
+    private BalanceService balanceService;
+
+    @Mock
+    private ObjectProvider<GroupCommitBalanceService> groupCommitBalanceService;
+
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private AlarmService alarmService;
+
     @InjectMocks
     private AccountService accountService;
 
-    private AccountBalance testAccount;
-
-    @BeforeEach
-    void setUp() {
-        testAccount = new AccountBalance();
-        testAccount.setAccountNumber("VA12345678");
-        testAccount.setBalance(new BigDecimal("50000"));
-    }
-
     @Test
     void 잔액조회_성공() {
         // Given
-        when(accountBalanceRepository.findById("VA12345678")).thenReturn(Optional.of(testAccount));
+        when(balanceService.getBalance("VA12345678")).thenReturn(new BigDecimal("50000"));
 
         // When
         ResponseEntity<?> response = accountService.getBalance("VA12345678", "Bearer token");
 
         // Then
-        assertEquals(200, response.getStatusCodeValue());
-        assertNotNull(response.getBody());
+        assertEquals(200, response.getStatusCode().value());
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertEquals(new BigDecimal("50000"), body.get("balance"));
     }
 
     @Test
     void 잔액조회_계좌없음() {
         // Given
-        when(accountBalanceRepository.findById("VA12345678")).thenReturn(Optional.empty());
+        when(balanceService.getBalance("VA12345678"))
+            .thenThrow(new AccountNotFoundException("계좌를 찾을 수 없습니다: VA12345678"));
 
-        // When
-        ResponseEntity<?> response = accountService.getBalance("VA12345678", "Bearer token");
-
-        // Then
-        assertEquals(404, response.getStatusCodeValue());
+        // When & Then - GlobalExceptionHandler가 404로 변환
+        assertThrows(AccountNotFoundException.class,
+            () -> accountService.getBalance("VA12345678", "Bearer token"));
     }
 
     @Test
     void 잔액증감_입금_성공() {
         // Given
-        when(accountBalanceRepository.findById("VA12345678")).thenReturn(Optional.of(testAccount));
-        when(accountBalanceRepository.save(any(AccountBalance.class))).thenReturn(testAccount);
+        when(balanceService.increase(eq("VA12345678"), eq(new BigDecimal("10000")), eq(TransactionType.DEPOSIT),
+                eq("테스트 입금"), anyString(), eq("1")))
+            .thenReturn(new BalanceService.BalanceChangeResult("VA12345678", new BigDecimal("50000"),
+                new BigDecimal("60000"), new BigDecimal("10000"), TransactionType.DEPOSIT, "LEGACY_1"));
 
         // When
         ResponseEntity<?> response = accountService.updateBalance(
-            "VA12345678", 
-            new BigDecimal("10000"), 
-            "DEPOSIT", 
-            "테스트 입금"
+            "VA12345678",
+            new BigDecimal("10000"),
+            "DEPOSIT",
+            "테스트 입금",
+            "1"
         );
 
         // Then
-        assertEquals(200, response.getStatusCodeValue());
-        verify(accountBalanceRepository).save(any(AccountBalance.class));
-        verify(transactionHistoryRepository).save(any(TransactionHistory.class));
-        verify(auditLogService).logSuccess(any(), eq("BALANCE_UPDATE"), eq("ACCOUNT"), eq("VA12345678"), any(), any());
+        assertEquals(200, response.getStatusCode().value());
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertEquals(new BigDecimal("60000"), body.get("balanceAfter"));
     }
 
     @Test
     void 잔액증감_출금_잔액부족() {
         // Given
-        when(accountBalanceRepository.findById("VA12345678")).thenReturn(Optional.of(testAccount));
+        when(balanceService.decrease(eq("VA12345678"), eq(new BigDecimal("60000")), eq(TransactionType.WITHDRAWAL),
+                eq("테스트 출금"), anyString(), eq("1")))
+            .thenThrow(new InsufficientBalanceException("잔액이 부족합니다"));
+
+        // When & Then - 잔액보다 큰 출금은 GlobalExceptionHandler가 400으로 변환
+        assertThrows(InsufficientBalanceException.class, () -> accountService.updateBalance(
+            "VA12345678",
+            new BigDecimal("-60000"),
+            "WITHDRAWAL",
+            "테스트 출금",
+            "1"
+        ));
+        verify(auditLogService, never()).logError(any(), any(), any(), any(), any(Exception.class));
+    }
+
+    @Test
+    void 잔액증감_출금_성공() {
+        // Given
+        when(balanceService.decrease(eq("VA12345678"), eq(new BigDecimal("30000")), eq(TransactionType.WITHDRAWAL),
+                eq("테스트 출금"), anyString(), eq("1")))
+            .thenReturn(new BalanceService.BalanceChangeResult("VA12345678", new BigDecimal("50000"),
+                new BigDecimal("20000"), new BigDecimal("-30000"), TransactionType.WITHDRAWAL, "LEGACY_1"));
 
         // When
         ResponseEntity<?> response = accountService.updateBalance(
-            "VA12345678", 
-            new BigDecimal("-60000"), // 잔액보다 큰 출금
-            "WITHDRAW", 
-            "테스트 출금"
+            "VA12345678",
+            new BigDecimal("-30000"),
+            "WITHDRAWAL",
+            "테스트 출금",
+            "1"
         );
 
         // Then
-        assertEquals(400, response.getStatusCodeValue());
-        verify(auditLogService).logWarning(any(), eq("BALANCE_INSUFFICIENT"), eq("ACCOUNT"), eq("VA12345678"), any());
+        assertEquals(200, response.getStatusCode().value());
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertEquals(new BigDecimal("20000"), body.get("balanceAfter"));
+        verify(balanceService, never()).increase(any(), any(), any(), any(), any(), any());
     }
 
     @Test
-    void 잔액증감_출금_성공() {
+    void 거래내역_커서페이지_다음페이지있음() {
+        // Given - size + 1건이 조회되면 다음 페이지가 있음
+        TransactionSearchCondition condition = new TransactionSearchCondition();
+        condition.setSize(2);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(transactionHistoryRepository.findPage(eq("VA12345678"), eq(condition), isNull(), eq(3)))
+            .thenReturn(new ArrayList<>(List.of(
+                TransactionResponse.builder().id(30L).createdAt(now).build(),
+                TransactionResponse.builder().id(20L).createdAt(now.minusMinutes(1)).build(),
+                TransactionResponse.builder().id(10L).createdAt(now.minusMinutes(2)).build())));
+
+        // When
+        ResponseEntity<?> response = accountService.getTransactionHistory("VA12345678", condition);
+
+        // Then
+        TransactionPageResponse page = (TransactionPageResponse) response.getBody();
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        TransactionCursor cursor = TransactionCursor.decode(page.getNextCursor());
+        assertEquals(20L, cursor.id());
+        assertEquals(now.minusMinutes(1), cursor.createdAt());
+    }
+
+    @Test
+    void 거래내역_마지막페이지() {
         // Given
-        when(accountBalanceRepository.findById("VA12345678")).thenReturn(Optional.of(testAccount));
-        when(accountBalanceRepository.save(any(AccountBalance.class))).thenReturn(testAccount);
+        TransactionSearchCondition condition = new TransactionSearchCondition();
+        condition.setCursor(new TransactionCursor(LocalDateTime.of(2025, 1, 1, 12, 0), 20L).encode());
+        when(transactionHistoryRepository.findPage(eq("VA12345678"), eq(condition), any(TransactionCursor.class), eq(21)))
+            .thenReturn(List.of(TransactionResponse.builder().id(10L).createdAt(LocalDateTime.of(2025, 1, 1, 11, 0)).build()));
 
         // When
-        ResponseEntity<?> response = accountService.updateBalance(
-            "VA12345678", 
-            new BigDecimal("-30000"), 
-            "WITHDRAW", 
-            "테스트 출금"
-        );
+        ResponseEntity<?> response = accountService.getTransactionHistory("VA12345678", condition);
 
         // Then
-        assertEquals(200, response.getStatusCodeValue());
-        verify(accountBalanceRepository).save(any(AccountBalance.class));
-        verify(transactionHistoryRepository).save(any(TransactionHistory.class));
+        TransactionPageResponse page = (TransactionPageResponse) response.getBody();
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void 거래내역_잘못된커서() {
+        // Given
+        TransactionSearchCondition condition = new TransactionSearchCondition();
+        condition.setCursor("not-a-cursor");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> accountService.getTransactionHistory("VA12345678", condition));
+        verify(transactionHistoryRepository, never()).findPage(any(), any(), any(), anyInt());
     }
-} 
\ No newline at end of file
+}
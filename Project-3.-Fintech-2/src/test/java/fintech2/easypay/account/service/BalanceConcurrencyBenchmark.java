@@ -0,0 +1,111 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.common.TransactionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 잔액 동시성 모드별 경합 벤치마크 (PESSIMISTIC / OPTIMISTIC / ADAPTIVE)
+ * 핫 계좌(소수 계좌에 요청 집중)와 콜드 계좌(다수 계좌에 분산) 시나리오의 처리량과 지연시간을 비교한다.
+ * 실행: ./gradlew benchmark --tests '*BalanceConcurrencyBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.fintech2.easypay=WARN",
+    "logging.level.org.springframework.security=WARN"
+})
+class BalanceConcurrencyBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS = 2_000;
+    private static final BigDecimal AMOUNT = new BigDecimal("100");
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceConcurrencyPolicy concurrencyPolicy;
+
+    @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Test
+    void 동시성모드별_경합_벤치마크() throws Exception {
+        System.out.printf("%-12s %-6s %10s %10s %10s %10s%n", "mode", "load", "ops/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (BalanceConcurrencyMode mode : BalanceConcurrencyMode.values()) {
+            run(mode, "hot", createAccounts(mode + "_HOT_", 4));
+            run(mode, "cold", createAccounts(mode + "_COLD_", 1_000));
+        }
+        concurrencyPolicy.setMode(BalanceConcurrencyMode.PESSIMISTIC);
+    }
+
+    private void run(BalanceConcurrencyMode mode, String load, List<String> accounts) throws Exception {
+        concurrencyPolicy.setMode(mode);
+        long[] latencies = new long[OPERATIONS];
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(OPERATIONS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            executor.submit(() -> {
+                int index = sequence.getAndIncrement();
+                String account = accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+                long opStart = System.nanoTime();
+                try {
+                    balanceService.increase(account, AMOUNT, TransactionType.DEPOSIT, "benchmark", "BENCH_" + index);
+                } finally {
+                    latencies[index] = System.nanoTime() - opStart;
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        // 갱신 유실 없음 검증
+        BigDecimal total = BigDecimal.ZERO;
+        for (AccountBalance account : accountBalanceRepository.findAllById(accounts)) {
+            total = total.add(account.getBalance());
+        }
+        assertEquals(0, AMOUNT.multiply(BigDecimal.valueOf(OPERATIONS)).compareTo(total));
+
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %-6s %10.0f %10.2f %10.2f %10.2f%n", mode, load,
+            OPERATIONS / (elapsed / 1_000_000_000.0),
+            latencies[OPERATIONS / 2] / 1_000_000.0,
+            latencies[(int) (OPERATIONS * 0.99)] / 1_000_000.0,
+            latencies[OPERATIONS - 1] / 1_000_000.0);
+    }
+
+    private List<String> createAccounts(String prefix, int count) {
+        List<AccountBalance> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(AccountBalance.builder()
+                .accountNumber(prefix + i)
+                .balance(BigDecimal.ZERO)
+                .build());
+        }
+        accountBalanceRepository.saveAll(accounts);
+        return accounts.stream().map(AccountBalance::getAccountNumber).toList();
+    }
+}
@@ -1,20 +1,33 @@
 package fintech2.easypay.account.service;
 
 import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.event.BalanceChangedEvent;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import fintech2.easypay.account.lock.AccountLockManager;
+import fintech2.easypay.account.lock.StripedAccountLockManager;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.audit.service.AuditLogService;
-import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.common.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import fintech2.easypay.fraud.rule.FraudRuleEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -34,11 +47,30 @@ class BalanceServiceTest {
     @Mock
     private AccountBalanceRepository accountBalanceRepository;
 
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private AuditLogService auditLogService;
 
     @Mock
-    private AlarmService alarmService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FraudRuleEngine fraudRuleEngine;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private AccountLockManager accountLockManager = new StripedAccountLockManager(16, 1000, true, 100);
+
+    @Spy
+    private BalanceConcurrencyPolicy concurrencyPolicy =
+        new BalanceConcurrencyPolicy(BalanceConcurrencyMode.PESSIMISTIC, 5, 1, 10, 0.2, 60000, 100);
 
     @InjectMocks
     private BalanceService balanceService;
@@ -136,10 +168,26 @@ class BalanceServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("잔액이 부족합니다"));
-        verify(alarmService).sendInsufficientBalanceAlert(eq("VA12345678"), any(), any(), any());
+        verify(eventPublisher).publishEvent(
+            new InsufficientBalanceEvent("VA12345678", "USER", new BigDecimal("100000"), new BigDecimal("150000")));
         verify(auditLogService).logWarning(eq("BALANCE_INSUFFICIENT"), eq("ACCOUNT"), eq("VA12345678"), any());
     }
 
+    @Test
+    void 차단규칙_일치시_출금거절() {
+        // Given
+        doThrow(new TransactionBlockedException("이상거래 의심으로 거래가 차단되었습니다", "huge-outgoing"))
+            .when(fraudRuleEngine).screen("VA12345678", new BigDecimal("200000000"), TransactionType.WITHDRAWAL);
+
+        // When & Then
+        TransactionBlockedException exception = assertThrows(TransactionBlockedException.class, () ->
+            balanceService.decrease("VA12345678", new BigDecimal("200000000"), TransactionType.WITHDRAWAL, "테스트 출금", "REF010"));
+
+        assertEquals("huge-outgoing", exception.getRuleName());
+        verify(auditLogService).logWarning(eq("TRANSACTION_BLOCKED"), eq("ACCOUNT"), eq("VA12345678"), any());
+        verifyNoInteractions(accountBalanceRepository, transactionHistoryRepository);
+    }
+
     @Test
     void 계좌없음_예외발생() {
         // Given
@@ -220,6 +268,150 @@ class BalanceServiceTest {
         assertTrue(exception.getMessage().contains("계좌를 찾을 수 없습니다"));
     }
 
+    @Test
+    void 이체_성공_단일락쿼리() {
+        // Given
+        AccountBalance toAccount = AccountBalance.builder()
+            .accountNumber("VA87654321")
+            .balance(new BigDecimal("20000"))
+            .version(1)
+            .build();
+        when(accountBalanceRepository.findAllByIdWithLockOrdered(any()))
+            .thenReturn(List.of(testAccount, toAccount));
+
+        // When
+        BalanceService.TransferResult result = balanceService.transfer(
+            "VA12345678", "VA87654321", new BigDecimal("30000"),
+            TransactionType.TRANSFER, "송금 출금", "송금 입금", "TRF001", "1");
+
+        // Then
+        assertEquals(new BigDecimal("70000"), result.getWithdrawResult().getBalanceAfter());
+        assertEquals(new BigDecimal("-30000"), result.getWithdrawResult().getChangeAmount());
+        assertEquals(new BigDecimal("50000"), result.getDepositResult().getBalanceAfter());
+        verify(accountBalanceRepository).findAllByIdWithLockOrdered(any());
+        verify(accountBalanceRepository, never()).findByIdWithLock(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(transactionHistoryRepository).saveAll(histories.capture());
+        assertEquals(2, histories.getValue().size());
+    }
+
+    @Test
+    void 이체_입금알림은_입금계좌소유자에게() {
+        // Given
+        AccountBalance toAccount = AccountBalance.builder()
+            .accountNumber("VA87654321")
+            .balance(new BigDecimal("20000"))
+            .version(1)
+            .build();
+        when(accountBalanceRepository.findAllByIdWithLockOrdered(any()))
+            .thenReturn(List.of(testAccount, toAccount));
+        when(userRepository.findIdByAccountNumber("VA87654321")).thenReturn(Optional.of(2L));
+
+        // When
+        balanceService.transfer("VA12345678", "VA87654321", new BigDecimal("30000"),
+            TransactionType.TRANSFER, "송금 출금", "송금 입금", "TRF003", "1");
+
+        // Then - 출금 알림은 송금자, 입금 알림은 수취인에게
+        ArgumentCaptor<BalanceChangedEvent> events = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        BalanceChangedEvent withdraw = events.getAllValues().get(0);
+        BalanceChangedEvent deposit = events.getAllValues().get(1);
+        assertEquals("VA12345678", withdraw.accountNumber());
+        assertEquals("1", withdraw.userId());
+        assertEquals("VA87654321", deposit.accountNumber());
+        assertEquals("2", deposit.userId());
+        assertEquals(new BigDecimal("50000"), deposit.balanceAfter());
+    }
+
+    @Test
+    void 이체_입금계좌소유자없으면_입금알림생략() {
+        // Given
+        AccountBalance toAccount = AccountBalance.builder()
+            .accountNumber("VA87654321")
+            .balance(new BigDecimal("20000"))
+            .version(1)
+            .build();
+        when(accountBalanceRepository.findAllByIdWithLockOrdered(any()))
+            .thenReturn(List.of(testAccount, toAccount));
+        when(userRepository.findIdByAccountNumber("VA87654321")).thenReturn(Optional.empty());
+
+        // When
+        balanceService.transfer("VA12345678", "VA87654321", new BigDecimal("30000"),
+            TransactionType.TRANSFER, "송금 출금", "송금 입금", "TRF004", "1");
+
+        // Then - 송금자에게 수취 계좌 정보가 담긴 알림이 가지 않음
+        ArgumentCaptor<BalanceChangedEvent> events = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(events.capture());
+        assertEquals("VA12345678", events.getValue().accountNumber());
+        assertEquals("1", events.getValue().userId());
+    }
+
+    @Test
+    void 이체_잔액부족() {
+        // Given
+        AccountBalance toAccount = AccountBalance.builder()
+            .accountNumber("VA87654321")
+            .balance(new BigDecimal("20000"))
+            .version(1)
+            .build();
+        when(accountBalanceRepository.findAllByIdWithLockOrdered(any()))
+            .thenReturn(List.of(testAccount, toAccount));
+
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () -> balanceService.transfer(
+            "VA12345678", "VA87654321", new BigDecimal("150000"),
+            TransactionType.TRANSFER, "송금 출금", "송금 입금", "TRF002", "1"));
+
+        assertEquals(new BigDecimal("100000"), testAccount.getBalance());
+        verify(transactionHistoryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 원자적변경_출금_성공() {
+        // Given
+        when(accountBalanceRepository.addAndGetBalance("VA12345678", new BigDecimal("-30000")))
+            .thenReturn(Optional.of(new BigDecimal("70000")));
+
+        // When
+        BalanceService.BalanceChangeResult result = balanceService.decreaseAtomically(
+            "VA12345678", new BigDecimal("30000"), TransactionType.WITHDRAWAL, "출금", "ATM001", "1");
+
+        // Then - 변경 전 잔액은 조회 없이 계산
+        assertEquals(new BigDecimal("100000"), result.getBalanceBefore());
+        assertEquals(new BigDecimal("70000"), result.getBalanceAfter());
+        verify(accountBalanceRepository, never()).findByIdWithLock(any());
+        verify(accountBalanceRepository, never()).findBalanceByAccountNumber(any());
+        verify(transactionHistoryRepository).save(any(TransactionHistory.class));
+    }
+
+    @Test
+    void 원자적변경_잔액부족() {
+        // Given
+        when(accountBalanceRepository.addAndGetBalance("VA12345678", new BigDecimal("-150000")))
+            .thenReturn(Optional.empty());
+        when(accountBalanceRepository.findBalanceByAccountNumber("VA12345678"))
+            .thenReturn(Optional.of(new BigDecimal("100000")));
+
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () -> balanceService.decreaseAtomically(
+            "VA12345678", new BigDecimal("150000"), TransactionType.WITHDRAWAL, "출금", "ATM001", "1"));
+        verify(transactionHistoryRepository, never()).save(any(TransactionHistory.class));
+    }
+
+    @Test
+    void 원자적변경_계좌없음() {
+        // Given
+        when(accountBalanceRepository.addAndGetBalance(eq("VA99999999"), any()))
+            .thenReturn(Optional.empty());
+        when(accountBalanceRepository.findBalanceByAccountNumber("VA99999999"))
+            .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> balanceService.increaseAtomically(
+            "VA99999999", new BigDecimal("10000"), TransactionType.DEPOSIT, "입금", "DEP001", "1"));
+    }
+
     /**
      * 동시성 테스트 (실제 환경에서는 더 복잡한 테스트 필요)
      */
@@ -0,0 +1,71 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.dto.TransactionExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyTransactionExportJobTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private TransactionExportService transactionExportService;
+
+    @TempDir
+    Path exportDir;
+
+    @Test
+    void 하루치_전체계좌를_압축파일로_내보내기() throws IOException {
+        // Given
+        when(transactionExportService.export(isNull(), eq(DATE.atStartOfDay()), eq(DATE.plusDays(1).atStartOfDay()),
+                eq(TransactionExportFormat.NDJSON), any(OutputStream.class), isNull()))
+            .thenAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(4);
+                out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+        DailyTransactionExportJob job = new DailyTransactionExportJob(transactionExportService, exportDir.toString());
+
+        // When
+        Path file = job.exportDay(DATE);
+
+        // Then
+        assertEquals(exportDir.resolve("transactions-2025-01-01.ndjson.gz"), file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("{\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertFalse(Files.exists(exportDir.resolve("transactions-2025-01-01.ndjson.gz.tmp")));
+    }
+
+    @Test
+    void 내보내기_실패시_파일을_남기지않음() {
+        // Given
+        when(transactionExportService.export(any(), any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("DB 오류"));
+        DailyTransactionExportJob job = new DailyTransactionExportJob(transactionExportService, exportDir.toString());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> job.exportDay(DATE));
+        assertFalse(Files.exists(exportDir.resolve("transactions-2025-01-01.ndjson.gz")));
+        assertFalse(Files.exists(exportDir.resolve("transactions-2025-01-01.ndjson.gz.tmp")));
+    }
+}
@@ -0,0 +1,243 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import fintech2.easypay.account.lock.StripedAccountLockManager;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import fintech2.easypay.fraud.rule.FraudRuleEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitBalanceServiceTest {
+
+    @Mock
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FraudRuleEngine fraudRuleEngine;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, AccountBalance> accounts = new ConcurrentHashMap<>();
+    private final List<TransactionHistory> savedHistories = Collections.synchronizedList(new ArrayList<>());
+
+    private GroupCommitBalanceService groupCommitBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        // 저장소를 메모리 맵으로 흉내 (writer 스레드가 같은 엔티티를 변경)
+        lenient().when(accountBalanceRepository.findAllByIdWithLockOrdered(any()))
+            .thenAnswer(invocation -> {
+                Collection<String> accountNumbers = invocation.getArgument(0);
+                List<AccountBalance> found = new ArrayList<>();
+                for (String accountNumber : accountNumbers) {
+                    AccountBalance account = accounts.get(accountNumber);
+                    if (account != null) {
+                        found.add(account);
+                    }
+                }
+                return found;
+            });
+        lenient().when(transactionHistoryRepository.saveAll(any()))
+            .thenAnswer(invocation -> {
+                Iterable<TransactionHistory> histories = invocation.getArgument(0);
+                histories.forEach(savedHistories::add);
+                return null;
+            });
+
+        groupCommitBalanceService = new GroupCommitBalanceService(
+            accountBalanceRepository, transactionHistoryRepository, auditLogService, eventPublisher,
+            new StripedAccountLockManager(64, 1000, true, 100), fraudRuleEngine, transactionManager,
+            4, 10000, 50, 2, 1000);
+        groupCommitBalanceService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommitBalanceService.shutdown();
+    }
+
+    @Test
+    void 같은계좌_제출순서대로_적용() throws Exception {
+        // Given
+        addAccount("VA12345678", "0");
+        List<CompletableFuture<BalanceService.BalanceChangeResult>> futures = new ArrayList<>();
+
+        // When - 입금 1..200원을 순서대로 제출
+        for (int i = 1; i <= 200; i++) {
+            futures.add(groupCommitBalanceService.increase(
+                "VA12345678", new BigDecimal(i), TransactionType.DEPOSIT, "입금", "DEP" + i, "1"));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Then - 거래내역 금액이 제출 순서와 같고, 이전 잔액이 직전 거래의 이후 잔액과 이어짐
+        assertEquals(200, savedHistories.size());
+        BigDecimal expectedBefore = BigDecimal.ZERO;
+        for (int i = 0; i < 200; i++) {
+            TransactionHistory history = savedHistories.get(i);
+            assertEquals(new BigDecimal(i + 1), history.getAmount());
+            assertEquals(expectedBefore, history.getBalanceBefore());
+            expectedBefore = history.getBalanceAfter();
+        }
+        assertEquals(new BigDecimal("20100"), accounts.get("VA12345678").getBalance());
+        assertTrue(groupCommitBalanceService.getBatchCount() < 200, "여러 요청이 한 배치로 묶여야 함");
+    }
+
+    @Test
+    void 동시제출_손실없음() throws Exception {
+        // Given
+        String[] accountNumbers = {"VA00000001", "VA00000002", "VA00000003", "VA00000004", "VA00000005"};
+        for (String accountNumber : accountNumbers) {
+            addAccount(accountNumber, "1000");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<BalanceService.BalanceChangeResult>> futures = Collections.synchronizedList(new ArrayList<>());
+
+        // When - 8개 스레드가 계좌마다 입금 +2, 출금 -1 을 반복 제출
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    for (String accountNumber : accountNumbers) {
+                        futures.add(groupCommitBalanceService.increase(
+                            accountNumber, new BigDecimal("2"), TransactionType.DEPOSIT, "입금", null, "1"));
+                        futures.add(groupCommitBalanceService.decrease(
+                            accountNumber, BigDecimal.ONE, TransactionType.WITHDRAWAL, "출금", null, "1"));
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Then - 계좌마다 1000 + 800 * (2 - 1)
+        for (String accountNumber : accountNumbers) {
+            assertEquals(new BigDecimal("1800"), accounts.get(accountNumber).getBalance());
+        }
+        assertEquals(8 * 100 * accountNumbers.length * 2, savedHistories.size());
+    }
+
+    @Test
+    void 잔액부족_해당요청만실패() throws Exception {
+        // Given
+        addAccount("VA12345678", "10000");
+
+        // When
+        CompletableFuture<BalanceService.BalanceChangeResult> first = groupCommitBalanceService.decrease(
+            "VA12345678", new BigDecimal("7000"), TransactionType.WITHDRAWAL, "출금", null, "1");
+        CompletableFuture<BalanceService.BalanceChangeResult> second = groupCommitBalanceService.decrease(
+            "VA12345678", new BigDecimal("7000"), TransactionType.WITHDRAWAL, "출금", null, "1");
+        CompletableFuture<BalanceService.BalanceChangeResult> third = groupCommitBalanceService.increase(
+            "VA12345678", new BigDecimal("500"), TransactionType.DEPOSIT, "입금", null, "1");
+
+        // Then
+        assertEquals(new BigDecimal("3000"), first.get(5, TimeUnit.SECONDS).getBalanceAfter());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InsufficientBalanceException.class, e.getCause());
+        assertEquals(new BigDecimal("3500"), third.get(5, TimeUnit.SECONDS).getBalanceAfter());
+        verify(eventPublisher).publishEvent(
+            new InsufficientBalanceEvent("VA12345678", "1", new BigDecimal("3000"), new BigDecimal("7000")));
+    }
+
+    @Test
+    void 이상거래차단_큐에넣지않음() {
+        // Given
+        addAccount("VA12345678", "10000");
+        doThrow(new TransactionBlockedException("이상거래 의심으로 거래가 차단되었습니다 (규칙: large)", "large"))
+            .when(fraudRuleEngine).screen("VA12345678", new BigDecimal("9000"), TransactionType.WITHDRAWAL);
+
+        // When & Then
+        assertThrows(TransactionBlockedException.class, () -> groupCommitBalanceService.decrease(
+            "VA12345678", new BigDecimal("9000"), TransactionType.WITHDRAWAL, "출금", null, "1"));
+        assertEquals(0, groupCommitBalanceService.getQueueDepth());
+        assertEquals(new BigDecimal("10000"), accounts.get("VA12345678").getBalance());
+        verify(auditLogService).logWarning(eq("TRANSACTION_BLOCKED"), eq("ACCOUNT"), eq("VA12345678"), any());
+    }
+
+    @Test
+    void 종료후_제출은_즉시실패() {
+        // Given
+        addAccount("VA12345678", "10000");
+        groupCommitBalanceService.shutdown();
+
+        // When
+        CompletableFuture<BalanceService.BalanceChangeResult> future = groupCommitBalanceService.increase(
+            "VA12345678", new BigDecimal("500"), TransactionType.DEPOSIT, "입금", null, "1");
+
+        // Then - 큐에 넣지 않고 Future를 바로 예외로 완료
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(0, groupCommitBalanceService.getQueueDepth());
+        assertEquals(new BigDecimal("10000"), accounts.get("VA12345678").getBalance());
+    }
+
+    @Test
+    void 종료시_큐에남은요청_모두완료() {
+        // Given
+        addAccount("VA12345678", "0");
+        List<CompletableFuture<BalanceService.BalanceChangeResult>> futures = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            futures.add(groupCommitBalanceService.increase(
+                "VA12345678", BigDecimal.ONE, TransactionType.DEPOSIT, "입금", null, "1"));
+        }
+
+        // When
+        groupCommitBalanceService.shutdown();
+
+        // Then - 종료가 끝나면 대기 중인 Future가 남지 않음
+        assertEquals(0, groupCommitBalanceService.getQueueDepth());
+        for (CompletableFuture<BalanceService.BalanceChangeResult> future : futures) {
+            assertTrue(future.isDone());
+        }
+    }
+
+    private void addAccount(String accountNumber, String balance) {
+        accounts.put(accountNumber, AccountBalance.builder()
+            .accountNumber(accountNumber)
+            .balance(new BigDecimal(balance))
+            .version(1)
+            .build());
+    }
+}
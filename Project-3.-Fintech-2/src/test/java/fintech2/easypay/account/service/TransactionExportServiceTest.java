@@ -0,0 +1,123 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.dto.TransactionExportFormat;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.TransactionStatus;
+import fintech2.easypay.common.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+    @Mock
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = new TransactionExportService(
+            transactionHistoryRepository, auditLogService, entityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    void NDJSON_한줄에_한건씩_출력하고_엔티티분리() throws Exception {
+        // Given
+        TransactionHistory first = history(1L, "10000", "입금");
+        TransactionHistory second = history(2L, "-3000", "출금");
+        when(transactionHistoryRepository.streamByAccountNumber("VA12345678", FROM, TO))
+            .thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = transactionExportService.export("VA12345678", FROM, TO, TransactionExportFormat.NDJSON, out, 7L);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode node = objectMapper.readTree(lines[1]);
+        assertEquals(2L, node.get("id").asLong());
+        assertEquals("-3000", node.get("amount").asText());
+        assertEquals("출금", node.get("description").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(auditLogService).logSuccess(eq(7L), eq("TRANSACTION_EXPORT"), eq("ACCOUNT"), eq("VA12345678"),
+            isNull(), anyString());
+    }
+
+    @Test
+    void CSV_헤더와_이스케이프() {
+        // Given
+        when(transactionHistoryRepository.streamByCreatedAtRange(FROM, TO))
+            .thenReturn(Stream.of(history(1L, "10000", "급여, \"보너스\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        transactionExportService.export(null, FROM, TO, TransactionExportFormat.CSV, out, null);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertTrue(lines[0].startsWith("id,accountNumber,transactionType"));
+        assertTrue(lines[1].contains(",\"급여, \"\"보너스\"\"\","));
+        assertTrue(lines[1].startsWith("1,VA12345678,DEPOSIT,COMPLETED,10000,"));
+    }
+
+    @Test
+    void 잘못된기간_거절() {
+        assertThrows(IllegalArgumentException.class, () ->
+            transactionExportService.export("VA12345678", TO, FROM, TransactionExportFormat.NDJSON, new ByteArrayOutputStream(), 7L));
+        verify(transactionHistoryRepository, never()).streamByAccountNumber(any(), any(), any());
+    }
+
+    private TransactionHistory history(Long id, String amount, String description) {
+        return TransactionHistory.builder()
+            .id(id)
+            .accountNumber("VA12345678")
+            .transactionType(TransactionType.DEPOSIT)
+            .status(TransactionStatus.COMPLETED)
+            .amount(new BigDecimal(amount))
+            .balanceBefore(BigDecimal.ZERO)
+            .balanceAfter(new BigDecimal(amount))
+            .description(description)
+            .createdAt(FROM.plusHours(id))
+            .build();
+    }
+}
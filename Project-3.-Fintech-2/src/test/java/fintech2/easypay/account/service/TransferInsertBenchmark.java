@@ -0,0 +1,95 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.common.TransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 1,000건 송금 insert 처리량 벤치마크
+ * JDBC 배치를 끈 경우(batch_size=1)와 켠 경우(batch_size=50)의 초당 insert 수와 실행된 SQL 문장 수를 비교한다.
+ * 실행: ./gradlew benchmark --tests '*TransferInsertBenchmark*'
+ */
+abstract class TransferInsertBenchmark {
+
+    private static final int TRANSFERS = 1_000;
+    private static final BigDecimal AMOUNT = new BigDecimal("10");
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Autowired
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void 송금_insert_처리량() {
+        // Given
+        String from = "VA_BENCH_FROM_" + batchSize;
+        String to = "VA_BENCH_TO_" + batchSize;
+        accountBalanceRepository.save(AccountBalance.builder().accountNumber(from).balance(new BigDecimal("1000000")).build());
+        accountBalanceRepository.save(AccountBalance.builder().accountNumber(to).balance(BigDecimal.ZERO).build());
+        long historiesBefore = transactionHistoryRepository.count();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < TRANSFERS; i++) {
+            balanceService.transfer(from, to, AMOUNT, TransactionType.TRANSFER,
+                "benchmark 출금", "benchmark 입금", "BENCH_" + batchSize + "_" + i, "1");
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Then
+        long inserts = statistics.getEntityInsertCount();
+        System.out.printf("batch_size=%-3d transfers=%d elapsed=%.2fs inserts=%d inserts/s=%.0f statements=%d%n",
+            batchSize, TRANSFERS, seconds, inserts, inserts / seconds, statistics.getPrepareStatementCount());
+
+        assertEquals(historiesBefore + TRANSFERS * 2L, transactionHistoryRepository.count());
+        assertEquals(0, new BigDecimal("10000").compareTo(accountBalanceRepository.findById(to).orElseThrow().getBalance()));
+    }
+
+    @Tag("benchmark")
+    @SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+        "logging.level.fintech2.easypay=WARN",
+        "logging.level.org.springframework.security=WARN"
+    })
+    static class WithoutBatching extends TransferInsertBenchmark {
+    }
+
+    @Tag("benchmark")
+    @SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "logging.level.fintech2.easypay=WARN",
+        "logging.level.org.springframework.security=WARN"
+    })
+    static class WithBatching extends TransferInsertBenchmark {
+    }
+}
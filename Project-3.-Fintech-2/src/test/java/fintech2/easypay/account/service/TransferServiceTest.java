@@ -0,0 +1,102 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.exception.TransactionBlockedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferServiceTest {
+
+    @Mock
+    private BalanceService balanceService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @InjectMocks
+    private TransferService transferService;
+
+    @Test
+    void 송금_성공_사전잔액조회없음() {
+        // Given
+        BigDecimal amount = new BigDecimal("30000");
+        BalanceService.TransferResult transferResult = new BalanceService.TransferResult(
+            new BalanceService.BalanceChangeResult("VA12345678", new BigDecimal("100000"), new BigDecimal("70000"),
+                amount.negate(), TransactionType.TRANSFER, "TRF"),
+            new BalanceService.BalanceChangeResult("VA87654321", new BigDecimal("20000"), new BigDecimal("50000"),
+                amount, TransactionType.TRANSFER, "TRF"));
+        when(balanceService.transfer(eq("VA12345678"), eq("VA87654321"), eq(amount), eq(TransactionType.TRANSFER),
+                anyString(), anyString(), anyString(), eq("1")))
+            .thenReturn(transferResult);
+
+        // When
+        Map<String, Object> response = transferService.transfer("VA12345678", "VA87654321", amount, "용돈", "1");
+
+        // Then - 계좌/잔액 검증은 이체 경로의 잠긴 스냅샷에서만 수행
+        assertEquals("COMPLETED", response.get("status"));
+        assertEquals(new BigDecimal("70000"), response.get("fromBalanceAfter"));
+        verify(balanceService, never()).getBalance(any());
+    }
+
+    @Test
+    void 송금_잔액부족_이체경로예외전파() {
+        // Given
+        when(balanceService.transfer(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new InsufficientBalanceException("잔액이 부족합니다"));
+
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () ->
+            transferService.transfer("VA12345678", "VA87654321", new BigDecimal("150000"), "용돈", "1"));
+        verify(balanceService, never()).getBalance(any());
+    }
+
+    @Test
+    void 송금_입금계좌없음_이체경로예외전파() {
+        // Given
+        when(balanceService.transfer(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new AccountNotFoundException("입금 계좌를 찾을 수 없습니다: VA99999999"));
+
+        // When & Then
+        AccountNotFoundException e = assertThrows(AccountNotFoundException.class, () ->
+            transferService.transfer("VA12345678", "VA99999999", new BigDecimal("10000"), "용돈", "1"));
+        assertTrue(e.getMessage().contains("입금 계좌"));
+    }
+
+    @Test
+    void 송금_이상거래차단_예외그대로전파() {
+        // Given
+        when(balanceService.transfer(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new TransactionBlockedException("이상거래로 차단되었습니다", "LARGE_AMOUNT"));
+
+        // When & Then - RuntimeException으로 감싸거나 TRANSFER_ERROR로 기록하지 않음
+        TransactionBlockedException e = assertThrows(TransactionBlockedException.class, () ->
+            transferService.transfer("VA12345678", "VA87654321", new BigDecimal("10000000"), "용돈", "1"));
+        assertEquals("LARGE_AMOUNT", e.getRuleName());
+        verify(auditLogService).logError(eq("TRANSFER_FAILED"), eq("TRANSFER"), anyString(), anyString(), eq(e));
+        verify(auditLogService, never()).logError(eq("TRANSFER_ERROR"), any(), any(), any(), any());
+    }
+
+    @Test
+    void 송금_같은계좌_조회없이거절() {
+        // When & Then
+        assertThrows(RuntimeException.class, () ->
+            transferService.transfer("VA12345678", "VA12345678", new BigDecimal("10000"), "용돈", "1"));
+        verifyNoInteractions(balanceService);
+    }
+}
@@ -0,0 +1,219 @@
+package fintech2.easypay.audit.alarm;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlarmStoreTest {
+
+    @Test
+    void 용량초과시_오래된알림_덮어쓰고_최신순반환() {
+        // Given
+        AlarmStore store = new AlarmStore(3, 100);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            store.add("1", AlarmType.BALANCE_CHANGE, "알림" + i);
+        }
+
+        // Then
+        List<Alarm> alarms = store.list("1", null);
+        assertEquals(List.of("알림5", "알림4", "알림3"), alarms.stream().map(Alarm::message).toList());
+        assertEquals(5L, alarms.get(0).id());
+        assertEquals(3, store.unreadCount("1"));
+    }
+
+    @Test
+    void 읽음처리후_새알림만_미읽음() {
+        // Given
+        AlarmStore store = new AlarmStore(50, 100);
+        store.add("1", AlarmType.LOGIN_SUCCESS, "로그인");
+        store.add("1", AlarmType.BALANCE_CHANGE, "입금");
+
+        // When
+        store.markRead("1");
+        store.add("1", AlarmType.LOGIN_FAILURE, "로그인 실패");
+
+        // Then
+        assertEquals(1, store.unreadCount("1"));
+        assertEquals(0, store.unreadCount("2"));
+    }
+
+    @Test
+    void 카테고리필터_및_타입별_레벨() {
+        // Given
+        AlarmStore store = new AlarmStore(50, 100);
+        store.add("1", AlarmType.LOGIN_FAILURE, "로그인 실패");
+        store.add("1", AlarmType.BALANCE_CHANGE, "입금");
+        store.add("1", AlarmType.from("UNKNOWN_EVENT"), "기타");
+
+        // When
+        List<Alarm> login = store.list("1", AlarmCategory.fromValue("login"));
+        List<Alarm> general = store.list("1", AlarmCategory.GENERAL);
+
+        // Then
+        assertEquals(1, login.size());
+        assertEquals(AlarmLevel.WARNING, login.get(0).level());
+        assertEquals(AlarmType.GENERAL, general.get(0).type());
+        assertNull(AlarmCategory.fromValue("all"));
+    }
+
+    @Test
+    void 덮어쓴알림은_카테고리목록에서_제외() {
+        // Given
+        AlarmStore store = new AlarmStore(3, 100);
+        store.add("1", AlarmType.LOGIN_SUCCESS, "로그인1");
+        store.add("1", AlarmType.LOGIN_SUCCESS, "로그인2");
+        store.add("1", AlarmType.BALANCE_CHANGE, "입금1");
+
+        // When - 로그인 알림 2건이 덮어써짐
+        store.add("1", AlarmType.BALANCE_CHANGE, "입금2");
+        store.add("1", AlarmType.BALANCE_CHANGE, "입금3");
+
+        // Then
+        assertTrue(store.list("1", AlarmCategory.LOGIN).isEmpty());
+        assertEquals(List.of("입금3", "입금2", "입금1"),
+            store.list("1", AlarmCategory.BALANCE).stream().map(Alarm::message).toList());
+    }
+
+    @Test
+    void 사용자상한초과시_유휴사용자부터_정리() {
+        // Given
+        AlarmStore store = new AlarmStore(10, 10);
+        for (int i = 0; i < 10; i++) {
+            store.add("user" + i, AlarmType.BALANCE_CHANGE, "알림");
+        }
+        store.unreadCount("user0"); // user0은 최근 접근
+
+        // When
+        store.add("new", AlarmType.BALANCE_CHANGE, "알림");
+
+        // Then
+        assertEquals(9, store.getUserCount());
+        assertEquals(1, store.unreadCount("new"));
+        assertEquals(1, store.unreadCount("user0"));
+    }
+
+    @Test
+    void 캐시미스시_영구저장소에서_복원후_순번이어서_저장() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        SharedPersistence persistence = new SharedPersistence(List.of(
+            new Alarm(7L, AlarmType.LOGIN_SUCCESS, "로그인", now),
+            new Alarm(8L, AlarmType.BALANCE_CHANGE, "입금", now)));
+        AlarmStore store = new AlarmStore(50, 100, persistence);
+
+        // When
+        Alarm added = store.add("1", AlarmType.BALANCE_CHANGE, "출금");
+
+        // Then
+        assertEquals(9L, added.id());
+        assertEquals(List.of("출금", "입금", "로그인"), store.list("1", null).stream().map(Alarm::message).toList());
+        assertEquals(1, store.unreadCount("1"));
+        assertEquals(1, persistence.loads);
+    }
+
+    @Test
+    void 여러노드_저장시_순번중복없고_다른노드알림도_조회() {
+        // Given - 같은 DB를 쓰는 두 노드
+        SharedPersistence persistence = new SharedPersistence(List.of());
+        AlarmStore nodeA = new AlarmStore(50, 100, persistence);
+        AlarmStore nodeB = new AlarmStore(50, 100, persistence);
+        nodeA.add("1", AlarmType.LOGIN_SUCCESS, "로그인");
+        nodeB.list("1", null); // 노드 B에도 캐시됨
+
+        // When
+        nodeB.add("1", AlarmType.BALANCE_CHANGE, "입금");
+        nodeA.add("1", AlarmType.BALANCE_CHANGE, "출금");
+
+        // Then
+        List<String> expected = List.of("출금", "입금", "로그인");
+        assertEquals(expected, nodeA.list("1", null).stream().map(Alarm::message).toList());
+        assertEquals(expected, nodeB.list("1", null).stream().map(Alarm::message).toList());
+        assertEquals(List.of(2L, 3L), nodeB.since("1", 1L).stream().map(Alarm::id).toList());
+        assertEquals(3L, nodeB.lastId("1"));
+
+        // 읽음 처리도 노드 간 공유
+        nodeA.markRead("1");
+        assertEquals(0, nodeB.unreadCount("1"));
+    }
+
+    @Test
+    void 동시저장시_순번누락없음() throws InterruptedException {
+        // Given
+        AlarmStore store = new AlarmStore(1000, 100);
+        int threads = 8;
+        int perThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    store.add("1", AlarmType.BALANCE_CHANGE, "알림");
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Then
+        List<Alarm> alarms = store.list("1", null);
+        assertEquals(threads * perThread, alarms.size());
+        assertEquals(threads * perThread, store.unreadCount("1"));
+        for (int i = 0; i < alarms.size(); i++) {
+            assertEquals(threads * perThread - i, alarms.get(i).id());
+        }
+    }
+
+    /**
+     * 노드 간 공유되는 DB 역할 (단일 사용자)
+     */
+    private static class SharedPersistence implements AlarmPersistence {
+        private final List<Alarm> stored;
+        private long readId;
+        private int loads;
+
+        SharedPersistence(List<Alarm> stored) {
+            this.stored = new ArrayList<>(stored);
+            this.readId = lastId();
+        }
+
+        @Override
+        public synchronized Alarm append(String userId, AlarmType type, String message, LocalDateTime timestamp) {
+            Alarm alarm = new Alarm(lastId() + 1, type, message, timestamp);
+            stored.add(alarm);
+            return alarm;
+        }
+
+        @Override
+        public synchronized Cursor cursor(String userId) {
+            return new Cursor(lastId(), readId);
+        }
+
+        @Override
+        public synchronized void markRead(String userId) {
+            readId = lastId();
+        }
+
+        @Override
+        public synchronized List<Alarm> loadRecent(String userId, int limit) {
+            loads++;
+            return new ArrayList<>(stored.subList(Math.max(0, stored.size() - limit), stored.size()));
+        }
+
+        private long lastId() {
+            return stored.isEmpty() ? 0L : stored.get(stored.size() - 1).id();
+        }
+    }
+}
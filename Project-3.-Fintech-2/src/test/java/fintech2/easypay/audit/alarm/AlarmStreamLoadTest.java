@@ -0,0 +1,151 @@
+package fintech2.easypay.audit.alarm;
+
+import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.auth.service.JwtService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 알림 SSE 동시 구독 부하 테스트
+ * 사용자 100명 x 연결 100개(총 10,000개)의 유휴 구독을 한 노드에 유지하고,
+ * 사용자별 알림 1건이 모든 연결에 전달되는 시간과 연결 유지에 드는 힙 사용량을 출력한다.
+ * 실행: ./gradlew benchmark --tests '*AlarmStreamLoadTest*' (ulimit -n 이 25,000 이상이어야 함)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "server.tomcat.max-connections=20000",
+    "server.tomcat.accept-count=2000",
+    "spring.jpa.show-sql=false",
+    "alarm.stream.queue-capacity=16",
+    "logging.level.fintech2.easypay=WARN",
+    "logging.level.org.springframework.security=WARN"
+})
+class AlarmStreamLoadTest {
+
+    private static final int USERS = 100;
+    private static final int CONNECTIONS_PER_USER = 100;
+    private static final int SUBSCRIBERS = USERS * CONNECTIONS_PER_USER;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AlarmService alarmService;
+
+    @Autowired
+    private AlarmStreamRegistry alarmStreamRegistry;
+
+    @Test
+    void 유휴구독_1만개_유지_및_알림전달() throws InterruptedException {
+        // Given
+        List<String> userIds = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String phoneNumber = String.format("010-9%03d-0000", i);
+            User user = userRepository.save(User.builder()
+                .phoneNumber(phoneNumber)
+                .password("unused")
+                .name("부하테스트" + i)
+                .accountNumber(String.format("VA9%07d", i))
+                .build());
+            userIds.add(user.getId().toString());
+            tokens.add(jwtService.generateAccessToken(phoneNumber));
+        }
+
+        CountDownLatch connected = new CountDownLatch(SUBSCRIBERS);
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS);
+        HttpClient client = HttpClient.newHttpClient();
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        // When - 구독 연결
+        long connectStart = System.nanoTime();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port + "/api/alarms/stream?access_token=" + tokens.get(i % USERS)))
+                .header("Accept", "text/event-stream")
+                .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new EventCounter(connected, delivered)));
+        }
+        assertTrue(connected.await(120, TimeUnit.SECONDS), "구독 연결 시간 초과");
+        double connectSeconds = (System.nanoTime() - connectStart) / 1_000_000_000.0;
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        // When - 사용자별 알림 1건 발행
+        long publishStart = System.nanoTime();
+        for (String userId : userIds) {
+            alarmService.sendUserNotification(userId, "BALANCE_CHANGE", "부하테스트 알림");
+        }
+        long publishMicros = (System.nanoTime() - publishStart) / 1_000;
+        assertTrue(delivered.await(60, TimeUnit.SECONDS), "알림 전달 시간 초과");
+        double deliverMillis = (System.nanoTime() - publishStart) / 1_000_000.0;
+
+        // Then
+        System.out.printf("subscribers=%d connect=%.2fs heap/subscriber=%dB publish(caller)=%dus fan-out=%.1fms%n",
+            SUBSCRIBERS, connectSeconds, (heapAfter - heapBefore) / SUBSCRIBERS, publishMicros, deliverMillis);
+        assertEquals(SUBSCRIBERS, alarmStreamRegistry.getConnectionCount());
+    }
+
+    /**
+     * 첫 하트비트 수신 시 연결 완료, alarm 이벤트 수신 시 전달 완료로 센다
+     */
+    private static final class EventCounter implements Flow.Subscriber<String> {
+        private final CountDownLatch connected;
+        private final CountDownLatch delivered;
+        private boolean connectedCounted;
+
+        private EventCounter(CountDownLatch connected, CountDownLatch delivered) {
+            this.connected = connected;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!connectedCounted && line.startsWith(":")) {
+                connectedCounted = true;
+                connected.countDown();
+            } else if (line.equals("event:" + AlarmStreamRegistry.ALARM_EVENT)) {
+                delivered.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package fintech2.easypay.audit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.audit.entity.AuditLog;
+import fintech2.easypay.audit.repository.AuditLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void 기동시_spill파일을_배치크기단위로_재적재() throws IOException {
+        // Given - 450건 spill, 배치 크기 200
+        Path file = writeSpill(450);
+        List<String> savedResourceIds = new ArrayList<>();
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(auditLogRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            chunkSizes.add(batch.size());
+            batch.forEach(auditLog -> savedResourceIds.add(auditLog.getResourceId()));
+            return batch;
+        });
+        AuditLogWriter writer = newWriter(200);
+
+        // When
+        writer.init();
+        writer.destroy();
+
+        // Then - 청크마다 별도 트랜잭션으로 저장하고 파일은 삭제
+        assertEquals(List.of(200, 200, 50), chunkSizes);
+        assertEquals(450, savedResourceIds.size());
+        assertEquals("VA00000000", savedResourceIds.get(0));
+        assertEquals("VA00000449", savedResourceIds.get(449));
+        verify(transactionManager, times(3)).getTransaction(any());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void 재적재중_실패하면_적재된부분만_파일에서제외() throws IOException {
+        // Given - 두 번째 청크에서 DB 오류
+        Path file = writeSpill(450);
+        when(auditLogRepository.saveAll(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0))
+            .thenThrow(new IllegalStateException("DB 연결 실패"));
+        AuditLogWriter writer = newWriter(200);
+
+        // When
+        writer.init();
+        writer.destroy();
+
+        // Then - 첫 청크 200건은 커밋되었으므로 남은 250건만 다음 기동 때 다시 적재
+        List<String> remaining = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(250, remaining.size());
+        assertEquals("VA00000200", objectMapper.readValue(remaining.get(0), AuditLog.class).getResourceId());
+    }
+
+    private AuditLogWriter newWriter(int batchSize) {
+        return new AuditLogWriter(auditLogRepository, objectMapper, transactionManager,
+            1000, batchSize, 100, 50, spillDir.toString());
+    }
+
+    private Path writeSpill(int count) throws IOException {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setUserId(1L);
+            auditLog.setAction("BALANCE_CHANGE");
+            auditLog.setResourceType("ACCOUNT");
+            auditLog.setResourceId(String.format("VA%08d", i));
+            lines.add(objectMapper.writeValueAsString(auditLog));
+        }
+        Path file = spillDir.resolve("audit-spill-2026-10-16.ndjson");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+}
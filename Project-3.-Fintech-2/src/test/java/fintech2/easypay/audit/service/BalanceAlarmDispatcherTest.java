@@ -0,0 +1,167 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.account.event.BalanceChangedEvent;
+import fintech2.easypay.account.event.InsufficientBalanceEvent;
+import fintech2.easypay.common.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceAlarmDispatcherTest {
+
+    @Mock
+    private AlarmService alarmService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BalanceAlarmDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 사용자별_이벤트를_순서대로_처리() throws InterruptedException {
+        // Given
+        dispatcher = new BalanceAlarmDispatcher(alarmService, meterRegistry, 2, 100);
+
+        // When
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("-3000"), new BigDecimal("7000"), TransactionType.WITHDRAWAL));
+        dispatcher.onInsufficientBalance(new InsufficientBalanceEvent(
+            "VA12345678", "1", new BigDecimal("7000"), new BigDecimal("9000")));
+        dispatcher.shutdown();
+
+        // Then
+        InOrder inOrder = inOrder(alarmService);
+        inOrder.verify(alarmService).sendBalanceChangeAlert("VA12345678", "1", "출금", "3000", "7000");
+        inOrder.verify(alarmService).detectSuspiciousTransaction("VA12345678", "1", new BigDecimal("3000"), "WITHDRAWAL", null);
+        inOrder.verify(alarmService).sendInsufficientBalanceAlert("VA12345678", "1", "7000", "9000");
+        assertEquals(2.0, meterRegistry.get("balance.alarm.events").tag("result", "dispatched").counter().count());
+    }
+
+    @Test
+    void 대기열초과시_이벤트_버리고_집계() throws InterruptedException {
+        // Given - 첫 이벤트 처리를 막아 대기열을 채움
+        dispatcher = new BalanceAlarmDispatcher(alarmService, meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(alarmService).sendBalanceChangeAlert(any(), any(), any(), any(), any());
+
+        // When
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("1000"), new BigDecimal("1000"), TransactionType.DEPOSIT));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA87654321", "2", new BigDecimal("1000"), new BigDecimal("1000"), TransactionType.DEPOSIT));
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("balance.alarm.events").tag("result", "dropped").counter().count());
+        verify(alarmService, never()).sendBalanceChangeAlert(eq("VA87654321"), any(), any(), any(), any());
+    }
+
+    @Test
+    void 밀린_같은계좌_잔액변경은_최신잔액_알림하나로_합침() throws InterruptedException {
+        // Given - 첫 알림 발송을 막아 같은 사용자의 이벤트가 쌓이게 함
+        dispatcher = new BalanceAlarmDispatcher(alarmService, meterRegistry, 1, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(alarmService).sendBalanceChangeAlert(any(), any(), any(), any(), any());
+
+        // When
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("1000"), new BigDecimal("1000"), TransactionType.DEPOSIT));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("2000"), new BigDecimal("3000"), TransactionType.DEPOSIT));
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("-500"), new BigDecimal("2500"), TransactionType.WITHDRAWAL));
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA12345678", "1", new BigDecimal("100"), new BigDecimal("2600"), TransactionType.DEPOSIT));
+        dispatcher.onBalanceChanged(new BalanceChangedEvent(
+            "VA87654321", "1", new BigDecimal("700"), new BigDecimal("700"), TransactionType.DEPOSIT));
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Then - 밀린 3건은 최신 잔액 요약 하나로, 다른 계좌는 따로, 이상거래 감지는 건별로
+        InOrder inOrder = inOrder(alarmService);
+        inOrder.verify(alarmService).sendBalanceChangeAlert("VA12345678", "1", "입금", "1000", "1000");
+        inOrder.verify(alarmService).sendBalanceSummaryAlert("VA12345678", "1", 3, "1600", "2600");
+        inOrder.verify(alarmService).sendBalanceChangeAlert("VA87654321", "1", "입금", "700", "700");
+        verify(alarmService, times(2)).sendBalanceChangeAlert(any(), any(), any(), any(), any());
+        verify(alarmService, times(5)).detectSuspiciousTransaction(any(), any(), any(), any(), any());
+        assertEquals(2.0, meterRegistry.get("balance.alarm.events").tag("result", "coalesced").counter().count());
+        assertEquals(5.0, meterRegistry.get("balance.alarm.events").tag("result", "dispatched").counter().count());
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void 대기열이_비워지는중에_들어온_이벤트도_동시에_처리되지않음() throws InterruptedException {
+        // Given - 처리 스레드가 여러 개여도 같은 사용자의 작업은 하나씩만 실행되어야 함
+        dispatcher = new BalanceAlarmDispatcher(alarmService, meterRegistry, 4, 100_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        Answer<Void> detectOverlap = invocation -> {
+            if (running.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            running.decrementAndGet();
+            return null;
+        };
+        doAnswer(detectOverlap).when(alarmService).sendBalanceChangeAlert(any(), any(), any(), any(), any());
+        lenient().doAnswer(detectOverlap).when(alarmService).sendBalanceSummaryAlert(any(), any(), anyInt(), any(), any());
+        int producers = 4;
+        int perProducer = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // When - 대기열 제거와 새 이벤트 추가가 계속 겹치도록 한 사용자에게 동시에 발행
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    dispatcher.onBalanceChanged(new BalanceChangedEvent(
+                        "VA12345678", "1", new BigDecimal("1000"), new BigDecimal("1000"), TransactionType.DEPOSIT));
+                    Thread.yield();
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        dispatcher.shutdown();
+
+        // Then
+        assertEquals(0, overlaps.get());
+        assertEquals(producers * perProducer,
+            meterRegistry.get("balance.alarm.events").tag("result", "dispatched").counter().count());
+    }
+}
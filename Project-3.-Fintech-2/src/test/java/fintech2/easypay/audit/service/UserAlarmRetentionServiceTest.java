@@ -0,0 +1,65 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.repository.UserAlarmRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAlarmRetentionServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private UserAlarmRepository userAlarmRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserAlarmRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        retentionService = new UserAlarmRetentionService(userAlarmRepository, transactionManager, 90, 100);
+    }
+
+    @Test
+    void 보관기간지난_구간을_PK범위단위로_삭제() {
+        // Given
+        when(userAlarmRepository.findMinId()).thenReturn(1L);
+        when(userAlarmRepository.findMaxIdCreatedBefore(CUTOFF)).thenReturn(250L);
+        when(userAlarmRepository.deleteRange(any(), any(), eq(CUTOFF))).thenReturn(100, 100, 50);
+
+        // When
+        long deleted = retentionService.purgeBefore(CUTOFF);
+
+        // Then
+        assertEquals(250, deleted);
+        verify(userAlarmRepository).deleteRange(1L, 101L, CUTOFF);
+        verify(userAlarmRepository).deleteRange(101L, 201L, CUTOFF);
+        verify(userAlarmRepository).deleteRange(201L, 251L, CUTOFF);
+    }
+
+    @Test
+    void 삭제대상없으면_삭제하지않음() {
+        // Given
+        when(userAlarmRepository.findMinId()).thenReturn(1L);
+        when(userAlarmRepository.findMaxIdCreatedBefore(CUTOFF)).thenReturn(null);
+
+        // When
+        long deleted = retentionService.purgeBefore(CUTOFF);
+
+        // Then
+        assertEquals(0, deleted);
+        verify(userAlarmRepository, never()).deleteRange(any(), any(), any());
+    }
+}
@@ -1,22 +1,28 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.auth.dto.CachedUser;
 import fintech2.easypay.auth.dto.LoginRequest;
 import fintech2.easypay.auth.dto.RegisterRequest;
+import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
-import fintech2.easypay.common.exception.AuthException;
+import fintech2.easypay.common.exception.RateLimitExceededException;
+import fintech2.easypay.common.exception.ServiceOverloadedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import jakarta.servlet.http.HttpServletRequest;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,24 +36,44 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UserCache userCache;
+
+    @Mock
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenRevocationCache tokenRevocationCache;
+
     @Mock
     private LoginHistoryService loginHistoryService;
 
     @Mock
-    private HttpServletRequest httpServletRequest;
+    private AuditLogService auditLogService;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private AuthService authService;
 
     private User testUser;
-    private String phoneNumber = "010-1234-5678";
-    private String password = "password123";
-    private String name = "홍길동";
+    private final String phoneNumber = "010-1234-5678";
+    private final String password = "password123";
+    private final String name = "홍길동";
+    private final String ipAddress = "10.0.0.1";
+    private final String userAgent = "Mozilla/5.0";
 
     @BeforeEach
     void setUp() {
@@ -64,170 +90,208 @@ class AuthServiceTest {
     }
 
     @Test
-    void 회원가입_성공() {
+    void 회원가입_성공_해시후_트랜잭션시작() {
         // Given
-        RegisterRequest request = new RegisterRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword(password);
-        request.setName(name);
-
-        when(userRepository.existsByPhoneNumber(phoneNumber)).thenReturn(false);
-        when(passwordEncoder.encode(password)).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtService.generateAccessToken(phoneNumber)).thenReturn("jwt-token");
+        RegisterRequest request = registerRequest(password);
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.empty());
+        when(passwordHashingService.encode(password)).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+        when(jwtService.generateAccessToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
         // When
         ResponseEntity<?> response = authService.register(request);
 
-        // Then
-        assertThat(response.getStatusCodeValue()).isEqualTo(201);
-        verify(userRepository).existsByPhoneNumber(phoneNumber);
-        verify(userRepository).save(any(User.class));
+        // Then - 해시 계산 동안 트랜잭션(DB 커넥션)을 잡지 않음
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        InOrder inOrder = inOrder(passwordHashingService, transactionManager, userRepository);
+        inOrder.verify(passwordHashingService).encode(password);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).save(any(User.class));
+        verify(accountBalanceRepository).save(any());
     }
 
     @Test
-    void 회원가입_중복전화번호() {
+    void 회원가입_중복전화번호_캐시로거절() {
         // Given
-        RegisterRequest request = new RegisterRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword(password);
-        request.setName(name);
-
-        when(userRepository.existsByPhoneNumber(phoneNumber)).thenReturn(true);
+        RegisterRequest request = registerRequest(password);
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(CachedUser.from(testUser)));
 
-        // When & Then
-        assertThatThrownBy(() -> authService.register(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("이미 등록된 전화번호입니다");
+        // When
+        ResponseEntity<?> response = authService.register(request);
 
-        verify(userRepository).existsByPhoneNumber(phoneNumber);
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody().toString()).contains("DUPLICATE_PHONE");
+        verifyNoInteractions(passwordHashingService, transactionManager);
     }
 
     @Test
     void 회원가입_비밀번호규칙위반() {
         // Given
-        RegisterRequest request = new RegisterRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword("123"); // 짧은 비밀번호
-        request.setName(name);
+        RegisterRequest request = registerRequest("123");
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.empty());
 
-        when(userRepository.existsByPhoneNumber(phoneNumber)).thenReturn(false);
-
-        // When & Then
-        assertThatThrownBy(() -> authService.register(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("비밀번호는 8자 이상이어야 합니다");
+        // When
+        ResponseEntity<?> response = authService.register(request);
 
-        verify(userRepository).existsByPhoneNumber(phoneNumber);
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody().toString()).contains("INVALID_PASSWORD");
+        verifyNoInteractions(passwordHashingService, transactionManager);
     }
 
     @Test
-    void 로그인_성공() {
+    void 로그인_성공_해시검증후_트랜잭션시작() {
         // Given
-        LoginRequest request = new LoginRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword(password);
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(CachedUser.from(testUser)));
+        when(passwordHashingService.matches(password, "encodedPassword")).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(jwtService.generateAccessToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(java.util.Optional.of(testUser));
-        when(passwordEncoder.matches(password, testUser.getPassword())).thenReturn(true);
-        when(jwtService.generateAccessToken(phoneNumber)).thenReturn("jwt-token");
-        when(httpServletRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        // When
+        ResponseEntity<?> response = authService.login(loginRequest(password), ipAddress, userAgent);
+
+        // Then - 시도 제한 → 해시 검증(트랜잭션 밖) → 트랜잭션 순서
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        InOrder inOrder = inOrder(loginAttemptLimiter, passwordHashingService, transactionManager);
+        inOrder.verify(loginAttemptLimiter).acquire(phoneNumber, ipAddress);
+        inOrder.verify(passwordHashingService).matches(password, "encodedPassword");
+        inOrder.verify(transactionManager).getTransaction(any());
+        verify(loginAttemptLimiter).reset(phoneNumber);
+        verify(loginHistoryService).recordLoginSuccess(phoneNumber, 1L, userAgent, ipAddress);
+        verify(userRepository, never()).findByPhoneNumber(any());
+    }
+
+    @Test
+    void 로그인_계정없음_캐시만으로_거절() {
+        // Given
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<?> response = authService.login(request);
+        ResponseEntity<?> response = authService.login(loginRequest(password), ipAddress, userAgent);
 
         // Then
-        assertThat(response.getStatusCodeValue()).isEqualTo(200);
-        verify(loginHistoryService).recordLoginSuccess(testUser, httpServletRequest);
-        verify(userRepository).save(testUser); // 로그인 성공 시 실패 카운트 리셋
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        verify(loginHistoryService).recordAccountNotFound(phoneNumber, userAgent, ipAddress);
+        verifyNoInteractions(passwordHashingService, transactionManager, userRepository);
     }
 
     @Test
-    void 로그인_계정없음() {
+    void 로그인_잠긴계정_해시검증없이_거절() {
         // Given
-        LoginRequest request = new LoginRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword(password);
-
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(java.util.Optional.empty());
-        when(httpServletRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        CachedUser locked = new CachedUser(1L, phoneNumber, "encodedPassword", "VA12345678",
+                true, LocalDateTime.now().plusMinutes(30), "로그인 5회 실패로 인한 계정 잠금");
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(locked));
 
-        // When & Then
-        assertThatThrownBy(() -> authService.login(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("계정을 찾을 수 없습니다");
+        // When
+        ResponseEntity<?> response = authService.login(loginRequest(password), ipAddress, userAgent);
 
-        verify(loginHistoryService).recordAccountNotFound(phoneNumber, httpServletRequest);
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(423);
+        verify(loginHistoryService).recordAccountLocked(phoneNumber, 1L, userAgent, ipAddress,
+                "로그인 5회 실패로 인한 계정 잠금");
+        verifyNoInteractions(passwordHashingService, transactionManager);
     }
 
     @Test
-    void 로그인_비밀번호불일치() {
+    void 로그인_비밀번호불일치_잠금기준미달이면_저장없음() {
         // Given
-        LoginRequest request = new LoginRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword("wrongPassword");
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(CachedUser.from(testUser)));
+        when(passwordHashingService.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+        when(loginAttemptLimiter.recordFailure(phoneNumber)).thenReturn(1);
+        when(loginAttemptLimiter.shouldLock(1)).thenReturn(false);
 
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(java.util.Optional.of(testUser));
-        when(passwordEncoder.matches("wrongPassword", testUser.getPassword())).thenReturn(false);
-        when(httpServletRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        // When
+        ResponseEntity<?> response = authService.login(loginRequest("wrongPassword"), ipAddress, userAgent);
+
+        // Then - 실패 횟수는 메모리에서만 세고 DB는 건드리지 않음
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        verify(loginHistoryService).recordLoginFailure(phoneNumber, 1L, userAgent, ipAddress,
+                "잘못된 비밀번호", 1, false);
+        verifyNoInteractions(transactionManager, userRepository);
+        verify(loginAttemptLimiter, never()).reset(any());
+    }
 
-        // When & Then
-        assertThatThrownBy(() -> authService.login(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("비밀번호가 일치하지 않습니다");
+    @Test
+    void 로그인_잠금기준도달시에만_잠금저장() {
+        // Given
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(CachedUser.from(testUser)));
+        when(passwordHashingService.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+        when(loginAttemptLimiter.recordFailure(phoneNumber)).thenReturn(5);
+        when(loginAttemptLimiter.shouldLock(5)).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        ResponseEntity<?> response = authService.login(loginRequest("wrongPassword"), ipAddress, userAgent);
 
-        verify(loginHistoryService).recordLoginFailure(eq(phoneNumber), eq(testUser.getId()),
-                anyString(), eq(httpServletRequest), eq(1), eq(false));
-        verify(userRepository).save(testUser); // 실패 카운트 증가
+        // Then - 잠금 전환 시 한 번만 저장/토큰 폐기/알림
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        verify(userRepository, times(1)).save(testUser);
+        assertThat(testUser.isLocked()).isTrue();
+        assertThat(testUser.getLoginFailCount()).isEqualTo(5);
+        verify(tokenRevocationCache).revokeAll(1L);
+        verify(alarmService).sendAccountLockAlert(eq(phoneNumber), eq("1"), anyString());
+        verify(loginHistoryService).recordLoginFailure(phoneNumber, 1L, userAgent, ipAddress,
+                "잘못된 비밀번호", 5, true);
+        verify(loginAttemptLimiter).reset(phoneNumber);
     }
 
     @Test
-    void 로그인_계정잠금() {
+    void 로그인_해시처리용량초과시_503예외전파() {
         // Given
-        testUser.setLocked(true);
-        testUser.setLockExpiresAt(LocalDateTime.now().plusMinutes(30));
+        when(userCache.findByPhoneNumber(phoneNumber)).thenReturn(Optional.of(CachedUser.from(testUser)));
+        when(passwordHashingService.matches(password, "encodedPassword"))
+                .thenThrow(new ServiceOverloadedException("비밀번호 처리 대기열 초과", 1));
+
+        // When & Then - 500으로 바꾸지 않고 그대로 전파
+        assertThatThrownBy(() -> authService.login(loginRequest(password), ipAddress, userAgent))
+                .isInstanceOf(ServiceOverloadedException.class);
+        verifyNoInteractions(transactionManager, loginHistoryService);
+        verify(auditLogService, never()).logError(any(), anyString(), anyString(), any(), anyString());
+    }
 
+    @Test
+    void 로그인_휴대폰번호없으면_시도제한전에_400() {
+        // Given
         LoginRequest request = new LoginRequest();
-        request.setPhoneNumber(phoneNumber);
         request.setPassword(password);
 
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(java.util.Optional.of(testUser));
-        when(httpServletRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
-
-        // When & Then
-        assertThatThrownBy(() -> authService.login(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("계정이 잠겨있습니다");
+        // When
+        ResponseEntity<?> response = authService.login(request, ipAddress, userAgent);
 
-        verify(loginHistoryService).recordAccountLocked(eq(phoneNumber), eq(testUser.getId()),
-                anyString(), eq(httpServletRequest));
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        verifyNoInteractions(loginAttemptLimiter, userCache, passwordHashingService);
     }
 
     @Test
-    void 로그인_5회실패시_계정잠금() {
+    void 로그인_시도제한초과시_조회없이_거절() {
         // Given
-        testUser.setLoginFailCount(4); // 4회 실패 상태
-
-        LoginRequest request = new LoginRequest();
-        request.setPhoneNumber(phoneNumber);
-        request.setPassword("wrongPassword");
-
-        when(userRepository.findByPhoneNumber(phoneNumber)).thenReturn(java.util.Optional.of(testUser));
-        when(passwordEncoder.matches("wrongPassword", testUser.getPassword())).thenReturn(false);
-        when(httpServletRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        doThrow(new RateLimitExceededException("IP별 로그인 시도 제한 초과", 30))
+                .when(loginAttemptLimiter).acquire(phoneNumber, ipAddress);
 
         // When & Then
-        assertThatThrownBy(() -> authService.login(request))
-                .isInstanceOf(AuthException.class)
-                .hasMessageContaining("비밀번호가 일치하지 않습니다");
+        assertThatThrownBy(() -> authService.login(loginRequest(password), ipAddress, userAgent))
+                .isInstanceOf(RateLimitExceededException.class);
+        verifyNoInteractions(userCache, passwordHashingService, transactionManager);
+    }
 
-        verify(userRepository).save(testUser);
-        assertThat(testUser.isLocked()).isTrue();
-        assertThat(testUser.getLoginFailCount()).isEqualTo(5);
+    private RegisterRequest registerRequest(String rawPassword) {
+        RegisterRequest request = new RegisterRequest();
+        request.setPhoneNumber(phoneNumber);
+        request.setPassword(rawPassword);
+        request.setName(name);
+        return request;
+    }
+
+    private LoginRequest loginRequest(String rawPassword) {
+        LoginRequest request = new LoginRequest();
+        request.setPhoneNumber(phoneNumber);
+        request.setPassword(rawPassword);
+        return request;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.auth.dto.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000L);
+
+    @Test
+    void 한번_파싱한_Claims로_검증() {
+        // Given
+        String token = jwtService.generateAccessToken("01012345678");
+
+        // When
+        Claims claims = jwtService.parseToken(token);
+
+        // Then
+        assertEquals("01012345678", claims.getSubject());
+        assertTrue(jwtService.isTokenValid(claims, UserPrincipal.builder().phoneNumber("01012345678").build()));
+        assertFalse(jwtService.isTokenValid(claims, UserPrincipal.builder().phoneNumber("01099999999").build()));
+    }
+
+    @Test
+    void 사용자정보를_담은_토큰은_DB조회없이_Principal_구성() {
+        // Given
+        UserPrincipal principal = UserPrincipal.builder().id(7L).phoneNumber("01012345678").accountNumber("VA12345678").build();
+
+        // When
+        UserPrincipal restored = jwtService.toPrincipal(jwtService.parseToken(jwtService.generateAccessToken(principal)));
+
+        // Then
+        assertEquals(principal, restored);
+        assertNull(jwtService.toPrincipal(jwtService.parseToken(jwtService.generateAccessToken("01012345678"))));
+    }
+
+    @Test
+    void 폐기시각_이전에_발급된_토큰만_거부() {
+        // Given
+        TokenRevocationCache cache = new TokenRevocationCache(true, 60_000L);
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5_000L);
+
+        // When
+        cache.revokeAll(7L);
+
+        // Then
+        assertTrue(cache.isRevoked(7L, issuedBefore));
+        assertFalse(cache.isRevoked(7L, new Date(System.currentTimeMillis() + 1_000L)));
+        assertFalse(cache.isRevoked(8L, issuedBefore));
+    }
+
+    @Test
+    void 변조되거나_만료된_토큰_거절() {
+        // Given
+        String token = jwtService.generateAccessToken("01012345678");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = jwtService.generateToken(Map.of(), "01012345678", -1_000L);
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtService.parseToken(tampered));
+        assertThrows(ExpiredJwtException.class, () -> jwtService.parseToken(expired));
+    }
+}
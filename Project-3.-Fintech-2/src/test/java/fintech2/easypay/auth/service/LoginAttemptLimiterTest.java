@@ -0,0 +1,93 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptLimiterTest {
+
+    private static final String PHONE = "010-1234-5678";
+    private static final String IP = "10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 휴대폰 번호 3회/분, IP 10회/분, 실패 3회/60초
+        limiter = new LoginAttemptLimiter(meterRegistry, 3, 3, 10, 10, 3, 60, 1000, clock::get);
+    }
+
+    @Test
+    void 휴대폰번호별_용량초과시_거절후_보충되면_허용() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(PHONE, IP);
+        }
+
+        // When & Then
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, () -> limiter.acquire(PHONE, IP));
+        assertEquals(20, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("key", "phone").counter().count());
+
+        // 20초 후 토큰 1개 보충
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertDoesNotThrow(() -> limiter.acquire(PHONE, IP));
+    }
+
+    @Test
+    void IP별_용량초과시_다른번호도_거절() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("010-0000-000" + i, IP);
+        }
+
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire("010-9999-9999", IP));
+        assertDoesNotThrow(() -> limiter.acquire("010-9999-9999", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void 휴대폰번호없으면_잘못된요청() {
+        // When & Then - 캐시 키로 null을 넘기지 않고 400으로 처리되는 예외
+        assertThrows(IllegalArgumentException.class, () -> limiter.acquire(null, IP));
+    }
+
+    @Test
+    void 윈도우안의_실패만_세어_잠금판단() {
+        // Given
+        assertEquals(1, limiter.recordFailure(PHONE));
+        assertEquals(2, limiter.recordFailure(PHONE));
+
+        // When - 윈도우(60초)가 지난 뒤 실패
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        int count = limiter.recordFailure(PHONE);
+
+        // Then
+        assertEquals(1, count);
+        assertFalse(limiter.shouldLock(count));
+        assertEquals(2, limiter.recordFailure(PHONE));
+        assertTrue(limiter.shouldLock(limiter.recordFailure(PHONE)));
+    }
+
+    @Test
+    void 성공시_실패기록_초기화() {
+        // Given
+        limiter.recordFailure(PHONE);
+        limiter.recordFailure(PHONE);
+
+        // When
+        limiter.reset(PHONE);
+
+        // Then
+        assertEquals(1, limiter.recordFailure(PHONE));
+    }
+}
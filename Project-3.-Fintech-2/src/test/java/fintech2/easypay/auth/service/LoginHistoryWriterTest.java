@@ -0,0 +1,83 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.auth.entity.LoginHistory;
+import fintech2.easypay.auth.repository.LoginHistoryRepository;
+import fintech2.easypay.common.LoginResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginHistoryWriterTest {
+
+    @Mock
+    private LoginHistoryRepository loginHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 종료시_남은이력을_배치로_기록() {
+        // Given - flusher를 시작하지 않아 큐에 쌓인 상태
+        List<Integer> batchSizes = new ArrayList<>();
+        when(loginHistoryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            return invocation.getArgument(0);
+        });
+        LoginHistoryWriter writer = newWriter(100, 2);
+        for (int i = 0; i < 5; i++) {
+            writer.offer(history(LoginResult.FAILED));
+        }
+
+        // When
+        writer.shutdown();
+
+        // Then
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(5.0, meterRegistry.get("login.history.events").tag("result", "written").functionCounter().count());
+    }
+
+    @Test
+    void 큐초과시_버리고_집계() {
+        // Given
+        LoginHistoryWriter writer = newWriter(1, 10);
+        writer.offer(history(LoginResult.SUCCESS));
+
+        // When
+        boolean accepted = writer.offer(history(LoginResult.FAILED));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(1.0, meterRegistry.get("login.history.queue").gauge().value());
+        assertEquals(1.0, meterRegistry.get("login.history.events").tag("result", "dropped").functionCounter().count());
+        verify(loginHistoryRepository, never()).saveAll(anyList());
+    }
+
+    private LoginHistoryWriter newWriter(int capacity, int batchSize) {
+        return new LoginHistoryWriter(loginHistoryRepository, transactionManager, meterRegistry,
+            capacity, batchSize, 60_000, 0);
+    }
+
+    private LoginHistory history(LoginResult result) {
+        return LoginHistory.builder()
+            .phoneNumber("010-1234-5678")
+            .userId(1L)
+            .result(result)
+            .loginAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+package fintech2.easypay.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncodersTest {
+
+    @Test
+    void 접두어없는_기존해시_검증후_재해시대상() {
+        // Given - 기존 방식으로 저장된 BCrypt 해시
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        PasswordEncoder encoder = PasswordEncoders.create(PasswordEncoders.BCRYPT, 4);
+
+        // When & Then
+        assertTrue(encoder.matches("password123", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void 비용이_낮은해시만_재해시대상() {
+        // Given
+        String weak = PasswordEncoders.create(PasswordEncoders.BCRYPT, 4).encode("password123");
+        PasswordEncoder encoder = PasswordEncoders.create(PasswordEncoders.BCRYPT, 5);
+        String current = encoder.encode("password123");
+
+        // When & Then
+        assertTrue(weak.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches("password123", weak));
+        assertTrue(encoder.upgradeEncoding(weak));
+        assertFalse(encoder.upgradeEncoding(current));
+    }
+
+    @Test
+    void 알고리즘변경후에도_기존해시_검증() {
+        // Given
+        String bcrypt = PasswordEncoders.create(PasswordEncoders.BCRYPT, 4).encode("password123");
+        PasswordEncoder pbkdf2 = PasswordEncoders.create(PasswordEncoders.PBKDF2, 4);
+
+        // When & Then
+        assertTrue(pbkdf2.matches("password123", bcrypt));
+        assertTrue(pbkdf2.upgradeEncoding(bcrypt));
+        assertTrue(pbkdf2.encode("password123").startsWith("{pbkdf2}"));
+    }
+
+    @Test
+    void 보정비용은_목표시간과_범위안에서_선택() {
+        // 비용 10에서 20ms -> 250ms 목표면 11(40), 12(80), 13(160)까지
+        assertEquals(13, PasswordEncoders.strengthFor(20_000_000L, 250, 10, 14));
+        // 느린 하드웨어는 최소 비용
+        assertEquals(10, PasswordEncoders.strengthFor(400_000_000L, 250, 10, 14));
+        // 빠른 하드웨어도 최대 비용까지만
+        assertEquals(14, PasswordEncoders.strengthFor(1_000_000L, 250, 10, 14));
+    }
+}
@@ -0,0 +1,100 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void 해시생성과_검증을_전용스레드에서_처리() {
+        // Given
+        service = new PasswordHashingService(new PlainEncoder(), meterRegistry, 1, 10, 1000);
+
+        // When
+        String encoded = service.encode("secret");
+
+        // Then
+        assertEquals("{plain}secret", encoded);
+        assertTrue(service.matches("secret", encoded));
+        assertFalse(service.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void 대기열초과시_즉시거절() throws InterruptedException {
+        // Given - 스레드 1개가 막혀 있고 대기열 1칸이 찬 상태
+        service = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 1, 5000);
+        CompletableFuture.runAsync(() -> service.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> service.encode("queued"));
+        waitForQueueDepth(1);
+
+        // When & Then
+        assertThrows(ServiceOverloadedException.class, () -> service.matches("third", "{plain}third"));
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    @Test
+    void 대기시간초과시_거절() {
+        // Given
+        service = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 10, 50);
+
+        // When & Then
+        ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class, () -> service.encode("slow"));
+        assertEquals(1, e.getRetryAfterSeconds());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (service.getQueueDepth() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, service.getQueueDepth());
+    }
+
+    private static class PlainEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PlainEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
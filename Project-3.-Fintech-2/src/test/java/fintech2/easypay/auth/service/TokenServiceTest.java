@@ -1,8 +1,10 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.entity.RefreshToken;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.RefreshTokenRepository;
+import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.common.exception.AuthException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,15 @@ class TokenServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationCache tokenRevocationCache;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private TokenService tokenService;
 
@@ -60,7 +71,7 @@ class TokenServiceTest {
     @Test
     void generateTokenPair_성공() {
         // Given
-        when(jwtService.generateAccessToken(testUser.getPhoneNumber())).thenReturn("access-token");
+        when(jwtService.generateAccessToken(any(UserPrincipal.class))).thenReturn("access-token");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
         // When
@@ -71,7 +82,7 @@ class TokenServiceTest {
         assertThat(result.getAccessToken()).isEqualTo("access-token");
         assertThat(result.getRefreshToken()).isNotNull();
         
-        verify(jwtService).generateAccessToken(testUser.getPhoneNumber());
+        verify(jwtService).generateAccessToken(UserPrincipal.from(testUser));
         verify(refreshTokenRepository).revokeAllByUserId(testUser.getId(), any(LocalDateTime.class));
         verify(refreshTokenRepository).save(any(RefreshToken.class));
     }
@@ -81,7 +92,8 @@ class TokenServiceTest {
         // Given
         String refreshTokenValue = "valid-refresh-token";
         when(refreshTokenRepository.findByToken(refreshTokenValue)).thenReturn(Optional.of(testRefreshToken));
-        when(jwtService.generateAccessToken(testRefreshToken.getPhoneNumber())).thenReturn("new-access-token");
+        when(userRepository.findById(testRefreshToken.getUserId())).thenReturn(Optional.of(testUser));
+        when(jwtService.generateAccessToken(UserPrincipal.from(testUser))).thenReturn("new-access-token");
 
         // When
         String result = tokenService.refreshAccessToken(refreshTokenValue);
@@ -89,7 +101,7 @@ class TokenServiceTest {
         // Then
         assertThat(result).isEqualTo("new-access-token");
         verify(refreshTokenRepository).findByToken(refreshTokenValue);
-        verify(jwtService).generateAccessToken(testRefreshToken.getPhoneNumber());
+        verify(jwtService).generateAccessToken(UserPrincipal.from(testUser));
     }
 
     @Test
@@ -147,5 +159,7 @@ class TokenServiceTest {
 
         // Then
         verify(refreshTokenRepository).revokeAllByUserId(userId, any(LocalDateTime.class));
+        verify(tokenRevocationCache).revokeAll(userId);
+        verify(userCache).invalidateUser(userId);
     }
 } 
\ No newline at end of file
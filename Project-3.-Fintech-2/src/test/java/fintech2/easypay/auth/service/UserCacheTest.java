@@ -0,0 +1,92 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.auth.dto.CachedUser;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.event.UserAuthStateChangedEvent;
+import fintech2.easypay.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    private static final String PHONE = "010-1234-5678";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, meterRegistry, 100, 300);
+    }
+
+    @Test
+    void 두번째_조회는_DB를_거치지_않음() {
+        // Given
+        when(userRepository.findByPhoneNumber(PHONE)).thenReturn(Optional.of(user(1L)));
+
+        // When
+        userCache.findByPhoneNumber(PHONE);
+        Optional<CachedUser> cached = userCache.findByPhoneNumber(PHONE);
+
+        // Then
+        assertEquals(1L, cached.orElseThrow().id());
+        verify(userRepository, times(1)).findByPhoneNumber(PHONE);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void 잠금_이벤트와_토큰폐기시_무효화() {
+        // Given
+        when(userRepository.findByPhoneNumber(PHONE)).thenReturn(Optional.of(user(1L)));
+        userCache.findByPhoneNumber(PHONE);
+
+        // When
+        userCache.onUserAuthStateChanged(new UserAuthStateChangedEvent(1L, PHONE));
+        userCache.findByPhoneNumber(PHONE);
+        userCache.invalidateUser(1L);
+        userCache.findByPhoneNumber(PHONE);
+
+        // Then
+        verify(userRepository, times(3)).findByPhoneNumber(PHONE);
+    }
+
+    @Test
+    void 없는_사용자도_캐시() {
+        // Given
+        when(userRepository.findByPhoneNumber(PHONE)).thenReturn(Optional.empty());
+
+        // When
+        userCache.findByPhoneNumber(PHONE);
+        boolean present = userCache.findByPhoneNumber(PHONE).isPresent();
+
+        // Then
+        assertFalse(present);
+        verify(userRepository, times(1)).findByPhoneNumber(PHONE);
+    }
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .phoneNumber(PHONE)
+                .password("encodedPassword")
+                .name("홍길동")
+                .accountNumber("VA12345678")
+                .loginFailCount(0)
+                .isLocked(false)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package fintech2.easypay.common.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncBatchWriterTest {
+
+    @Test
+    void 배치크기단위로_모아서_기록() throws InterruptedException {
+        // Given
+        RecordingWriter writer = new RecordingWriter(1000, 10, 1000);
+        writer.start();
+
+        // When
+        for (int i = 0; i < 30; i++) {
+            assertTrue(writer.offer(i));
+        }
+
+        // Then
+        assertTrue(writer.written.await(5, TimeUnit.SECONDS));
+        writer.shutdown();
+        assertEquals(30, writer.getWrittenCount());
+        for (List<Integer> batch : writer.batches) {
+            assertTrue(batch.size() <= 10);
+        }
+    }
+
+    @Test
+    void 큐초과시_오버플로우처리() {
+        // Given - flusher를 시작하지 않아 큐가 비워지지 않음
+        RecordingWriter writer = new RecordingWriter(2, 10, 100);
+
+        // When
+        writer.offer(1);
+        writer.offer(2);
+        boolean accepted = writer.offer(3);
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(List.of(3), writer.overflowed);
+        assertEquals(1, writer.getOverflowCount());
+    }
+
+    @Test
+    void 종료시_남은항목_모두기록() {
+        // Given
+        RecordingWriter writer = new RecordingWriter(100, 10, 60_000);
+        for (int i = 0; i < 25; i++) {
+            writer.offer(i);
+        }
+
+        // When
+        writer.shutdown();
+
+        // Then
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(25, writer.getWrittenCount());
+        List<Integer> all = new ArrayList<>();
+        writer.batches.forEach(all::addAll);
+        assertEquals(25, all.size());
+        assertEquals(0, all.get(0));
+    }
+
+    private static class RecordingWriter extends AsyncBatchWriter<Integer> {
+        private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        private final List<Integer> overflowed = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch written = new CountDownLatch(30);
+
+        RecordingWriter(int capacity, int batchSize, long flushIntervalMs) {
+            super("test", capacity, batchSize, flushIntervalMs, 0);
+        }
+
+        @Override
+        protected void writeBatch(List<Integer> batch) {
+            batches.add(new ArrayList<>(batch));
+            batch.forEach(item -> written.countDown());
+        }
+
+        @Override
+        protected void onOverflow(Integer item) {
+            overflowed.add(item);
+        }
+    }
+}
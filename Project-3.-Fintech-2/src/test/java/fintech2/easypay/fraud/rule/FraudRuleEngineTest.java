@@ -0,0 +1,105 @@
+package fintech2.easypay.fraud.rule;
+
+import fintech2.easypay.common.TransactionType;
+import fintech2.easypay.fraud.velocity.VelocityEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudRuleEngineTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    private final VelocityEngine velocityEngine = new VelocityEngine(1000);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 심각한_판정_우선() {
+        // Given
+        FraudRuleSet rules = FraudRuleSet.compile("""
+            # 주석
+            large: amount > 1000000 -> FLAG
+            huge-outgoing: amount > 100000000 and type in (WITHDRAWAL, TRANSFER) -> BLOCK
+            """);
+
+        // When & Then
+        assertEquals(FraudVerdict.BLOCK, rules.evaluate(features(200_000_000, TransactionType.TRANSFER)).verdict());
+        assertEquals("huge-outgoing", rules.evaluate(features(200_000_000, TransactionType.TRANSFER)).ruleName());
+        assertEquals(FraudVerdict.FLAG, rules.evaluate(features(200_000_000, TransactionType.DEPOSIT)).verdict());
+        assertSame(FraudDecision.ALLOW, rules.evaluate(features(1_000_000, TransactionType.TRANSFER)));
+    }
+
+    @Test
+    void 형식오류는_줄번호와_함께_거절() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            FraudRuleSet.compile("ok: amount > 1 -> FLAG\nbad: balance > 1 -> FLAG"));
+        assertTrue(exception.getMessage().contains("2번째 줄"));
+        assertThrows(IllegalArgumentException.class, () -> FraudRuleSet.compile("bad: hour in (1, 2) -> FLAG"));
+        assertThrows(IllegalArgumentException.class, () -> FraudRuleSet.compile("bad: amount > 1 -> ALLOW"));
+    }
+
+    @Test
+    void 속도특성은_이번거래_이전_집계() throws IOException {
+        // Given
+        FraudRuleEngine engine = engine("burst: count1m >= 2 and type == WITHDRAWAL -> BLOCK");
+        velocityEngine.record("VA1", 100, null, T0);
+
+        // When & Then
+        assertSame(FraudDecision.ALLOW, engine.evaluate("VA1", 100, TransactionType.WITHDRAWAL, T0 + 1_000));
+        velocityEngine.record("VA1", 100, null, T0 + 1_000);
+        assertTrue(engine.evaluate("VA1", 100, TransactionType.WITHDRAWAL, T0 + 2_000).blocked());
+        assertFalse(engine.evaluate("VA1", 100, TransactionType.DEPOSIT, T0 + 2_000).blocked());
+        assertFalse(engine.evaluate("VA2", 100, TransactionType.WITHDRAWAL, T0 + 2_000).blocked());
+    }
+
+    @Test
+    void 파일변경시_다시컴파일하고_오류면_기존규칙_유지() throws IOException {
+        // Given
+        FraudRuleEngine engine = engine("large: amount > 1000000 -> FLAG");
+        Path file = dir.resolve("fraud-rules.conf");
+
+        // When - 규칙 추가
+        write(file, "large: amount > 1000000 -> FLAG\nhuge: amount > 10000000 -> BLOCK", 1);
+        engine.reloadIfChanged();
+
+        // Then
+        assertEquals(2, engine.getRuleCount());
+
+        // When - 잘못된 규칙으로 변경
+        write(file, "broken rule", 2);
+        engine.reloadIfChanged();
+
+        // Then
+        assertEquals(2, engine.getRuleCount());
+    }
+
+    private FraudRuleEngine engine(String rules) throws IOException {
+        Path file = dir.resolve("fraud-rules.conf");
+        Files.writeString(file, rules);
+        FraudRuleEngine engine = new FraudRuleEngine(new DefaultResourceLoader(), velocityEngine, file.toUri().toString());
+        engine.init();
+        return engine;
+    }
+
+    private static void write(Path file, String rules, int minutes) throws IOException {
+        Files.writeString(file, rules);
+        // 파일 시스템의 수정 시각 해상도와 무관하게 변경으로 인식되도록 지정
+        Files.setLastModifiedTime(file, FileTime.fromMillis(T0 + minutes * 60_000L));
+    }
+
+    private static long[] features(long amountWon, TransactionType type) {
+        long[] features = new long[TransactionFeatures.SIZE];
+        features[TransactionFeatures.AMOUNT] = amountWon * 100;
+        features[TransactionFeatures.TYPE] = type.ordinal();
+        return features;
+    }
+}
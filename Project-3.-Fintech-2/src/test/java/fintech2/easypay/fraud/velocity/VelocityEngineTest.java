@@ -0,0 +1,98 @@
+package fintech2.easypay.fraud.velocity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VelocityEngineTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long SECOND = 1_000L;
+    private static final long MINUTE = 60 * SECOND;
+
+    private final VelocityEngine engine = new VelocityEngine(1000);
+
+    @Test
+    void 윈도우별_건수와_금액_집계() {
+        // Given
+        engine.record("VA1", 1_000, null, T0);
+        engine.record("VA1", 2_000, null, T0 + 30 * SECOND);
+
+        // When
+        VelocitySnapshot snapshot = engine.record("VA1", 4_000, null, T0 + 50 * SECOND);
+
+        // Then
+        assertEquals(3, snapshot.count1m());
+        assertEquals(7_000, snapshot.amount1m());
+        assertEquals(3, snapshot.count5m());
+        assertEquals(3, snapshot.count1h());
+    }
+
+    @Test
+    void 윈도우가_지나면_오래된거래_제외() {
+        // Given
+        engine.record("VA1", 1_000, null, T0);
+        engine.record("VA1", 1_000, null, T0 + 2 * MINUTE);
+
+        // When
+        VelocitySnapshot afterMinutes = engine.record("VA1", 1_000, null, T0 + 6 * MINUTE);
+        VelocitySnapshot afterHours = engine.record("VA1", 5_000, null, T0 + 3 * 60 * MINUTE);
+
+        // Then
+        assertEquals(1, afterMinutes.count1m());
+        assertEquals(2, afterMinutes.count5m());
+        assertEquals(3, afterMinutes.count1h());
+        assertEquals(1, afterHours.count1h());
+        assertEquals(5_000, afterHours.amount1h());
+    }
+
+    @Test
+    void 서로다른_거래상대_수() {
+        // Given
+        engine.record("VA1", 1_000, "VA2", T0);
+        engine.record("VA1", 1_000, "VA3", T0 + SECOND);
+
+        // When
+        VelocitySnapshot repeated = engine.record("VA1", 1_000, "VA2", T0 + 2 * SECOND);
+        VelocitySnapshot added = engine.record("VA1", 1_000, "VA4", T0 + 3 * SECOND);
+
+        // Then
+        assertFalse(repeated.newCounterparty());
+        assertEquals(2, repeated.distinctCounterparties1h());
+        assertTrue(added.newCounterparty());
+        assertEquals(3, added.distinctCounterparties1h());
+    }
+
+    @Test
+    void 유휴계좌_정리() {
+        // Given
+        engine.record("VA1", 1_000, null, T0);
+        engine.record("VA2", 1_000, null, T0 + 50 * MINUTE);
+
+        // When
+        engine.evictIdle(T0 + 70 * MINUTE);
+
+        // Then
+        assertEquals(1, engine.getAccountCount());
+    }
+
+    @Test
+    void 임계값을_처음_넘을때만_위반() {
+        // Given
+        VelocityRules rules = new VelocityRules(3, 0, 0, 0, 0);
+
+        // When
+        List<List<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(rules.evaluate(engine.record("VA1", 1_000, null, T0 + i * SECOND), 1_000));
+        }
+
+        // Then - 4번째 거래에서만 위반
+        assertTrue(results.get(2).isEmpty());
+        assertEquals(List.of("1분 내 4회 거래"), results.get(3));
+        assertTrue(results.get(4).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package fintech2.easypay.retention;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryPartitionTest {
+
+    @Test
+    void 월파티션_이름_변환() {
+        // Given
+        YearMonth month = YearMonth.of(2025, 1);
+
+        // When & Then
+        assertEquals("p202501", HistoryTable.partitionName(month));
+        assertEquals(month, HistoryTable.parsePartitionName("p202501"));
+        assertNull(HistoryTable.parsePartitionName("p_future"));
+        assertNull(HistoryTable.parsePartitionName("p202513"));
+    }
+
+    @Test
+    void 조회기간과_겹치는_월만_선택() {
+        // Given
+        List<YearMonth> months = List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2), YearMonth.of(2025, 3));
+
+        // When - 2월 1일 0시부터 3월 1일 0시 전까지
+        List<YearMonth> overlapping = PartitionRouter.monthsOverlapping(months,
+            LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // Then - 경계가 맞닿은 1월, 3월은 제외
+        assertEquals(List.of(YearMonth.of(2025, 2)), overlapping);
+    }
+
+    @Test
+    void MySQL_p_future_분할_DDL() {
+        // When
+        String sql = MySqlPartitionStore.reorganizeSql(HistoryTable.LOGIN_HISTORY,
+            List.of(YearMonth.of(2025, 11), YearMonth.of(2025, 12)));
+
+        // Then - 12월 파티션 상한은 다음 해 1월 1일
+        assertEquals("ALTER TABLE login_history REORGANIZE PARTITION p_future INTO ("
+            + "PARTITION p202511 VALUES LESS THAN ('2025-12-01 00:00:00'), "
+            + "PARTITION p202512 VALUES LESS THAN ('2026-01-01 00:00:00'), "
+            + "PARTITION p_future VALUES LESS THAN (MAXVALUE))", sql);
+    }
+
+    @Test
+    void H2_월테이블_이름() {
+        // When & Then
+        assertEquals("audit_logs_p202503",
+            H2TableRotationStore.rotatedTableName(HistoryTable.AUDIT_LOGS, YearMonth.of(2025, 3)));
+    }
+
+    @Test
+    void H2_JPA직접조회_테이블은_회전하지않고_본테이블만_조회() {
+        // Given - 목록/소스 계산은 DB를 쓰지 않음
+        H2TableRotationStore store = new H2TableRotationStore(null, null, 2);
+        List<YearMonth> months = List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2));
+
+        // When & Then
+        assertEquals(List.of("transaction_history"), store.sources(HistoryTable.TRANSACTION_HISTORY, months));
+        assertEquals(List.of("login_history_p202501", "login_history_p202502", "login_history"),
+            store.sources(HistoryTable.LOGIN_HISTORY, months));
+        assertFalse(HistoryTable.TRANSACTION_HISTORY.rotatable());
+    }
+}